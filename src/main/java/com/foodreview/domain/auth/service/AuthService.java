@@ -6,6 +6,8 @@ import com.foodreview.domain.badge.service.BadgeService;
 import com.foodreview.domain.user.dto.UserDto;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.UserRankingService;
+import com.foodreview.domain.user.service.UserSearchService;
 import com.foodreview.global.exception.CustomException;
 import com.foodreview.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
     private final BadgeService badgeService;
+    private final UserRankingService userRankingService;
+    private final UserSearchService userSearchService;
 
     @Transactional
     public UserDto.Response signUp(AuthDto.SignUpRequest request) {
@@ -46,8 +50,10 @@ public class AuthService {
 
         // 입문자 배지 지급 (0점 기준)
         badgeService.checkAndAwardScoreBadges(savedUser.getId(), savedUser.getTasteScore());
+        userRankingService.onUserRegistered(savedUser.getId(), savedUser.getRegion(), savedUser.getTasteScore());
+        userSearchService.onUserChanged(savedUser);
 
-        Integer rank = userRepository.findRankByRegionAndScore(savedUser.getRegion(), savedUser.getTasteScore());
+        Integer rank = userRankingService.getRank(savedUser.getRegion(), savedUser.getTasteScore());
         return UserDto.Response.from(savedUser, rank);
     }
 
@@ -6,6 +6,8 @@ import com.foodreview.domain.badge.service.BadgeService;
 import com.foodreview.domain.user.entity.AuthProvider;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.UserRankingService;
+import com.foodreview.domain.user.service.UserSearchService;
 import com.foodreview.global.exception.CustomException;
 import com.foodreview.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,8 @@ public class KakaoOAuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final BadgeService badgeService;
+    private final UserRankingService userRankingService;
+    private final UserSearchService userSearchService;
     private final WebClient webClient = WebClient.create();
 
     @Value("${oauth.kakao.client-id}")
@@ -139,6 +143,7 @@ public class KakaoOAuthService {
             if (existingUserByEmail.isPresent()) {
                 User existingUser = existingUserByEmail.get();
                 existingUser.linkKakaoAccount(kakaoId, name, avatar);
+                userSearchService.onUserChanged(existingUser);
                 return existingUser;
             }
         }
@@ -163,6 +168,8 @@ public class KakaoOAuthService {
 
         // 입문자 배지 지급 (0점 기준)
         badgeService.checkAndAwardScoreBadges(savedUser.getId(), savedUser.getTasteScore());
+        userRankingService.onUserRegistered(savedUser.getId(), savedUser.getRegion(), savedUser.getTasteScore());
+        userSearchService.onUserChanged(savedUser);
 
         return savedUser;
     }
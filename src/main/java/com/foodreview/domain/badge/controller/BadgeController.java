@@ -4,10 +4,13 @@ import com.foodreview.domain.badge.dto.BadgeDto;
 import com.foodreview.domain.badge.entity.BadgeCategory;
 import com.foodreview.domain.badge.service.BadgeService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.ConditionalResponse;
 import com.foodreview.global.security.CurrentUser;
 import com.foodreview.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,39 +21,48 @@ import java.util.List;
 public class BadgeController {
 
     private final BadgeService badgeService;
+    private final ConditionalResponse conditionalResponse;
 
     // 전체 배지 목록 조회 (획득 여부 포함)
     @GetMapping
     public ResponseEntity<ApiResponse<List<BadgeDto.Response>>> getAllBadges(
-            @CurrentUser CustomUserDetails userDetails) {
-        List<BadgeDto.Response> badges = badgeService.getAllBadges(userDetails.getUserId());
-        return ResponseEntity.ok(ApiResponse.success(badges));
+            @CurrentUser CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long userId = userDetails.getUserId();
+        return conditionalResponse.ok(ifNoneMatch, badgeService.getBadgesEtag(userId), true,
+                () -> badgeService.getAllBadges(userId));
     }
 
     // 카테고리별 배지 조회
     @GetMapping("/category/{category}")
     public ResponseEntity<ApiResponse<List<BadgeDto.Response>>> getBadgesByCategory(
             @CurrentUser CustomUserDetails userDetails,
-            @PathVariable String category) {
+            @PathVariable String category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         BadgeCategory badgeCategory = BadgeCategory.valueOf(category.toUpperCase());
-        List<BadgeDto.Response> badges = badgeService.getBadgesByCategory(userDetails.getUserId(), badgeCategory);
-        return ResponseEntity.ok(ApiResponse.success(badges));
+        Long userId = userDetails.getUserId();
+        return conditionalResponse.ok(ifNoneMatch, badgeService.getBadgesEtag(userId), true,
+                () -> badgeService.getBadgesByCategory(userId, badgeCategory));
     }
 
     // 내가 획득한 배지 목록
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<List<BadgeDto.Response>>> getMyBadges(
-            @CurrentUser CustomUserDetails userDetails) {
-        List<BadgeDto.Response> badges = badgeService.getAcquiredBadges(userDetails.getUserId());
-        return ResponseEntity.ok(ApiResponse.success(badges));
+            @CurrentUser CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long userId = userDetails.getUserId();
+        return conditionalResponse.ok(ifNoneMatch, badgeService.getBadgesEtag(userId), true,
+                () -> badgeService.getAcquiredBadges(userId));
     }
 
     // 특정 사용자의 표시 중인 배지
     @GetMapping("/user/{targetUserId}/displayed")
     public ResponseEntity<ApiResponse<List<BadgeDto.SimpleResponse>>> getDisplayedBadges(
-            @PathVariable Long targetUserId) {
-        List<BadgeDto.SimpleResponse> badges = badgeService.getDisplayedBadges(targetUserId);
-        return ResponseEntity.ok(ApiResponse.success(badges));
+            @PathVariable Long targetUserId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return conditionalResponse.ok(ifNoneMatch, badgeService.getBadgesEtag(targetUserId), userDetails != null,
+                () -> badgeService.getDisplayedBadges(targetUserId));
     }
 
     // 배지 표시 여부 토글
@@ -3,6 +3,7 @@ package com.foodreview.domain.badge.repository;
 import com.foodreview.domain.badge.entity.Badge;
 import com.foodreview.domain.badge.entity.BadgeCategory;
 import com.foodreview.domain.badge.entity.BadgeConditionType;
+import com.foodreview.global.common.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,4 +25,8 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
     // 조건을 만족하는 배지 조회 (조건값 이하인 모든 배지)
     @Query("SELECT b FROM Badge b WHERE b.conditionType = :conditionType AND b.conditionValue <= :value AND b.active = true ORDER BY b.conditionValue DESC")
     List<Badge> findEligibleBadges(@Param("conditionType") BadgeConditionType conditionType, @Param("value") Integer value);
+
+    // 배지 카탈로그 버전 (ETag 계산용)
+    @Query("SELECT new com.foodreview.global.common.EntityVersion(COUNT(b), MAX(b.updatedAt)) FROM Badge b")
+    EntityVersion findCatalogVersion();
 }
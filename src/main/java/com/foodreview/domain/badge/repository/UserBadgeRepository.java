@@ -1,6 +1,7 @@
 package com.foodreview.domain.badge.repository;
 
 import com.foodreview.domain.badge.entity.UserBadge;
+import com.foodreview.global.common.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,4 +37,9 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     // 배지별 획득자 수
     @Query("SELECT COUNT(ub) FROM UserBadge ub WHERE ub.badge.id = :badgeId")
     Long countByBadgeId(@Param("badgeId") Long badgeId);
+
+    // 사용자 보유 배지 버전 (ETag 계산용)
+    @Query("SELECT new com.foodreview.global.common.EntityVersion(COUNT(ub), MAX(ub.updatedAt)) " +
+           "FROM UserBadge ub WHERE ub.user.id = :userId")
+    EntityVersion findVersionByUserId(@Param("userId") Long userId);
 }
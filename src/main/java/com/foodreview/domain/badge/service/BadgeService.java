@@ -9,6 +9,7 @@ import com.foodreview.domain.badge.repository.BadgeRepository;
 import com.foodreview.domain.badge.repository.UserBadgeRepository;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.ConditionalResponse;
 import com.foodreview.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,13 @@ public class BadgeService {
     private final UserBadgeRepository userBadgeRepository;
     private final UserRepository userRepository;
 
+    // 배지 목록 응답 ETag (카탈로그 + 사용자 보유 배지의 개수/최종 수정 시각)
+    public String getBadgesEtag(Long userId) {
+        return ConditionalResponse.etag("badges", userId,
+                badgeRepository.findCatalogVersion(),
+                userBadgeRepository.findVersionByUserId(userId));
+    }
+
     // 전체 배지 목록 조회 (사용자의 획득 여부 포함)
     public List<BadgeDto.Response> getAllBadges(Long userId) {
         List<Badge> allBadges = badgeRepository.findByActiveOrderBySortOrderAsc(true);
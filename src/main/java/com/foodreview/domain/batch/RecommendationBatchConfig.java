@@ -4,10 +4,11 @@ import com.foodreview.domain.review.repository.ReviewRepository;
 import com.foodreview.domain.review.repository.SympathyRepository;
 import com.foodreview.domain.user.entity.RecommendationCache;
 import com.foodreview.domain.user.entity.User;
-import com.foodreview.domain.user.repository.FollowRepository;
 import com.foodreview.domain.user.repository.RecommendationCacheRepository;
 import com.foodreview.domain.user.repository.UserBlockRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.FollowGraph;
+import com.foodreview.domain.user.service.FollowGraphService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -34,7 +35,7 @@ public class RecommendationBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final FollowGraphService followGraphService;
     private final SympathyRepository sympathyRepository;
     private final ReviewRepository reviewRepository;
     private final UserBlockRepository userBlockRepository;
@@ -83,7 +84,7 @@ public class RecommendationBatchConfig {
     public ItemProcessor<User, List<RecommendationCache>> recommendationProcessor() {
         return user -> {
             Long userId = user.getId();
-            Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIdsByFollowerId(userId));
+            Set<Long> followingIds = new HashSet<>(followGraphService.getFollowingIds(userId));
             Set<Long> blockedIds = new HashSet<>(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
 
             // 자기 자신도 제외
@@ -92,16 +93,16 @@ public class RecommendationBatchConfig {
 
             Map<Long, RecommendationScoreData> scoreMap = new HashMap<>();
 
-            // 1. 2촌 관계 점수 계산
-            List<Object[]> secondDegreeData = followRepository.findSecondDegreeConnections(userId);
-            for (Object[] row : secondDegreeData) {
-                Long candidateId = (Long) row[0];
-                Long mutualCount = (Long) row[1];
+            // 1. 2촌 관계 점수 계산 (메모리 팔로우 그래프)
+            List<FollowGraph.Connection> secondDegreeData = followGraphService.getSecondDegreeConnections(userId);
+            for (FollowGraph.Connection connection : secondDegreeData) {
+                Long candidateId = connection.userId();
+                int mutualCount = connection.mutualCount();
                 if (followingIds.contains(candidateId) || blockedIds.contains(candidateId)) continue;
 
-                int score = Math.min((int) (mutualCount * SECOND_DEGREE_SCORE_PER_CONNECTION), SECOND_DEGREE_MAX_SCORE);
+                int score = Math.min(mutualCount * SECOND_DEGREE_SCORE_PER_CONNECTION, SECOND_DEGREE_MAX_SCORE);
                 scoreMap.computeIfAbsent(candidateId, k -> new RecommendationScoreData())
-                        .addSecondDegreeScore(score, mutualCount.intValue());
+                        .addSecondDegreeScore(score, mutualCount);
             }
 
             // 2. 공감 기반 점수 계산
@@ -241,11 +242,12 @@ public class RecommendationBatchConfig {
         String primaryReason = score.getPrimaryReason();
 
         if ("secondDegree".equals(primaryReason)) {
-            List<String> mutualNames = followRepository.findMutualFollowerNames(userId, candidateId);
+            // 공통 팔로우 수는 2촌 계산 결과를 쓰고 이름은 첫 번째 한 명만 조회
+            List<String> mutualNames = followGraphService.getMutualFollowerNames(userId, candidateId, 1);
             if (!mutualNames.isEmpty()) {
                 String firstName = mutualNames.get(0);
-                if (mutualNames.size() > 1) {
-                    return String.format("%s님 외 %d명이 팔로우 중", firstName, mutualNames.size() - 1);
+                if (score.getSecondDegreeCount() > 1) {
+                    return String.format("%s님 외 %d명이 팔로우 중", firstName, score.getSecondDegreeCount() - 1);
                 }
                 return String.format("%s님이 팔로우 중", firstName);
             }
@@ -10,11 +10,12 @@ import com.foodreview.domain.chat.repository.ChatRoomMemberRepository;
 import com.foodreview.domain.chat.repository.ChatRoomRepository;
 import com.foodreview.domain.chat.repository.MessageReadStatusRepository;
 import com.foodreview.domain.user.entity.User;
-import com.foodreview.domain.user.repository.UserBlockRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.BlockRelationCache;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.exception.CustomException;
 import com.foodreview.global.util.HtmlSanitizer;
+import com.foodreview.global.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -43,7 +44,7 @@ public class ChatService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final MessageReadStatusRepository messageReadStatusRepository;
     private final UserRepository userRepository;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockRelationCache blockRelationCache;
 
     // 채팅방 목록 조회 (배치 쿼리로 N+1 방지)
     @Transactional
@@ -60,11 +61,8 @@ public class ChatService {
         roomList.forEach(ChatRoom::ensureUuid);
 
         // 차단된 사용자 ID 목록 조회 (내가 차단한 + 나를 차단한)
-        Set<Long> blockedUserIds = new HashSet<>(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
-        Set<Long> blockedByUserIds = new HashSet<>(userBlockRepository.findBlockerIdsByBlockedUserId(userId));
-        Set<Long> allBlockedIds = new HashSet<>();
-        allBlockedIds.addAll(blockedUserIds);
-        allBlockedIds.addAll(blockedByUserIds);
+        Set<Long> allBlockedIds = new HashSet<>(blockRelationCache.getBlockedUserIds(userId).toSet());
+        allBlockedIds.addAll(blockRelationCache.getBlockerIds(userId).toSet());
 
         // 1:1 채팅방에서 차단된 관계 필터링
         List<ChatRoom> filteredRoomList = roomList.stream()
@@ -139,8 +137,7 @@ public class ChatService {
         }
 
         // 차단 관계 확인
-        if (userBlockRepository.existsByBlockerIdAndBlockedUserId(userId, otherUserId) ||
-            userBlockRepository.existsByBlockerIdAndBlockedUserId(otherUserId, userId)) {
+        if (blockRelationCache.isBlockedEitherWay(userId, otherUserId)) {
             throw new CustomException("차단된 사용자와는 채팅할 수 없습니다", HttpStatus.FORBIDDEN, "BLOCKED_USER");
         }
 
@@ -195,7 +192,7 @@ public class ChatService {
         validateChatRoomParticipant(room, userId);
 
         // 차단된 사용자 ID 목록 조회
-        Set<Long> blockedUserIds = new HashSet<>(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
+        LongHashSet blockedUserIds = blockRelationCache.getBlockedUserIds(userId);
 
         Page<ChatMessage> messages = chatMessageRepository.findByChatRoomOrderByCreatedAtAsc(room, pageable);
 
@@ -408,8 +405,7 @@ public class ChatService {
         if (room.getRoomType() == ChatRoom.RoomType.DIRECT) {
             Long otherUserId = room.getOtherUser(userId).getId();
             // 내가 상대를 차단했거나, 상대가 나를 차단한 경우
-            if (userBlockRepository.existsByBlockerIdAndBlockedUserId(userId, otherUserId) ||
-                userBlockRepository.existsByBlockerIdAndBlockedUserId(otherUserId, userId)) {
+            if (blockRelationCache.isBlockedEitherWay(userId, otherUserId)) {
                 throw new CustomException("차단된 사용자와는 채팅할 수 없습니다", HttpStatus.FORBIDDEN, "BLOCKED_USER");
             }
         }
@@ -0,0 +1,56 @@
+package com.foodreview.domain.feed.entity;
+
+import com.foodreview.domain.common.BaseTimeEntity;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로잉 피드 타임라인 (fan-out-on-write)
+ * - 리뷰 작성 시 작성자의 팔로워마다 한 행씩 미리 적재
+ * - 팔로잉 피드는 (user_id, review_created_at, review_id) 인덱스 범위 조회 한 번으로 처리
+ */
+@Entity
+@Table(name = "feed_timelines",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "review_id"})
+    },
+    indexes = {
+        @Index(name = "idx_feed_timeline_user_created", columnList = "user_id, review_created_at DESC, review_id DESC"),
+        @Index(name = "idx_feed_timeline_user_category_created", columnList = "user_id, category, review_created_at DESC, review_id DESC"),
+        @Index(name = "idx_feed_timeline_user_author", columnList = "user_id, author_id"),
+        @Index(name = "idx_feed_timeline_review", columnList = "review_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FeedTimeline extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 타임라인 소유자 (팔로워)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    // 리뷰 작성자 (언팔로우/차단 시 일괄 삭제용)
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    // 음식점 카테고리 (카테고리 필터용)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Restaurant.Category category;
+
+    // 리뷰 작성 시각 (정렬/커서 기준)
+    @Column(name = "review_created_at", nullable = false)
+    private LocalDateTime reviewCreatedAt;
+}
@@ -0,0 +1,135 @@
+package com.foodreview.domain.feed.repository;
+
+import com.foodreview.domain.feed.entity.FeedTimeline;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedTimelineRepository extends JpaRepository<FeedTimeline, Long> {
+
+    // 타임라인 소유자(:userId)에게 노출되는 리뷰 조건 (승인된 음식점 또는 본인이 등록한 음식점)
+    String VISIBLE_REVIEW = "AND (r.restaurantApprovalStatus IS NULL " +
+            "OR r.restaurantApprovalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED " +
+            "OR r.restaurant.id IN (SELECT rs.id FROM Restaurant rs WHERE rs.registeredBy.id = :userId)) ";
+
+    // 타임라인 커서 조회 (최신순)
+    // 미승인 음식점 리뷰는 조회 시점에 제외 (본인이 등록한 음식점은 노출) - 승인 상태가 바뀌어도 타임라인을 다시 쓰지 않도록
+    @Query("SELECT t FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId WHERE t.userId = :userId " +
+           VISIBLE_REVIEW +
+           "AND (t.reviewCreatedAt < :cursorCreatedAt OR (t.reviewCreatedAt = :cursorCreatedAt AND t.reviewId < :cursorId)) " +
+           "ORDER BY t.reviewCreatedAt DESC, t.reviewId DESC")
+    List<FeedTimeline> findByUserIdWithCursor(@Param("userId") Long userId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    // 타임라인 커서 조회 (카테고리 필터)
+    @Query("SELECT t FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId WHERE t.userId = :userId AND t.category = :category " +
+           VISIBLE_REVIEW +
+           "AND (t.reviewCreatedAt < :cursorCreatedAt OR (t.reviewCreatedAt = :cursorCreatedAt AND t.reviewId < :cursorId)) " +
+           "ORDER BY t.reviewCreatedAt DESC, t.reviewId DESC")
+    List<FeedTimeline> findByUserIdAndCategoryWithCursor(@Param("userId") Long userId,
+                                                         @Param("category") Restaurant.Category category,
+                                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
+
+    // 타임라인 페이지 조회 (기존 페이지 번호 API용)
+    @Query(value = "SELECT t.reviewId FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId WHERE t.userId = :userId " +
+                   VISIBLE_REVIEW +
+                   "ORDER BY t.reviewCreatedAt DESC, t.reviewId DESC",
+           countQuery = "SELECT COUNT(t) FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId WHERE t.userId = :userId " +
+                   VISIBLE_REVIEW)
+    Page<Long> findReviewIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT t.reviewId FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId " +
+                   "WHERE t.userId = :userId AND t.category = :category " +
+                   VISIBLE_REVIEW +
+                   "ORDER BY t.reviewCreatedAt DESC, t.reviewId DESC",
+           countQuery = "SELECT COUNT(t) FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId " +
+                   "WHERE t.userId = :userId AND t.category = :category " +
+                   VISIBLE_REVIEW)
+    Page<Long> findReviewIdsByUserIdAndCategory(@Param("userId") Long userId,
+                                                @Param("category") Restaurant.Category category,
+                                                Pageable pageable);
+
+    // 타임라인 리뷰 수 (셀럽 리뷰와 병합하는 페이지 번호 API의 전체 건수용)
+    @Query("SELECT COUNT(t) FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId WHERE t.userId = :userId " +
+           VISIBLE_REVIEW)
+    long countVisibleByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(t) FROM FeedTimeline t JOIN Review r ON r.id = t.reviewId " +
+           "WHERE t.userId = :userId AND t.category = :category " +
+           VISIBLE_REVIEW)
+    long countVisibleByUserIdAndCategory(@Param("userId") Long userId,
+                                         @Param("category") Restaurant.Category category);
+
+    // 리뷰 1건을 작성자의 모든 팔로워 타임라인에 적재 (INSERT ... SELECT 한 번)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO feed_timelines (user_id, review_id, author_id, category, review_created_at, created_at, updated_at) " +
+                   "SELECT f.follower_id, :reviewId, :authorId, :category, :reviewCreatedAt, NOW(6), NOW(6) " +
+                   "FROM follows f WHERE f.following_id = :authorId",
+           nativeQuery = true)
+    int fanOut(@Param("reviewId") Long reviewId,
+               @Param("authorId") Long authorId,
+               @Param("category") String category,
+               @Param("reviewCreatedAt") LocalDateTime reviewCreatedAt);
+
+    // 새로 팔로우한 작성자의 최근 리뷰를 타임라인에 채움
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO feed_timelines (user_id, review_id, author_id, category, review_created_at, created_at, updated_at) " +
+                   "SELECT :userId, r.id, r.user_id, rs.category, r.created_at, NOW(6), NOW(6) " +
+                   "FROM reviews r JOIN restaurants rs ON rs.id = r.restaurant_id " +
+                   "WHERE r.user_id = :authorId " +
+                   "ORDER BY r.created_at DESC, r.id DESC LIMIT :limit",
+           nativeQuery = true)
+    int backfillFromAuthor(@Param("userId") Long userId,
+                           @Param("authorId") Long authorId,
+                           @Param("limit") int limit);
+
+    // 사용자 타임라인 재구성 (팔로잉 중 일반 작성자의 최근 리뷰 limit건)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO feed_timelines (user_id, review_id, author_id, category, review_created_at, created_at, updated_at) " +
+                   "SELECT :userId, r.id, r.user_id, rs.category, r.created_at, NOW(6), NOW(6) " +
+                   "FROM follows f " +
+                   "JOIN reviews r ON r.user_id = f.following_id " +
+                   "JOIN restaurants rs ON rs.id = r.restaurant_id " +
+                   "WHERE f.follower_id = :userId AND f.following_id NOT IN (:excludedAuthorIds) " +
+                   "ORDER BY r.created_at DESC, r.id DESC LIMIT :limit",
+           nativeQuery = true)
+    int rebuildForUser(@Param("userId") Long userId,
+                       @Param("excludedAuthorIds") List<Long> excludedAuthorIds,
+                       @Param("limit") int limit);
+
+    // 팔로우 관계가 있는 사용자 ID (재구성 대상, ID 순 청크 조회)
+    @Query(value = "SELECT DISTINCT f.follower_id FROM follows f WHERE f.follower_id > :lastUserId " +
+                   "ORDER BY f.follower_id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findFollowerIdsAfter(@Param("lastUserId") Long lastUserId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM FeedTimeline t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 언팔로우/차단 시 해당 작성자의 리뷰 제거
+    @Modifying
+    @Query("DELETE FROM FeedTimeline t WHERE t.userId = :userId AND t.authorId = :authorId")
+    int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    // 리뷰 삭제 시 모든 타임라인에서 제거
+    @Modifying
+    @Query("DELETE FROM FeedTimeline t WHERE t.reviewId = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    // 회원 탈퇴 시 소유/작성 타임라인 제거
+    @Modifying
+    @Query("DELETE FROM FeedTimeline t WHERE t.userId = :userId OR t.authorId = :userId")
+    int deleteByUserIdOrAuthorId(@Param("userId") Long userId);
+}
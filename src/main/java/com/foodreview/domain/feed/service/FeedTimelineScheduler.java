@@ -0,0 +1,84 @@
+package com.foodreview.domain.feed.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 팔로잉 피드 타임라인 스케줄러
+ * - 셀럽 작성자 목록 주기 갱신
+ * - 매일 새벽 타임라인 전체 재구성 (셀럽 전환, 팔로우 변경 누락 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineScheduler {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final FeedTimelineService feedTimelineService;
+
+    /**
+     * 서버 시작 직후 및 10분마다 셀럽 작성자 목록 갱신
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void refreshCelebrityAuthors() {
+        try {
+            feedTimelineService.refreshCelebrityAuthors();
+        } catch (Exception e) {
+            log.error("Feed celebrity refresh failed", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 타임라인 재구성
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuildTimelines() {
+        log.info("Feed timeline rebuild started (scheduled)");
+        rebuildAll();
+    }
+
+    /**
+     * 서버 시작 후 2분 뒤 타임라인이 비어 있으면 초기 구성
+     */
+    @Scheduled(initialDelay = 120000, fixedDelay = Long.MAX_VALUE)
+    public void buildInitialTimelines() {
+        if (!feedTimelineService.isEmpty()) {
+            return;
+        }
+        log.info("Feed timeline rebuild started (initial run)");
+        rebuildAll();
+    }
+
+    private void rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        int rebuilt = 0;
+        int failed = 0;
+        Long lastUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = feedTimelineService.findTimelineOwnerIdsAfter(lastUserId, REBUILD_CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    feedTimelineService.rebuildTimeline(userId);
+                    rebuilt++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("Feed timeline rebuild failed: userId={}", userId, e);
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info("Feed timeline rebuild completed: rebuilt={}, failed={}, elapsed={}ms",
+                rebuilt, failed, System.currentTimeMillis() - startTime);
+    }
+}
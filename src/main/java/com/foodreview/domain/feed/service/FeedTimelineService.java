@@ -0,0 +1,235 @@
+package com.foodreview.domain.feed.service;
+
+import com.foodreview.domain.feed.entity.FeedTimeline;
+import com.foodreview.domain.feed.repository.FeedTimelineRepository;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.domain.review.repository.ReviewFeedCondition;
+import com.foodreview.domain.review.repository.ReviewRepository;
+import com.foodreview.domain.user.repository.FollowRepository;
+import com.foodreview.global.common.PageCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 피드 타임라인 서비스
+ *
+ * 일반 작성자의 리뷰는 작성 시점에 팔로워 타임라인으로 fan-out 하고,
+ * 팔로워가 많은 작성자(셀럽)의 리뷰는 fan-out 하지 않고 조회 시점에 병합한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedTimelineService {
+
+    private final FeedTimelineRepository feedTimelineRepository;
+    private final FollowRepository followRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 이 팔로워 수 이상이면 fan-out 대신 조회 시점 병합
+    @Value("${feed.celebrity-follower-threshold:5000}")
+    private long celebrityFollowerThreshold;
+
+    // 팔로우/재구성 시 사용자당 채우는 최대 리뷰 수
+    @Value("${feed.timeline-size:1000}")
+    private int timelineSize;
+
+    private volatile Set<Long> celebrityAuthorIds = Set.of();
+
+    /**
+     * 셀럽 작성자 목록 갱신 (스케줄러에서 주기적으로 호출)
+     */
+    public void refreshCelebrityAuthors() {
+        Set<Long> refreshed = Set.copyOf(followRepository.findUserIdsWithFollowerCountAtLeast(celebrityFollowerThreshold));
+        if (!refreshed.equals(celebrityAuthorIds)) {
+            log.info("Feed celebrity authors refreshed: {} -> {}", celebrityAuthorIds.size(), refreshed.size());
+        }
+        celebrityAuthorIds = refreshed;
+    }
+
+    public boolean isCelebrity(Long authorId) {
+        return celebrityAuthorIds.contains(authorId);
+    }
+
+    /**
+     * 리뷰 작성 시 팔로워 타임라인에 적재 (INSERT ... SELECT 1회)
+     */
+    @Transactional
+    public void fanOut(Review review) {
+        Long authorId = review.getUser().getId();
+        if (isCelebrity(authorId)) {
+            return;
+        }
+        int inserted = feedTimelineRepository.fanOut(
+                review.getId(), authorId, review.getRestaurant().getCategory().name(), review.getCreatedAt());
+        log.debug("Feed fan-out: reviewId={}, authorId={}, followers={}", review.getId(), authorId, inserted);
+    }
+
+    /**
+     * 팔로우 시 대상 작성자의 최근 리뷰를 타임라인에 채움
+     */
+    @Transactional
+    public void onFollow(Long followerId, Long followingId) {
+        if (isCelebrity(followingId)) {
+            return;
+        }
+        feedTimelineRepository.backfillFromAuthor(followerId, followingId, timelineSize);
+    }
+
+    /**
+     * 언팔로우/차단 시 대상 작성자의 리뷰를 타임라인에서 제거
+     */
+    @Transactional
+    public void onUnfollow(Long followerId, Long followingId) {
+        feedTimelineRepository.deleteByUserIdAndAuthorId(followerId, followingId);
+    }
+
+    @Transactional
+    public void removeReview(Long reviewId) {
+        feedTimelineRepository.deleteByReviewId(reviewId);
+    }
+
+    @Transactional
+    public void removeUser(Long userId) {
+        feedTimelineRepository.deleteByUserIdOrAuthorId(userId);
+    }
+
+    /**
+     * 사용자 타임라인 재구성 (셀럽 전환, 누락 보정용)
+     */
+    @Transactional
+    public void rebuildTimeline(Long userId) {
+        feedTimelineRepository.deleteByUserId(userId);
+        // NOT IN ()은 SQL 오류이므로 셀럽이 없으면 존재하지 않는 ID로 대체
+        List<Long> excludedAuthorIds = celebrityAuthorIds.isEmpty() ? List.of(-1L) : new ArrayList<>(celebrityAuthorIds);
+        feedTimelineRepository.rebuildForUser(userId, excludedAuthorIds, timelineSize);
+    }
+
+    // 재구성 대상 사용자 ID 청크 조회
+    public List<Long> findTimelineOwnerIdsAfter(Long lastUserId, int limit) {
+        return feedTimelineRepository.findFollowerIdsAfter(lastUserId, limit);
+    }
+
+    public boolean isEmpty() {
+        return feedTimelineRepository.count() == 0;
+    }
+
+    /**
+     * 사용자가 팔로우하는 셀럽 작성자 ID
+     */
+    public List<Long> getFollowedCelebrityIds(Long userId) {
+        Set<Long> celebrities = celebrityAuthorIds;
+        if (celebrities.isEmpty()) {
+            return List.of();
+        }
+        return followRepository.findFollowingIdsByFollowerIdAndFollowingIdIn(userId, celebrities);
+    }
+
+    /**
+     * 팔로잉 피드 커서 조회
+     * - 타임라인 범위 조회 limit건 + 팔로우 중인 셀럽 리뷰 limit건을 (createdAt, id) 순으로 병합
+     */
+    public List<Review> getFollowingFeed(Long userId, Restaurant.Category category, PageCursor cursor, int limit) {
+        Pageable fetchLimit = PageRequest.of(0, limit);
+        List<FeedTimeline> timeline = category != null
+                ? feedTimelineRepository.findByUserIdAndCategoryWithCursor(userId, category, cursor.getCreatedAt(), cursor.getId(), fetchLimit)
+                : feedTimelineRepository.findByUserIdWithCursor(userId, cursor.getCreatedAt(), cursor.getId(), fetchLimit);
+
+        List<Review> reviews = findReviewsInOrder(timeline.stream().map(FeedTimeline::getReviewId).toList());
+
+        List<Long> celebrityIds = getFollowedCelebrityIds(userId);
+        if (celebrityIds.isEmpty()) {
+            return reviews;
+        }
+
+        // 차단 시 팔로우가 해제되므로 제외 작성자는 없고, 미승인 음식점 조건만 타임라인 조회와 맞춤
+        List<Review> celebrityReviews = reviewRepository.findFeedByCursor(
+                ReviewFeedCondition.following(celebrityIds, category).visibleTo(List.of(), userId), cursor, limit);
+
+        // 셀럽 전환 직후에는 타임라인에도 같은 리뷰가 있을 수 있으므로 ID 기준 중복 제거
+        Set<Long> seen = new HashSet<>();
+        List<Review> merged = new ArrayList<>(reviews.size() + celebrityReviews.size());
+        merged.addAll(reviews);
+        merged.addAll(celebrityReviews);
+        return merged.stream()
+                .filter(review -> seen.add(review.getId()))
+                .sorted(Comparator.comparing(Review::getCreatedAt).thenComparing(Review::getId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 팔로잉 피드 페이지 조회 (기존 페이지 번호 API용)
+     * - 셀럽을 팔로우하지 않으면 타임라인 페이지 조회
+     * - 셀럽을 팔로우하면 타임라인 앞쪽 (offset + size)건과 셀럽 리뷰 앞쪽 (offset + size)건을 (createdAt, id) 순으로 병합해
+     *   해당 페이지 구간을 자름 (조회량이 페이지 깊이에 비례하므로 무한 스크롤은 커서 API 사용)
+     */
+    public Page<Review> getFollowingFeedPage(Long userId, Restaurant.Category category, Pageable pageable) {
+        List<Long> celebrityIds = getFollowedCelebrityIds(userId);
+        if (celebrityIds.isEmpty()) {
+            Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            Page<Long> reviewIds = category != null
+                    ? feedTimelineRepository.findReviewIdsByUserIdAndCategory(userId, category, unsorted)
+                    : feedTimelineRepository.findReviewIdsByUserId(userId, unsorted);
+            return new PageImpl<>(findReviewsInOrder(reviewIds.getContent()), pageable, reviewIds.getTotalElements());
+        }
+
+        int window = (int) pageable.getOffset() + pageable.getPageSize();
+        PageCursor latest = PageCursor.latest();
+        Pageable fetchWindow = PageRequest.of(0, window);
+        List<FeedTimeline> timeline = category != null
+                ? feedTimelineRepository.findByUserIdAndCategoryWithCursor(userId, category, latest.getCreatedAt(), latest.getId(), fetchWindow)
+                : feedTimelineRepository.findByUserIdWithCursor(userId, latest.getCreatedAt(), latest.getId(), fetchWindow);
+        long timelineTotal = category != null
+                ? feedTimelineRepository.countVisibleByUserIdAndCategory(userId, category)
+                : feedTimelineRepository.countVisibleByUserId(userId);
+        Page<Review> celebrityReviews = reviewRepository.findFeed(
+                ReviewFeedCondition.following(celebrityIds, category).visibleTo(List.of(), userId), fetchWindow);
+
+        // 셀럽 전환 직후에는 타임라인에도 같은 리뷰가 있을 수 있으므로 ID 기준 중복 제거
+        Map<Long, LocalDateTime> createdAtById = new LinkedHashMap<>();
+        timeline.forEach(entry -> createdAtById.put(entry.getReviewId(), entry.getReviewCreatedAt()));
+        celebrityReviews.getContent().forEach(review -> createdAtById.putIfAbsent(review.getId(), review.getCreatedAt()));
+        List<Long> pageIds = createdAtById.entrySet().stream()
+                .sorted(Map.Entry.<Long, LocalDateTime>comparingByValue()
+                        .thenComparing(Map.Entry.<Long, LocalDateTime>comparingByKey()).reversed())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return new PageImpl<>(findReviewsInOrder(pageIds), pageable, timelineTotal + celebrityReviews.getTotalElements());
+    }
+
+    // ID 순서를 유지하며 리뷰 배치 조회 (1개 쿼리)
+    private List<Review> findReviewsInOrder(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Review> reviewMap = reviewRepository.findAllWithUserAndRestaurantByIdIn(reviewIds).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        return reviewIds.stream()
+                .map(reviewMap::get)
+                .filter(review -> review != null)
+                .toList();
+    }
+}
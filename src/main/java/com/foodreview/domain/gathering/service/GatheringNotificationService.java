@@ -5,8 +5,9 @@ import com.foodreview.domain.notification.entity.Notification;
 import com.foodreview.domain.notification.service.NotificationService;
 import com.foodreview.domain.review.repository.ReviewRepository;
 import com.foodreview.domain.user.entity.User;
-import com.foodreview.domain.user.repository.UserBlockRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.BlockRelationCache;
+import com.foodreview.global.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -27,7 +28,7 @@ public class GatheringNotificationService {
     private final NotificationService notificationService;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
-    private final UserBlockRepository userBlockRepository;
+    private final BlockRelationCache blockRelationCache;
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("M월 d일 HH:mm");
 
@@ -45,8 +46,9 @@ public class GatheringNotificationService {
         String district = gathering.getRestaurant().getDistrict();
 
         // 호스트가 차단한 사용자 목록
-        List<Long> blockedByCreator = userBlockRepository.findBlockedUserIdsByBlockerId(creator.getId());
-        Set<Long> excludeUserIds = new HashSet<>(blockedByCreator);
+        Set<Long> excludeUserIds = new HashSet<>(blockRelationCache.getBlockedUserIds(creator.getId()).toSet());
+        // 호스트를 차단한 사용자 (수신자별 쿼리 대신 캐시된 집합으로 확인)
+        LongHashSet blockersOfCreator = blockRelationCache.getBlockerIds(creator.getId());
         excludeUserIds.add(creator.getId()); // 본인 제외
 
         // 1. GATHERING_REVIEWED: 해당 음식점에 리뷰 남긴 사용자
@@ -60,7 +62,7 @@ public class GatheringNotificationService {
             if (reviewer == null || reviewer.isDeleted() || !reviewer.getNotifyGatherings()) continue;
 
             // 리뷰어가 호스트를 차단했는지 확인
-            if (userBlockRepository.existsByBlockerIdAndBlockedUserId(reviewerId, creator.getId())) continue;
+            if (blockersOfCreator.contains(reviewerId)) continue;
 
             String message = String.format("%s에서 번개모임이 열려요!", restaurantName);
             notificationService.createNotification(
@@ -81,7 +83,7 @@ public class GatheringNotificationService {
             if (notifiedUserIds.contains(nearbyUser.getId())) continue; // 이미 GATHERING_REVIEWED로 알림 받음
 
             // 근처 사용자가 호스트를 차단했는지 확인
-            if (userBlockRepository.existsByBlockerIdAndBlockedUserId(nearbyUser.getId(), creator.getId())) continue;
+            if (blockersOfCreator.contains(nearbyUser.getId())) continue;
 
             String message = String.format("근처 %s에서 번개모임 모집 중!", restaurantName);
             notificationService.createNotification(
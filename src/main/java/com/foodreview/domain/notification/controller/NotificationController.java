@@ -3,6 +3,7 @@ package com.foodreview.domain.notification.controller;
 import com.foodreview.domain.notification.dto.NotificationDto;
 import com.foodreview.domain.notification.service.NotificationService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.CursorPageResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CurrentUser;
 import com.foodreview.global.security.CustomUserDetails;
@@ -30,6 +31,15 @@ public class NotificationController {
         return ApiResponse.success(notificationService.getNotifications(userDetails.getUserId(), pageable));
     }
 
+    @Operation(summary = "알림 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPageResponse<NotificationDto.Response>> getNotificationsByCursor(
+            @CurrentUser CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(notificationService.getNotificationsByCursor(userDetails.getUserId(), cursor, size));
+    }
+
     @Operation(summary = "읽지 않은 알림 수 조회")
     @GetMapping("/unread-count")
     public ApiResponse<NotificationDto.UnreadCountResponse> getUnreadCount(
@@ -9,10 +9,22 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Page<Notification> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    // 커서 기반 알림 목록 (최신순, actor fetch join)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.actor WHERE n.user = :user " +
+           "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByUserWithCursor(@Param("user") User user,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
     long countByUserAndIsReadFalse(User user);
 
     @Modifying
@@ -5,6 +5,8 @@ import com.foodreview.domain.notification.entity.Notification;
 import com.foodreview.domain.notification.repository.NotificationRepository;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.CursorPageResponse;
+import com.foodreview.global.common.PageCursor;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -138,6 +140,25 @@ public class NotificationService {
         return PageResponse.from(notifications, content);
     }
 
+    /**
+     * 알림 목록 커서 조회 (COUNT 쿼리 없음)
+     */
+    public CursorPageResponse<NotificationDto.Response> getNotificationsByCursor(Long userId, String cursor, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다", HttpStatus.NOT_FOUND, "USER_NOT_FOUND"));
+
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<Notification> notifications = notificationRepository.findByUserWithCursor(
+                user, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+
+        return CursorPageResponse.of(notifications, pageSize,
+                notification -> PageCursor.of(notification.getCreatedAt(), notification.getId()),
+                pageNotifications -> pageNotifications.stream()
+                        .map(NotificationDto.Response::from)
+                        .toList());
+    }
+
     /**
      * 읽지 않은 알림 수 조회
      */
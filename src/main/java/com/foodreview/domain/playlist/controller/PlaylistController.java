@@ -3,6 +3,7 @@ package com.foodreview.domain.playlist.controller;
 import com.foodreview.domain.playlist.dto.PlaylistDto;
 import com.foodreview.domain.playlist.service.PlaylistService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.ConditionalResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,6 +27,7 @@ import java.util.List;
 public class PlaylistController {
 
     private final PlaylistService playlistService;
+    private final ConditionalResponse conditionalResponse;
 
     @Operation(summary = "내 플레이리스트 목록 조회")
     @GetMapping
@@ -52,13 +55,16 @@ public class PlaylistController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "플레이리스트 상세 조회")
+    @Operation(summary = "플레이리스트 상세 조회", description = "ETag 지원 (If-None-Match 일치 시 304)")
     @GetMapping("/{playlistId}")
     public ResponseEntity<ApiResponse<PlaylistDto.DetailResponse>> getPlaylistDetail(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PathVariable Long playlistId) {
-        PlaylistDto.DetailResponse response = playlistService.getPlaylistDetail(userDetails.getUserId(), playlistId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+            @PathVariable Long playlistId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long userId = userDetails.getUserId();
+        String etag = playlistService.getPlaylistDetailEtag(userId, playlistId);
+        return conditionalResponse.ok(ifNoneMatch, etag, true,
+                () -> playlistService.getPlaylistDetail(userId, playlistId));
     }
 
     @Operation(summary = "플레이리스트 생성")
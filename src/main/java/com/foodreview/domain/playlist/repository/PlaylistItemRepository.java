@@ -34,4 +34,9 @@ public interface PlaylistItemRepository extends JpaRepository<PlaylistItem, Long
     @Modifying
     @Query("UPDATE PlaylistItem pi SET pi.position = pi.position - 1 WHERE pi.playlist = :playlist AND pi.position > :position")
     void decreasePositionAfter(@Param("playlist") Playlist playlist, @Param("position") int position);
+
+    // 상세 응답 버전 (항목 ID/순서/수정 시각 + 음식점 수정 시각, 순서 변경은 벌크 갱신이라 순서도 포함)
+    @Query("SELECT pi.id, pi.position, pi.updatedAt, r.updatedAt FROM PlaylistItem pi JOIN pi.restaurant r " +
+           "WHERE pi.playlist.id = :playlistId ORDER BY pi.position")
+    List<Object[]> findItemVersions(@Param("playlistId") Long playlistId);
 }
@@ -28,4 +28,9 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
     // 특정 음식점이 포함된 사용자의 플레이리스트 ID 목록
     @Query("SELECT p.id FROM Playlist p JOIN p.items i WHERE p.user = :user AND i.restaurant.id = :restaurantId")
     List<Long> findPlaylistIdsByUserAndRestaurantId(@Param("user") User user, @Param("restaurantId") Long restaurantId);
+
+    // 상세 응답 버전 (공개 여부, 소유자 ID, 플레이리스트/소유자 수정 시각, 소유자 점수)
+    @Query("SELECT p.isPublic, u.id, p.updatedAt, u.updatedAt, u.tasteScore FROM Playlist p JOIN p.user u " +
+           "WHERE p.id = :playlistId")
+    List<Object[]> findDetailVersion(@Param("playlistId") Long playlistId);
 }
@@ -9,6 +9,7 @@ import com.foodreview.domain.restaurant.entity.Restaurant;
 import com.foodreview.domain.restaurant.repository.RestaurantRepository;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.ConditionalResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -62,6 +65,26 @@ public class PlaylistService {
         return PageResponse.from(playlists, content);
     }
 
+    // 플레이리스트 상세 응답 ETag (엔티티를 읽지 않고 버전 컬럼만 조회, 접근 권한도 여기서 확인)
+    public String getPlaylistDetailEtag(Long userId, Long playlistId) {
+        Object[] version = playlistRepository.findDetailVersion(playlistId).stream()
+                .findFirst()
+                .orElseThrow(() -> new CustomException("플레이리스트를 찾을 수 없습니다", HttpStatus.NOT_FOUND, "PLAYLIST_NOT_FOUND"));
+
+        Boolean isPublic = (Boolean) version[0];
+        Long ownerId = (Long) version[1];
+
+        // 비공개 플레이리스트는 소유자만 접근 가능
+        if (!isPublic && !ownerId.equals(userId)) {
+            throw new CustomException("접근 권한이 없습니다", HttpStatus.FORBIDDEN, "FORBIDDEN");
+        }
+
+        String items = playlistItemRepository.findItemVersions(playlistId).stream()
+                .map(Arrays::toString)
+                .collect(Collectors.joining(","));
+        return ConditionalResponse.etag("playlist", playlistId, Arrays.toString(version), items);
+    }
+
     // 플레이리스트 상세 조회
     public PlaylistDto.DetailResponse getPlaylistDetail(Long userId, Long playlistId) {
         Playlist playlist = findPlaylistById(playlistId);
@@ -11,6 +11,7 @@ import com.foodreview.domain.recommendation.repository.AiRecommendationCacheRepo
 import com.foodreview.domain.recommendation.repository.UserTasteProfileRepository;
 import com.foodreview.domain.restaurant.entity.Restaurant;
 import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import com.foodreview.domain.restaurant.service.RestaurantGeoService;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,7 @@ public class RecommendationService {
     private final UserTasteProfileRepository tasteProfileRepository;
     private final AiRecommendationCacheRepository cacheRepository;
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantGeoService restaurantGeoService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final WebClient.Builder webClientBuilder;
@@ -48,6 +50,10 @@ public class RecommendationService {
     private static final String CLAUDE_MODEL = "claude-3-haiku-20240307";
     private static final int MAX_TOKENS = 500;
 
+    // 위치 기반 후보: 현재 위치 반경(m) / 조회 개수
+    private static final int NEARBY_CANDIDATE_RADIUS_METERS = 3000;
+    private static final int NEARBY_CANDIDATE_LIMIT = 100;
+
     /**
      * 오늘의 추천 조회 (캐시된 결과 우선)
      */
@@ -176,15 +182,25 @@ public class RecommendationService {
      */
     private List<Restaurant> getCandidateRestaurants(User user, UserTasteProfile profile,
                                                       ContextInfo context, Double latitude, Double longitude) {
-        // 사용자 지역 기반 음식점 조회
-        String region = user.getRegion();
-        String district = user.getDistrict();
+        List<Restaurant> restaurants = new ArrayList<>();
+
+        // 현재 위치가 있으면 근처 음식점 (가까운 순, 리뷰 1개 이상)
+        if (latitude != null && longitude != null) {
+            restaurantGeoService.findNearestRestaurants(latitude, longitude,
+                            NEARBY_CANDIDATE_RADIUS_METERS, NEARBY_CANDIDATE_LIMIT, null).stream()
+                    .filter(restaurant -> restaurant.getReviewCount() > 0)
+                    .forEach(restaurants::add);
+        }
 
-        List<Restaurant> restaurants;
-        if (district != null && !district.isEmpty()) {
-            restaurants = restaurantRepository.findByRegionAndDistrictWithReviews(region, district);
-        } else {
-            restaurants = restaurantRepository.findByRegionWithReviews(region);
+        // 위치가 없거나 근처에 후보가 없으면 사용자 지역 기반 음식점 조회
+        if (restaurants.isEmpty()) {
+            String region = user.getRegion();
+            String district = user.getDistrict();
+            if (district != null && !district.isEmpty()) {
+                restaurants = restaurantRepository.findByRegionAndDistrictWithReviews(region, district);
+            } else {
+                restaurants = restaurantRepository.findByRegionWithReviews(region);
+            }
         }
 
         // 선호 카테고리 기반 정렬
@@ -0,0 +1,36 @@
+package com.foodreview.domain.restaurant.controller;
+
+import com.foodreview.domain.restaurant.dto.RestaurantDto;
+import com.foodreview.domain.restaurant.service.RestaurantService;
+import com.foodreview.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Admin Restaurant", description = "음식점 관리 API (관리자)")
+@RestController
+@RequestMapping("/api/admin/restaurants")
+@RequiredArgsConstructor
+public class AdminRestaurantController {
+
+    private final RestaurantService restaurantService;
+
+    @Operation(summary = "음식점 승인", description = "수동 등록 음식점 승인 (리뷰 피드/지도 카운터/검색 색인에 함께 반영)")
+    @PatchMapping("/{restaurantId}/approve")
+    public ResponseEntity<ApiResponse<Void>> approveRestaurant(@PathVariable Long restaurantId) {
+        restaurantService.approveRestaurant(restaurantId);
+        return ResponseEntity.ok(ApiResponse.success(null, "음식점이 승인되었습니다"));
+    }
+
+    @Operation(summary = "음식점 거부", description = "수동 등록 음식점 거부 (리뷰 피드/지도 카운터/검색 색인에 함께 반영)")
+    @PatchMapping("/{restaurantId}/reject")
+    public ResponseEntity<ApiResponse<Void>> rejectRestaurant(
+            @PathVariable Long restaurantId,
+            @Valid @RequestBody RestaurantDto.RejectRequest request) {
+        restaurantService.rejectRestaurant(restaurantId, request.getReason());
+        return ResponseEntity.ok(ApiResponse.success(null, "음식점이 거부되었습니다"));
+    }
+}
@@ -5,6 +5,8 @@ import com.foodreview.domain.review.service.ReviewService;
 import com.foodreview.domain.restaurant.dto.RestaurantDto;
 import com.foodreview.domain.restaurant.service.RestaurantService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.ConditionalResponse;
+import com.foodreview.global.common.CursorPageResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -29,6 +32,7 @@ public class RestaurantController {
 
     private final RestaurantService restaurantService;
     private final ReviewService reviewService;
+    private final ConditionalResponse conditionalResponse;
 
     @Operation(summary = "음식점 목록 조회")
     @GetMapping
@@ -42,20 +46,59 @@ public class RestaurantController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "음식점 상세 조회 (ID)")
-    @GetMapping("/{restaurantId:\\d+}")
-    public ResponseEntity<ApiResponse<RestaurantDto.Response>> getRestaurant(@PathVariable Long restaurantId) {
-        RestaurantDto.Response response = restaurantService.getRestaurant(restaurantId);
+    @Operation(summary = "지금 뜨는 음식점 조회", description = "최근 리뷰/공감/댓글 활동 기준 (시간이 지날수록 감쇠)")
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<RestaurantDto.SimpleResponse>>> getTrendingRestaurants(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String district,
+            @RequestParam(defaultValue = "20") int size) {
+        List<RestaurantDto.SimpleResponse> response = restaurantService.getTrendingRestaurants(region, district, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "음식점 상세 조회 (UUID)")
-    @GetMapping("/uuid/{uuid}")
-    public ResponseEntity<ApiResponse<RestaurantDto.Response>> getRestaurantByUuid(@PathVariable String uuid) {
-        RestaurantDto.Response response = restaurantService.getRestaurantByUuid(uuid);
+    @Operation(summary = "음식점/지역명 자동완성", description = "접두사 일치, 초성 검색 지원 (예: ㄱㅊㅉㄱ). 리뷰 수/평점순")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<RestaurantDto.AutocompleteResponse>>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size) {
+        List<RestaurantDto.AutocompleteResponse> response = restaurantService.autocomplete(keyword, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "근처 음식점 조회", description = "기준 좌표에서 가까운 순 (radius: 미터, 최대 20km / size: 최대 100)")
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<RestaurantDto.NearbyResponse>>> getNearbyRestaurants(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "1000") int radius,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "20") int size) {
+        List<RestaurantDto.NearbyResponse> response = restaurantService.getNearbyRestaurants(latitude, longitude, radius, category, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "음식점 상세 조회 (ID)", description = "ETag 지원 (If-None-Match 일치 시 304)")
+    @GetMapping("/{restaurantId:\\d+}")
+    public ResponseEntity<ApiResponse<RestaurantDto.Response>> getRestaurant(
+            @PathVariable Long restaurantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String etag = restaurantService.getRestaurantEtag(restaurantId);
+        return conditionalResponse.ok(ifNoneMatch, etag, userDetails != null,
+                () -> restaurantService.getRestaurant(restaurantId));
+    }
+
+    @Operation(summary = "음식점 상세 조회 (UUID)", description = "ETag 지원 (If-None-Match 일치 시 304)")
+    @GetMapping("/uuid/{uuid}")
+    public ResponseEntity<ApiResponse<RestaurantDto.Response>> getRestaurantByUuid(
+            @PathVariable String uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String etag = restaurantService.getRestaurantEtagByUuid(uuid);
+        return conditionalResponse.ok(ifNoneMatch, etag, userDetails != null,
+                () -> restaurantService.getRestaurantByUuid(uuid));
+    }
+
     @Operation(summary = "음식점 리뷰 목록 조회 (ID)")
     @GetMapping("/{restaurantId:\\d+}/reviews")
     public ResponseEntity<ApiResponse<PageResponse<ReviewDto.Response>>> getRestaurantReviews(
@@ -67,6 +110,18 @@ public class RestaurantController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "음식점 리뷰 목록 커서 조회 (ID)", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/{restaurantId:\\d+}/reviews/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewDto.Response>>> getRestaurantReviewsByCursor(
+            @PathVariable Long restaurantId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = userDetails != null ? userDetails.getUserId() : null;
+        CursorPageResponse<ReviewDto.Response> response = reviewService.getRestaurantReviewsByCursor(restaurantId, currentUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "음식점 리뷰 목록 조회 (UUID)")
     @GetMapping("/uuid/{uuid}/reviews")
     public ResponseEntity<ApiResponse<PageResponse<ReviewDto.Response>>> getRestaurantReviewsByUuid(
@@ -78,6 +133,18 @@ public class RestaurantController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "음식점 리뷰 목록 커서 조회 (UUID)", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/uuid/{uuid}/reviews/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewDto.Response>>> getRestaurantReviewsByUuidAndCursor(
+            @PathVariable String uuid,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = userDetails != null ? userDetails.getUserId() : null;
+        CursorPageResponse<ReviewDto.Response> response = reviewService.getRestaurantReviewsByUuidAndCursor(uuid, currentUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "음식점 검색")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponse<RestaurantDto.SimpleResponse>>> searchRestaurants(
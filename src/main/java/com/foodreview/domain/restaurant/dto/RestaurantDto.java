@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public class RestaurantDto {
 
@@ -29,6 +30,8 @@ public class RestaurantDto {
         private BigDecimal averagePriceRating;
         private BigDecimal averageAtmosphereRating;
         private BigDecimal averageServiceRating;
+        // 별점 분포 (분포 차트용)
+        private RatingDistribution ratingDistribution;
         private Integer reviewCount;
         private String priceRange;
         private String phone;
@@ -60,6 +63,7 @@ public class RestaurantDto {
                     .averagePriceRating(restaurant.getAveragePriceRating())
                     .averageAtmosphereRating(restaurant.getAverageAtmosphereRating())
                     .averageServiceRating(restaurant.getAverageServiceRating())
+                    .ratingDistribution(RatingDistribution.from(restaurant))
                     .reviewCount(restaurant.getReviewCount())
                     .priceRange(restaurant.getPriceRange())
                     .phone(restaurant.getPhone())
@@ -76,6 +80,30 @@ public class RestaurantDto {
         }
     }
 
+    /**
+     * 별점 분포 (각 목록은 1점대부터 5점대까지의 리뷰 수)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RatingDistribution {
+        private List<Integer> overall;
+        private List<Integer> taste;
+        private List<Integer> price;
+        private List<Integer> atmosphere;
+        private List<Integer> service;
+
+        public static RatingDistribution from(Restaurant restaurant) {
+            return RatingDistribution.builder()
+                    .overall(restaurant.getRatingHistogram().toList())
+                    .taste(restaurant.getTasteHistogram().toList())
+                    .price(restaurant.getPriceHistogram().toList())
+                    .atmosphere(restaurant.getAtmosphereHistogram().toList())
+                    .service(restaurant.getServiceHistogram().toList())
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -111,6 +139,63 @@ public class RestaurantDto {
         }
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class NearbyResponse {
+        private Long id;
+        private String uuid;
+        private String name;
+        private String category;
+        private String categoryDisplay;
+        private String address;
+        private String thumbnail;
+        private BigDecimal averageRating;
+        private Integer reviewCount;
+        private Double latitude;
+        private Double longitude;
+        // 기준 좌표로부터 거리 (m)
+        private Integer distance;
+
+        public static NearbyResponse from(Restaurant restaurant, double distanceMeters) {
+            return NearbyResponse.builder()
+                    .id(restaurant.getId())
+                    .uuid(restaurant.getUuid())
+                    .name(restaurant.getName())
+                    .category(restaurant.getCategory().name())
+                    .categoryDisplay(restaurant.getCategory().getDisplayName())
+                    .address(restaurant.getAddress())
+                    .thumbnail(restaurant.getThumbnail())
+                    .averageRating(restaurant.getAverageRating())
+                    .reviewCount(restaurant.getReviewCount())
+                    .latitude(restaurant.getLatitude())
+                    .longitude(restaurant.getLongitude())
+                    .distance((int) Math.round(distanceMeters))
+                    .build();
+        }
+    }
+
+    /**
+     * 자동완성 항목 (type: RESTAURANT / PLACE, 지역 항목은 id·uuid·category 없음)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class AutocompleteResponse {
+        private String type;
+        private Long id;
+        private String uuid;
+        private String name;
+        private String category;
+        private String categoryDisplay;
+        private String region;
+        private String district;
+        private String neighborhood;
+        // 음식점: 리뷰 수 / 지역: 음식점 수
+        private Integer count;
+        private Double averageRating;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -144,4 +229,12 @@ public class RestaurantDto {
         private Boolean isManualRegistration;
         private String signboardImageUrl;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectRequest {
+        @NotBlank(message = "거부 사유는 필수입니다")
+        private String reason;
+    }
 }
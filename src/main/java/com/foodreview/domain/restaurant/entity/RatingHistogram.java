@@ -0,0 +1,92 @@
+package com.foodreview.domain.restaurant.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 별점 분포 (1~5점대별 리뷰 수 + 0.1점 단위 합계)
+ *
+ * 평균은 정수 합계/개수로 계산하므로 추가·삭제를 반복해도 반올림 오차가 누적되지 않는다.
+ * 4.5점처럼 소수 별점은 정수 부분 구간(4점대)에 집계한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingHistogram {
+
+    private int star1;
+    private int star2;
+    private int star3;
+    private int star4;
+    private int star5;
+
+    // 별점 합계 (0.1점 단위 정수)
+    private long sumTenths;
+
+    public static RatingHistogram empty() {
+        return new RatingHistogram();
+    }
+
+    void add(BigDecimal rating) {
+        apply(rating, 1);
+    }
+
+    void remove(BigDecimal rating) {
+        apply(rating, -1);
+    }
+
+    public int getCount() {
+        return star1 + star2 + star3 + star4 + star5;
+    }
+
+    /**
+     * 평균 별점 (소수 첫째 자리 반올림, 리뷰가 없으면 0)
+     */
+    public BigDecimal average() {
+        int count = getCount();
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        long averageTenths = (sumTenths * 2 + count) / (2L * count);
+        return BigDecimal.valueOf(averageTenths, 1);
+    }
+
+    // 1점대부터 5점대까지 순서대로
+    public List<Integer> toList() {
+        return List.of(star1, star2, star3, star4, star5);
+    }
+
+    private void apply(BigDecimal rating, int delta) {
+        if (rating == null) {
+            return;
+        }
+        int bucket = Math.max(1, Math.min(5, rating.intValue()));
+        // 삭제할 구간이 비어 있으면 합계도 건드리지 않음 (음수 방지)
+        if (delta < 0 && bucketCount(bucket) == 0) {
+            return;
+        }
+        switch (bucket) {
+            case 1 -> star1 += delta;
+            case 2 -> star2 += delta;
+            case 3 -> star3 += delta;
+            case 4 -> star4 += delta;
+            default -> star5 += delta;
+        }
+        sumTenths += delta * rating.movePointRight(1).longValue();
+    }
+
+    private int bucketCount(int bucket) {
+        return switch (bucket) {
+            case 1 -> star1;
+            case 2 -> star2;
+            case 3 -> star3;
+            case 4 -> star4;
+            default -> star5;
+        };
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -100,6 +101,68 @@ public class Restaurant extends BaseTimeEntity {
     @Builder.Default
     private Integer reviewCount = 0;
 
+    // 종합 별점 분포 (위 평균 별점/별점 개수는 분포에서 계산한 값을 정렬·조회용으로 함께 저장)
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "star1", column = @Column(name = "rating_star1", nullable = false)),
+            @AttributeOverride(name = "star2", column = @Column(name = "rating_star2", nullable = false)),
+            @AttributeOverride(name = "star3", column = @Column(name = "rating_star3", nullable = false)),
+            @AttributeOverride(name = "star4", column = @Column(name = "rating_star4", nullable = false)),
+            @AttributeOverride(name = "star5", column = @Column(name = "rating_star5", nullable = false)),
+            @AttributeOverride(name = "sumTenths", column = @Column(name = "rating_sum_tenths", nullable = false))
+    })
+    @Builder.Default
+    private RatingHistogram ratingHistogram = RatingHistogram.empty();
+
+    // 세부 별점 분포
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "star1", column = @Column(name = "taste_rating_star1", nullable = false)),
+            @AttributeOverride(name = "star2", column = @Column(name = "taste_rating_star2", nullable = false)),
+            @AttributeOverride(name = "star3", column = @Column(name = "taste_rating_star3", nullable = false)),
+            @AttributeOverride(name = "star4", column = @Column(name = "taste_rating_star4", nullable = false)),
+            @AttributeOverride(name = "star5", column = @Column(name = "taste_rating_star5", nullable = false)),
+            @AttributeOverride(name = "sumTenths", column = @Column(name = "taste_rating_sum_tenths", nullable = false))
+    })
+    @Builder.Default
+    private RatingHistogram tasteHistogram = RatingHistogram.empty();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "star1", column = @Column(name = "price_rating_star1", nullable = false)),
+            @AttributeOverride(name = "star2", column = @Column(name = "price_rating_star2", nullable = false)),
+            @AttributeOverride(name = "star3", column = @Column(name = "price_rating_star3", nullable = false)),
+            @AttributeOverride(name = "star4", column = @Column(name = "price_rating_star4", nullable = false)),
+            @AttributeOverride(name = "star5", column = @Column(name = "price_rating_star5", nullable = false)),
+            @AttributeOverride(name = "sumTenths", column = @Column(name = "price_rating_sum_tenths", nullable = false))
+    })
+    @Builder.Default
+    private RatingHistogram priceHistogram = RatingHistogram.empty();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "star1", column = @Column(name = "atmosphere_rating_star1", nullable = false)),
+            @AttributeOverride(name = "star2", column = @Column(name = "atmosphere_rating_star2", nullable = false)),
+            @AttributeOverride(name = "star3", column = @Column(name = "atmosphere_rating_star3", nullable = false)),
+            @AttributeOverride(name = "star4", column = @Column(name = "atmosphere_rating_star4", nullable = false)),
+            @AttributeOverride(name = "star5", column = @Column(name = "atmosphere_rating_star5", nullable = false)),
+            @AttributeOverride(name = "sumTenths", column = @Column(name = "atmosphere_rating_sum_tenths", nullable = false))
+    })
+    @Builder.Default
+    private RatingHistogram atmosphereHistogram = RatingHistogram.empty();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "star1", column = @Column(name = "service_rating_star1", nullable = false)),
+            @AttributeOverride(name = "star2", column = @Column(name = "service_rating_star2", nullable = false)),
+            @AttributeOverride(name = "star3", column = @Column(name = "service_rating_star3", nullable = false)),
+            @AttributeOverride(name = "star4", column = @Column(name = "service_rating_star4", nullable = false)),
+            @AttributeOverride(name = "star5", column = @Column(name = "service_rating_star5", nullable = false)),
+            @AttributeOverride(name = "sumTenths", column = @Column(name = "service_rating_sum_tenths", nullable = false))
+    })
+    @Builder.Default
+    private RatingHistogram serviceHistogram = RatingHistogram.empty();
+
     @Column(name = "price_range", length = 50)
     private String priceRange;
 
@@ -150,118 +213,60 @@ public class Restaurant extends BaseTimeEntity {
         this.rejectionReason = reason;
     }
 
-    // 리뷰 추가 시 평점 업데이트
-    public void addReview(BigDecimal newRating) {
-        BigDecimal totalRating = this.averageRating.multiply(BigDecimal.valueOf(this.reviewCount));
+    // 리뷰 추가 시 별점 분포/평균 반영 (읽고-수정하는 값이므로 호출 측에서 행 잠금 - findByIdForUpdate)
+    public void addReview(ReviewRatings ratings) {
         this.reviewCount++;
-        this.averageRating = totalRating.add(newRating)
-                .divide(BigDecimal.valueOf(this.reviewCount), 1, java.math.RoundingMode.HALF_UP);
+        applyRatings(ratings, true);
     }
 
-    // 리뷰 추가 시 세부 별점 업데이트
-    public void addDetailRatings(BigDecimal tasteRating, BigDecimal priceRating,
-                                  BigDecimal atmosphereRating, BigDecimal serviceRating) {
-        if (tasteRating != null) {
-            BigDecimal currentAvg = this.averageTasteRating != null ? this.averageTasteRating : BigDecimal.ZERO;
-            int currentCount = this.tasteRatingCount != null ? this.tasteRatingCount : 0;
-            BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(currentCount));
-            this.tasteRatingCount = currentCount + 1;
-            this.averageTasteRating = total.add(tasteRating)
-                    .divide(BigDecimal.valueOf(this.tasteRatingCount), 1, java.math.RoundingMode.HALF_UP);
-        }
-        if (priceRating != null) {
-            BigDecimal currentAvg = this.averagePriceRating != null ? this.averagePriceRating : BigDecimal.ZERO;
-            int currentCount = this.priceRatingCount != null ? this.priceRatingCount : 0;
-            BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(currentCount));
-            this.priceRatingCount = currentCount + 1;
-            this.averagePriceRating = total.add(priceRating)
-                    .divide(BigDecimal.valueOf(this.priceRatingCount), 1, java.math.RoundingMode.HALF_UP);
-        }
-        if (atmosphereRating != null) {
-            BigDecimal currentAvg = this.averageAtmosphereRating != null ? this.averageAtmosphereRating : BigDecimal.ZERO;
-            int currentCount = this.atmosphereRatingCount != null ? this.atmosphereRatingCount : 0;
-            BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(currentCount));
-            this.atmosphereRatingCount = currentCount + 1;
-            this.averageAtmosphereRating = total.add(atmosphereRating)
-                    .divide(BigDecimal.valueOf(this.atmosphereRatingCount), 1, java.math.RoundingMode.HALF_UP);
-        }
-        if (serviceRating != null) {
-            BigDecimal currentAvg = this.averageServiceRating != null ? this.averageServiceRating : BigDecimal.ZERO;
-            int currentCount = this.serviceRatingCount != null ? this.serviceRatingCount : 0;
-            BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(currentCount));
-            this.serviceRatingCount = currentCount + 1;
-            this.averageServiceRating = total.add(serviceRating)
-                    .divide(BigDecimal.valueOf(this.serviceRatingCount), 1, java.math.RoundingMode.HALF_UP);
+    // 리뷰 삭제 시 별점 분포/평균 반영
+    public void removeReview(ReviewRatings ratings) {
+        if (this.reviewCount > 0) {
+            this.reviewCount--;
         }
+        applyRatings(ratings, false);
     }
 
-    // 리뷰 삭제 시 평점 업데이트
-    public void removeReview(BigDecimal removedRating) {
-        if (this.reviewCount <= 1) {
-            this.averageRating = BigDecimal.ZERO;
-            this.reviewCount = 0;
-        } else {
-            BigDecimal totalRating = this.averageRating.multiply(BigDecimal.valueOf(this.reviewCount));
-            this.reviewCount--;
-            this.averageRating = totalRating.subtract(removedRating)
-                    .divide(BigDecimal.valueOf(this.reviewCount), 1, java.math.RoundingMode.HALF_UP);
-        }
+    // 리뷰 수정 시 별점 변경 반영 (리뷰 수 유지)
+    public void changeRatings(ReviewRatings before, ReviewRatings after) {
+        applyRatings(before, false);
+        applyRatings(after, true);
     }
 
-    // 리뷰 삭제 시 세부 별점 업데이트
-    public void removeDetailRatings(BigDecimal tasteRating, BigDecimal priceRating,
-                                     BigDecimal atmosphereRating, BigDecimal serviceRating) {
-        int tasteCount = this.tasteRatingCount != null ? this.tasteRatingCount : 0;
-        if (tasteRating != null && tasteCount > 0) {
-            if (tasteCount <= 1) {
-                this.averageTasteRating = BigDecimal.ZERO;
-                this.tasteRatingCount = 0;
-            } else {
-                BigDecimal currentAvg = this.averageTasteRating != null ? this.averageTasteRating : BigDecimal.ZERO;
-                BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(tasteCount));
-                this.tasteRatingCount = tasteCount - 1;
-                this.averageTasteRating = total.subtract(tasteRating)
-                        .divide(BigDecimal.valueOf(this.tasteRatingCount), 1, java.math.RoundingMode.HALF_UP);
-            }
-        }
-        int priceCount = this.priceRatingCount != null ? this.priceRatingCount : 0;
-        if (priceRating != null && priceCount > 0) {
-            if (priceCount <= 1) {
-                this.averagePriceRating = BigDecimal.ZERO;
-                this.priceRatingCount = 0;
-            } else {
-                BigDecimal currentAvg = this.averagePriceRating != null ? this.averagePriceRating : BigDecimal.ZERO;
-                BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(priceCount));
-                this.priceRatingCount = priceCount - 1;
-                this.averagePriceRating = total.subtract(priceRating)
-                        .divide(BigDecimal.valueOf(this.priceRatingCount), 1, java.math.RoundingMode.HALF_UP);
-            }
-        }
-        int atmosphereCount = this.atmosphereRatingCount != null ? this.atmosphereRatingCount : 0;
-        if (atmosphereRating != null && atmosphereCount > 0) {
-            if (atmosphereCount <= 1) {
-                this.averageAtmosphereRating = BigDecimal.ZERO;
-                this.atmosphereRatingCount = 0;
-            } else {
-                BigDecimal currentAvg = this.averageAtmosphereRating != null ? this.averageAtmosphereRating : BigDecimal.ZERO;
-                BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(atmosphereCount));
-                this.atmosphereRatingCount = atmosphereCount - 1;
-                this.averageAtmosphereRating = total.subtract(atmosphereRating)
-                        .divide(BigDecimal.valueOf(this.atmosphereRatingCount), 1, java.math.RoundingMode.HALF_UP);
-            }
-        }
-        int serviceCount = this.serviceRatingCount != null ? this.serviceRatingCount : 0;
-        if (serviceRating != null && serviceCount > 0) {
-            if (serviceCount <= 1) {
-                this.averageServiceRating = BigDecimal.ZERO;
-                this.serviceRatingCount = 0;
-            } else {
-                BigDecimal currentAvg = this.averageServiceRating != null ? this.averageServiceRating : BigDecimal.ZERO;
-                BigDecimal total = currentAvg.multiply(BigDecimal.valueOf(serviceCount));
-                this.serviceRatingCount = serviceCount - 1;
-                this.averageServiceRating = total.subtract(serviceRating)
-                        .divide(BigDecimal.valueOf(this.serviceRatingCount), 1, java.math.RoundingMode.HALF_UP);
-            }
+    // 리뷰 테이블 기준으로 별점 분포 재구성 (분포 컬럼 추가 이전 데이터 초기화용)
+    public void rebuildRatings(List<ReviewRatings> reviews) {
+        this.ratingHistogram = RatingHistogram.empty();
+        this.tasteHistogram = RatingHistogram.empty();
+        this.priceHistogram = RatingHistogram.empty();
+        this.atmosphereHistogram = RatingHistogram.empty();
+        this.serviceHistogram = RatingHistogram.empty();
+        this.reviewCount = reviews.size();
+        reviews.forEach(ratings -> applyRatings(ratings, true));
+    }
+
+    private void applyRatings(ReviewRatings ratings, boolean add) {
+        apply(this.ratingHistogram, ratings.rating(), add);
+        apply(this.tasteHistogram, ratings.tasteRating(), add);
+        apply(this.priceHistogram, ratings.priceRating(), add);
+        apply(this.atmosphereHistogram, ratings.atmosphereRating(), add);
+        apply(this.serviceHistogram, ratings.serviceRating(), add);
+
+        this.averageRating = this.ratingHistogram.average();
+        this.averageTasteRating = this.tasteHistogram.average();
+        this.averagePriceRating = this.priceHistogram.average();
+        this.averageAtmosphereRating = this.atmosphereHistogram.average();
+        this.averageServiceRating = this.serviceHistogram.average();
+        this.tasteRatingCount = this.tasteHistogram.getCount();
+        this.priceRatingCount = this.priceHistogram.getCount();
+        this.atmosphereRatingCount = this.atmosphereHistogram.getCount();
+        this.serviceRatingCount = this.serviceHistogram.getCount();
+    }
+
+    private static void apply(RatingHistogram histogram, BigDecimal rating, boolean add) {
+        if (add) {
+            histogram.add(rating);
+        } else {
+            histogram.remove(rating);
         }
     }
 
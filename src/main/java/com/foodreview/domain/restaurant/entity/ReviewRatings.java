@@ -0,0 +1,9 @@
+package com.foodreview.domain.restaurant.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * 리뷰 한 건의 별점 묶음 (세부 별점은 null 가능)
+ */
+public record ReviewRatings(BigDecimal rating, BigDecimal tasteRating, BigDecimal priceRating,
+                            BigDecimal atmosphereRating, BigDecimal serviceRating) {}
@@ -4,10 +4,13 @@ import com.foodreview.domain.restaurant.entity.Restaurant;
 import com.foodreview.domain.restaurant.entity.Restaurant.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,24 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // UUID로 조회
     Optional<Restaurant> findByUuid(String uuid);
 
+    // 리뷰 작성/수정/삭제 시 별점 분포/리뷰 수 갱신용 (행 잠금 - 동시 리뷰의 갱신 유실 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Restaurant r WHERE r.id = :id")
+    Optional<Restaurant> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MIN(r.id), 0) FROM Restaurant r")
+    Long findMinId();
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM Restaurant r")
+    Long findMaxId();
+
+    // 조건부 조회용 수정 시각 (엔티티 로딩 없이 ETag 계산)
+    @Query("SELECT COALESCE(r.updatedAt, r.createdAt) FROM Restaurant r WHERE r.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(r.updatedAt, r.createdAt) FROM Restaurant r WHERE r.uuid = :uuid")
+    Optional<LocalDateTime> findUpdatedAtByUuid(@Param("uuid") String uuid);
+
     // 카카오 Place ID로 조회
     Optional<Restaurant> findByKakaoPlaceId(String kakaoPlaceId);
 
@@ -40,9 +61,11 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // 지역 + 카테고리 필터 (동 단위)
     Page<Restaurant> findByRegionAndDistrictAndNeighborhoodAndCategory(String region, String district, String neighborhood, Category category, Pageable pageable);
 
-    // 검색 (이름, 주소 포함)
+    // 검색 (이름, 주소 포함) - 검색 색인 준비 전 대체 조회 (색인과 같이 노출 중인 음식점만)
     @Query("SELECT r FROM Restaurant r WHERE " +
-           "r.name LIKE %:keyword% OR r.address LIKE %:keyword%")
+           "(r.name LIKE %:keyword% OR r.address LIKE %:keyword%) " +
+           "AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED)")
     Page<Restaurant> search(@Param("keyword") String keyword, Pageable pageable);
 
     // 검색 + 지역 필터 (동적 쿼리)
@@ -50,7 +73,9 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
            "(r.name LIKE %:keyword% OR r.address LIKE %:keyword%) " +
            "AND r.region = :region " +
            "AND (:district IS NULL OR r.district = :district) " +
-           "AND (:neighborhood IS NULL OR r.neighborhood = :neighborhood)")
+           "AND (:neighborhood IS NULL OR r.neighborhood = :neighborhood) " +
+           "AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED)")
     Page<Restaurant> searchByLocation(
             @Param("keyword") String keyword,
             @Param("region") String region,
@@ -61,7 +86,9 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // 검색 + 카테고리 필터
     @Query("SELECT r FROM Restaurant r WHERE " +
            "(r.name LIKE %:keyword% OR r.address LIKE %:keyword%) " +
-           "AND r.category = :category")
+           "AND r.category = :category " +
+           "AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED)")
     Page<Restaurant> searchByCategory(@Param("keyword") String keyword, @Param("category") Category category, Pageable pageable);
 
     // 검색 + 지역 + 카테고리 필터 (동적 쿼리)
@@ -70,7 +97,9 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
            "AND r.region = :region " +
            "AND (:district IS NULL OR r.district = :district) " +
            "AND (:neighborhood IS NULL OR r.neighborhood = :neighborhood) " +
-           "AND r.category = :category")
+           "AND r.category = :category " +
+           "AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED)")
     Page<Restaurant> searchByLocationAndCategory(
             @Param("keyword") String keyword,
             @Param("region") String region,
@@ -92,4 +121,32 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // AI 추천용: 지역+구 음식점 (리뷰 1개 이상, 평점순)
     @Query("SELECT r FROM Restaurant r WHERE r.region = :region AND r.district = :district AND r.reviewCount > 0 ORDER BY r.averageRating DESC")
     List<Restaurant> findByRegionAndDistrictWithReviews(@Param("region") String region, @Param("district") String district);
+
+    // 별점 분포 합계가 리뷰 수와 다른 음식점 (분포 컬럼 추가 이전 데이터)
+    @Query("SELECT r.id FROM Restaurant r WHERE r.reviewCount <> " +
+           "r.ratingHistogram.star1 + r.ratingHistogram.star2 + r.ratingHistogram.star3 + " +
+           "r.ratingHistogram.star4 + r.ratingHistogram.star5")
+    List<Long> findIdsWithStaleRatingHistogram();
+
+    // 검색 색인 적재용 (노출 중인 음식점, ID 순 청크)
+    @Query("SELECT r.id, r.name, r.address, r.category, r.region, r.district, r.neighborhood FROM Restaurant r " +
+           "WHERE r.id > :afterId AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED) " +
+           "ORDER BY r.id")
+    List<Object[]> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 위치 색인 적재용 (좌표가 있는 노출 중인 음식점, ID 순 청크)
+    @Query("SELECT r.id, r.latitude, r.longitude, r.category FROM Restaurant r " +
+           "WHERE r.id > :afterId AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL " +
+           "AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED) " +
+           "ORDER BY r.id")
+    List<Object[]> findGeoPoints(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 자동완성 색인 적재용 (노출 중인 음식점, ID 순 청크)
+    @Query("SELECT r.id, r.uuid, r.name, r.category, r.region, r.district, r.neighborhood, r.reviewCount, r.averageRating " +
+           "FROM Restaurant r WHERE r.id > :afterId AND (r.approvalStatus IS NULL " +
+           "OR r.approvalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED) " +
+           "ORDER BY r.id")
+    List<Object[]> findTypeaheadEntries(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,177 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 음식점 위치 색인 (위경도 격자 셀)
+ *
+ * 위도/경도를 CELL_DEGREES 간격 격자로 나눠 셀별 음식점 좌표를 유지한다.
+ * 근처 검색은 기준 좌표의 셀부터 바깥 링으로 넓혀 가며 거리순 상위 K개를 모으고,
+ * 다음 링의 최소 거리가 반경이나 현재 K번째 거리보다 멀어지면 멈춘다.
+ * 쓰기는 동기화하고 조회는 잠금 없이 수행한다.
+ */
+public class RestaurantGeoIndex {
+
+    // 약 1.1km (위도 방향), 서울 기준 경도 방향 약 0.9km
+    private static final double CELL_DEGREES = 0.01;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    // 셀 키 -> 음식점 ID -> 좌표
+    private final Map<Long, Map<Long, Point>> cells = new ConcurrentHashMap<>();
+
+    // 초기 적재 중 실시간으로 반영된 ID (DB에서 읽은 이전 상태로 덮어쓰지 않도록)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+
+    public synchronized void put(Point point) {
+        if (loading) {
+            touched.add(point.id());
+        }
+        index(point);
+    }
+
+    public synchronized void remove(long id) {
+        if (loading) {
+            touched.add(id);
+        }
+        unindex(points.remove(id));
+    }
+
+    /**
+     * 초기 적재 (적재 중 실시간 반영된 음식점은 건너뜀)
+     */
+    public synchronized void load(Point point) {
+        if (!touched.contains(point.id())) {
+            index(point);
+        }
+    }
+
+    public synchronized void completeLoading() {
+        loading = false;
+        touched.clear();
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 반경 내 가까운 순 상위 limit개 (category가 null이면 전체)
+     */
+    public List<Nearby> nearest(double latitude, double longitude, double radiusMeters, int limit,
+                                Restaurant.Category category) {
+        if (limit <= 0 || radiusMeters <= 0) {
+            return List.of();
+        }
+
+        int centerLat = latIndex(latitude);
+        int centerLng = lngIndex(longitude);
+        double cellMeters = minCellMeters(latitude, radiusMeters);
+        int maxRing = (int) Math.ceil(radiusMeters / cellMeters) + 1;
+
+        // 크기 limit의 최대 힙 (가장 먼 후보가 맨 위)
+        PriorityQueue<Nearby> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Nearby::distanceMeters).reversed());
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // ring 셀은 중심 셀과 (ring - 1)칸 이상 떨어져 있음
+            double ringMinDistance = Math.max(0, ring - 1) * cellMeters;
+            if (ringMinDistance > radiusMeters
+                    || (heap.size() == limit && ringMinDistance > heap.peek().distanceMeters())) {
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                for (int dLng = -ring; dLng <= ring; dLng++) {
+                    if (Math.max(Math.abs(dLat), Math.abs(dLng)) != ring) {
+                        continue;
+                    }
+                    Map<Long, Point> cell = cells.get(cellKey(centerLat + dLat, centerLng + dLng));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Point point : cell.values()) {
+                        if (category != null && point.category() != category) {
+                            continue;
+                        }
+                        double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+                        if (distance > radiusMeters) {
+                            continue;
+                        }
+                        heap.offer(new Nearby(point.id(), distance));
+                        if (heap.size() > limit) {
+                            heap.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Nearby> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 두 좌표 간 거리 (미터, haversine)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void index(Point point) {
+        Point previous = points.put(point.id(), point);
+        unindex(previous);
+        cells.computeIfAbsent(cellKey(latIndex(point.latitude()), lngIndex(point.longitude())),
+                key -> new ConcurrentHashMap<>()).put(point.id(), point);
+    }
+
+    private void unindex(Point point) {
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(latIndex(point.latitude()), lngIndex(point.longitude()));
+        Map<Long, Point> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(point.id());
+            if (cell.isEmpty()) {
+                cells.remove(key, cell);
+            }
+        }
+    }
+
+    // 반경 안에서 가장 좁은 셀 변의 길이 (고위도일수록 경도 방향이 좁아짐)
+    private static double minCellMeters(double latitude, double radiusMeters) {
+        double farthestLatitude = Math.min(89, Math.abs(latitude) + radiusMeters / METERS_PER_DEGREE);
+        return CELL_DEGREES * METERS_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+    }
+
+    private static int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int lngIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    public record Point(long id, double latitude, double longitude, Restaurant.Category category) {}
+
+    public record Nearby(long id, double distanceMeters) {}
+}
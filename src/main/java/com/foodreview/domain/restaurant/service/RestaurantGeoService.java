@@ -0,0 +1,140 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 근처 음식점 조회 서비스 (메모리 위치 색인)
+ *
+ * 좌표가 있는 노출 중인 음식점으로 색인을 만들고, 등록/승인/거부는 커밋 이후 바로 반영한다.
+ * 다른 서버에서의 변경을 맞추기 위해 주기적으로 새 색인을 만들어 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestaurantGeoService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private volatile RestaurantGeoIndex index;
+    // 재구성 중인 색인 (적재 중 변경도 함께 반영)
+    private volatile RestaurantGeoIndex building;
+
+    /**
+     * 반경 내 가까운 순 음식점 ID와 거리
+     */
+    public List<RestaurantGeoIndex.Nearby> findNearest(double latitude, double longitude, double radiusMeters,
+                                                       int limit, Restaurant.Category category) {
+        return index().nearest(latitude, longitude, radiusMeters, limit, category);
+    }
+
+    /**
+     * 반경 내 가까운 순 음식점 (엔티티 조회 포함)
+     */
+    public List<Restaurant> findNearestRestaurants(double latitude, double longitude, double radiusMeters,
+                                                   int limit, Restaurant.Category category) {
+        List<Long> ids = findNearest(latitude, longitude, radiusMeters, limit, category).stream()
+                .map(RestaurantGeoIndex.Nearby::id)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        return ids.stream()
+                .map(restaurantMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 음식점 등록/승인 상태 변경 반영 (커밋 이후)
+     */
+    public void onRestaurantChanged(Restaurant restaurant) {
+        long restaurantId = restaurant.getId();
+        RestaurantGeoIndex.Point point = isVisible(restaurant.getApprovalStatus())
+                && restaurant.getLatitude() != null && restaurant.getLongitude() != null
+                ? new RestaurantGeoIndex.Point(restaurantId, restaurant.getLatitude(), restaurant.getLongitude(),
+                        restaurant.getCategory())
+                : null;
+        TransactionUtils.afterCommit(() -> {
+            apply(index, restaurantId, point);
+            apply(building, restaurantId, point);
+        });
+    }
+
+    /**
+     * DB에서 새 색인을 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        RestaurantGeoIndex fresh = new RestaurantGeoIndex();
+        building = fresh;
+        try {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = restaurantRepository.findGeoPoints(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    fresh.load(new RestaurantGeoIndex.Point((Long) row[0], (Double) row[1], (Double) row[2],
+                            (Restaurant.Category) row[3]));
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            fresh.completeLoading();
+            index = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("Restaurant geo index rebuilt: restaurants={}, elapsed={}ms",
+                fresh.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 색인이 아직 없으면 바로 구성
+    private RestaurantGeoIndex index() {
+        RestaurantGeoIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private static void apply(RestaurantGeoIndex target, long restaurantId, RestaurantGeoIndex.Point point) {
+        if (target == null) {
+            return;
+        }
+        if (point != null) {
+            target.put(point);
+        } else {
+            target.remove(restaurantId);
+        }
+    }
+
+    private static boolean isVisible(RestaurantApprovalStatus status) {
+        return status == null || status == RestaurantApprovalStatus.APPROVED;
+    }
+}
@@ -0,0 +1,40 @@
+package com.foodreview.domain.restaurant.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 음식점 일괄 등록 실행
+ * - 실행 인자 --import-restaurants=파일경로 지정 시 서버 시작 직후 실행 (여러 번 지정 가능)
+ * - 파일 형식은 RestaurantImportService 참고
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantImportRunner implements ApplicationRunner {
+
+    private static final String IMPORT_OPTION = "import-restaurants";
+
+    private final RestaurantImportService restaurantImportService;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(IMPORT_OPTION)) {
+            return;
+        }
+        for (String file : args.getOptionValues(IMPORT_OPTION)) {
+            log.info("Restaurant import started: {}", file);
+            try (InputStream input = Files.newInputStream(Path.of(file))) {
+                restaurantImportService.importPlaces(input);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodreview.domain.restaurant.dto.RestaurantDto;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.review.service.ReviewProjectionService;
+import com.foodreview.global.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 음식점 일괄 등록 (카카오 장소 덤프)
+ *
+ * 한 줄에 음식점 하나(JSON Lines, 음식점 등록 요청과 같은 필드)인 입력을 줄 단위로 읽어
+ * kakaoPlaceId 기준으로 중복을 거르고 BATCH_SIZE씩 JDBC 배치 UPSERT 한다.
+ * 파일 전체를 메모리에 올리지 않으며, 메모리에는 중복 판별용 장소 ID 집합만 남는다.
+ * 배치 단위로 커밋되고 UPSERT라 중간에 실패해도 같은 파일로 다시 실행하면 된다.
+ *
+ * 배치 쓰기가 각자 트랜잭션을 가지도록 이 서비스에는 트랜잭션을 걸지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RestaurantImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    // 진행 상황 로그 간격 (배치 수)
+    private static final int PROGRESS_INTERVAL = 20;
+
+    private final ObjectMapper objectMapper;
+    private final RestaurantImportWriter restaurantImportWriter;
+    private final RestaurantSearchService restaurantSearchService;
+    private final RestaurantGeoService restaurantGeoService;
+    private final RestaurantTypeaheadService restaurantTypeaheadService;
+    private final ReviewProjectionService reviewProjectionService;
+
+    /**
+     * 장소 스트림 가져오기 (완료 후 리뷰 피드 필터 컬럼/지역 카운터 보정, 검색/위치/자동완성 색인 재구성)
+     */
+    public ImportResult importPlaces(InputStream input) throws IOException {
+        long startTime = System.currentTimeMillis();
+        PlaceIdSet seen = new PlaceIdSet();
+        List<Place> batch = new ArrayList<>(BATCH_SIZE);
+        long lines = 0;
+        long upserted = 0;
+        long duplicates = 0;
+        long invalid = 0;
+        int batches = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+
+                Place place = parse(line, lines);
+                if (place == null) {
+                    invalid++;
+                    continue;
+                }
+                if (!seen.add(place.kakaoPlaceId())) {
+                    duplicates++;
+                    continue;
+                }
+
+                batch.add(place);
+                if (batch.size() == BATCH_SIZE) {
+                    restaurantImportWriter.upsert(batch);
+                    upserted += batch.size();
+                    batch.clear();
+                    if (++batches % PROGRESS_INTERVAL == 0) {
+                        long elapsed = System.currentTimeMillis() - startTime;
+                        log.info("Restaurant import progress: lines={}, upserted={}, {} records/s",
+                                lines, upserted, ratePerSecond(upserted, elapsed));
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            restaurantImportWriter.upsert(batch);
+            upserted += batch.size();
+        }
+
+        ImportResult result = new ImportResult(lines, upserted, duplicates, invalid,
+                System.currentTimeMillis() - startTime);
+        log.info("Restaurant import finished: lines={}, upserted={}, duplicates={}, invalid={}, elapsed={}ms, {} records/s",
+                result.lines(), result.upserted(), result.duplicates(), result.invalid(),
+                result.elapsedMillis(), ratePerSecond(result.upserted(), result.elapsedMillis()));
+
+        if (upserted > 0) {
+            // 기존 음식점의 지역/카테고리가 바뀐 경우 리뷰에 복사한 값과 지역별 리뷰 수를 맞춤
+            int corrected = reviewProjectionService.reconcile();
+            if (corrected > 0) {
+                log.info("Restaurant import: review feed projection reconciled: {} reviews", corrected);
+            }
+            restaurantSearchService.rebuild();
+            restaurantGeoService.rebuild();
+            restaurantTypeaheadService.rebuild();
+        }
+        return result;
+    }
+
+    // 한 줄 파싱 + 검증 (잘못된 줄은 null)
+    private Place parse(String line, long lineNumber) {
+        RestaurantDto.CreateRequest request;
+        try {
+            request = objectMapper.readValue(line, RestaurantDto.CreateRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Restaurant import: invalid JSON at line {}", lineNumber);
+            return null;
+        }
+
+        Restaurant.Category category = category(request.getCategory());
+        if (category == null) {
+            log.warn("Restaurant import: unknown category at line {}: {}", lineNumber, request.getCategory());
+            return null;
+        }
+
+        // 필수 값과 컬럼 길이 (한 행이라도 넘치면 배치 전체가 실패하므로 미리 거름)
+        if (!required(request.getKakaoPlaceId(), 255) || !required(request.getName(), 100)
+                || !required(request.getAddress(), 200) || !required(request.getRegion(), 50)
+                || !fits(request.getDistrict(), 50) || !fits(request.getNeighborhood(), 50)
+                || !fits(request.getThumbnail(), 500) || !fits(request.getPriceRange(), 50)
+                || !fits(request.getPhone(), 20) || !fits(request.getBusinessHours(), 200)) {
+            log.warn("Restaurant import: missing or too long field at line {}", lineNumber);
+            return null;
+        }
+
+        return new Place(request.getKakaoPlaceId().trim(), request.getName(), category, request.getAddress(),
+                request.getRegion(), request.getDistrict(), request.getNeighborhood(), request.getThumbnail(),
+                request.getPriceRange(), request.getPhone(), request.getBusinessHours(),
+                request.getLatitude(), request.getLongitude());
+    }
+
+    private static Restaurant.Category category(String name) {
+        return Arrays.stream(Restaurant.Category.values())
+                .filter(value -> value.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean required(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+
+    private static boolean fits(String value, int maxLength) {
+        return value == null || value.length() <= maxLength;
+    }
+
+    private static long ratePerSecond(long count, long elapsedMillis) {
+        return elapsedMillis > 0 ? count * 1000 / elapsedMillis : count;
+    }
+
+    /**
+     * 검증된 가져오기 대상 장소
+     */
+    public record Place(String kakaoPlaceId, String name, Restaurant.Category category, String address,
+                        String region, String district, String neighborhood, String thumbnail,
+                        String priceRange, String phone, String businessHours,
+                        Double latitude, Double longitude) {}
+
+    public record ImportResult(long lines, long upserted, long duplicates, long invalid, long elapsedMillis) {}
+
+    // 이미 본 장소 ID (카카오 장소 ID는 숫자라 대부분 long 집합에 들어감)
+    private static class PlaceIdSet {
+        private final LongHashSet numeric = new LongHashSet();
+        private final Set<String> others = new HashSet<>();
+
+        boolean add(String placeId) {
+            // 앞자리 0이 있으면 숫자로 바꿀 때 다른 ID와 겹칠 수 있으므로 문자열로 보관
+            if (placeId.length() <= 18 && !placeId.startsWith("0") && placeId.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                return numeric.add(Long.parseLong(placeId));
+            }
+            return others.add(placeId);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 음식점 일괄 UPSERT (kakao_place_id 유니크 키 기준)
+ *
+ * 새 장소는 평점/분포 0으로 INSERT 하고, 이미 있는 장소는 장소 정보만 갱신한다 (평점, 승인 상태는 유지).
+ * 값이 바뀌지 않은 행은 updated_at을 그대로 둬서 조건부 조회 ETag가 불필요하게 바뀌지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantImportWriter {
+
+    // 갱신 시 덮어쓰는 컬럼 / 새 값이 있을 때만 덮어쓰는 컬럼
+    private static final List<String> OVERWRITE_COLUMNS = List.of(
+            "name", "category", "address", "region", "district", "neighborhood");
+    private static final List<String> COALESCE_COLUMNS = List.of(
+            "thumbnail", "price_range", "phone", "business_hours", "latitude", "longitude");
+
+    // 0으로 시작하는 평점 컬럼 (평균, 세부 별점 개수, 별점 분포)
+    private static final List<String> ZERO_COLUMNS = zeroColumns();
+
+    private static final String UPSERT_SQL = upsertSql();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 배치 UPSERT (배치 단위 커밋)
+     */
+    @Transactional
+    public void upsert(List<RestaurantImportService.Place> places) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, places, places.size(), (ps, place) -> {
+            ps.setString(1, UUID.randomUUID().toString());
+            ps.setString(2, place.kakaoPlaceId());
+            ps.setString(3, place.name());
+            ps.setString(4, place.category().name());
+            ps.setString(5, place.address());
+            ps.setString(6, place.region());
+            ps.setString(7, place.district());
+            ps.setString(8, place.neighborhood());
+            ps.setString(9, place.thumbnail());
+            ps.setString(10, place.priceRange());
+            ps.setString(11, place.phone());
+            ps.setString(12, place.businessHours());
+            ps.setObject(13, place.latitude(), Types.DOUBLE);
+            ps.setObject(14, place.longitude(), Types.DOUBLE);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+
+    private static List<String> zeroColumns() {
+        List<String> columns = new ArrayList<>(List.of(
+                "average_rating", "average_taste_rating", "average_price_rating",
+                "average_atmosphere_rating", "average_service_rating",
+                "taste_rating_count", "price_rating_count", "atmosphere_rating_count", "service_rating_count",
+                "review_count"));
+        for (String prefix : List.of("rating", "taste_rating", "price_rating", "atmosphere_rating", "service_rating")) {
+            for (String suffix : List.of("star1", "star2", "star3", "star4", "star5", "sum_tenths")) {
+                columns.add(prefix + "_" + suffix);
+            }
+        }
+        return columns;
+    }
+
+    private static String upsertSql() {
+        List<String> updated = new ArrayList<>(OVERWRITE_COLUMNS);
+        updated.addAll(COALESCE_COLUMNS);
+
+        // updated_at은 다른 컬럼이 바뀌기 전에 비교해야 하므로 맨 앞에 둔다 (MySQL은 SET 순서대로 평가)
+        String unchanged = OVERWRITE_COLUMNS.stream()
+                .map(column -> column + " <=> VALUES(" + column + ")")
+                .collect(Collectors.joining(" AND "))
+                + " AND " + COALESCE_COLUMNS.stream()
+                .map(column -> "COALESCE(VALUES(" + column + "), " + column + ") <=> " + column)
+                .collect(Collectors.joining(" AND "));
+        String assignments = "updated_at = IF(" + unchanged + ", updated_at, VALUES(updated_at)), "
+                + OVERWRITE_COLUMNS.stream()
+                .map(column -> column + " = VALUES(" + column + ")")
+                .collect(Collectors.joining(", "))
+                + ", " + COALESCE_COLUMNS.stream()
+                .map(column -> column + " = COALESCE(VALUES(" + column + "), " + column + ")")
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO restaurants (uuid, kakao_place_id, " + String.join(", ", updated)
+                + ", created_at, updated_at, is_manual_registration, approval_status, "
+                + String.join(", ", ZERO_COLUMNS) + ") VALUES ("
+                + "?, ".repeat(2 + updated.size() + 2)
+                + "FALSE, '" + RestaurantApprovalStatus.APPROVED.name() + "', "
+                + ZERO_COLUMNS.stream().map(column -> "0").collect(Collectors.joining(", "))
+                + ") ON DUPLICATE KEY UPDATE " + assignments;
+    }
+}
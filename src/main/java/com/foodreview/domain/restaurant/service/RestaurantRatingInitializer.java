@@ -0,0 +1,58 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.ReviewRatings;
+import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import com.foodreview.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음식점 별점 분포 초기화
+ * - 분포 컬럼 추가 이전 음식점(분포 합계와 리뷰 수가 다른 음식점)만 리뷰 테이블 기준으로 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantRatingInitializer implements ApplicationRunner {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        List<Long> restaurantIds = restaurantRepository.findIdsWithStaleRatingHistogram();
+        if (restaurantIds.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < restaurantIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = restaurantIds.subList(from, Math.min(from + CHUNK_SIZE, restaurantIds.size()));
+
+            Map<Long, List<ReviewRatings>> ratingsByRestaurant = new HashMap<>();
+            for (Object[] row : reviewRepository.findRatingsByRestaurantIds(chunk)) {
+                ratingsByRestaurant.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(new ReviewRatings((BigDecimal) row[1], (BigDecimal) row[2], (BigDecimal) row[3],
+                                (BigDecimal) row[4], (BigDecimal) row[5]));
+            }
+
+            for (Restaurant restaurant : restaurantRepository.findAllById(chunk)) {
+                restaurant.rebuildRatings(ratingsByRestaurant.getOrDefault(restaurant.getId(), List.of()));
+            }
+        }
+        log.info("Restaurant rating histograms rebuilt: {} restaurants", restaurantIds.size());
+    }
+}
@@ -0,0 +1,309 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.global.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 음식점 검색 역색인 (이름/주소/카테고리)
+ *
+ * 정규화한 텍스트의 음절 bigram, 음절 unigram, 받침을 뗀 음절을 토큰으로 음식점 ID 목록을 유지한다.
+ * 검색어 토큰의 posting을 교집합해 후보를 좁힌 뒤 필드별 포함 여부를 확인해 관련도 점수를 매긴다.
+ * 검색어 마지막 글자는 입력 중일 수 있으므로 자모 단위로 비교한다 ("김치찍" -> "김치찌개").
+ * 쓰기는 동기화하고 조회는 잠금 없이 수행한다.
+ */
+public class RestaurantSearchIndex {
+
+    // 받침 뗀 음절 토큰 접두사 (정규화된 텍스트에는 나오지 않는 문자)
+    private static final char BASE_PREFIX = '#';
+
+    // 관련도 가중치
+    private static final int NAME_WEIGHT = 10;
+    private static final int NAME_PREFIX_BONUS = 5;
+    private static final int NAME_EXACT_BONUS = 10;
+    private static final int CATEGORY_WEIGHT = 4;
+    private static final int ADDRESS_WEIGHT = 2;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 초기 적재 중 실시간으로 반영된 ID (DB에서 읽은 이전 상태로 덮어쓰지 않도록)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+
+    /**
+     * 음식점 추가/갱신 (등록, 승인 시)
+     */
+    public synchronized void put(Document document) {
+        if (loading) {
+            touched.add(document.id());
+        }
+        index(new Entry(document));
+    }
+
+    public synchronized void remove(long id) {
+        if (loading) {
+            touched.add(id);
+        }
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    /**
+     * 초기 적재 (적재 중 실시간 반영된 음식점은 건너뜀)
+     */
+    public synchronized void load(Document document) {
+        if (!touched.contains(document.id())) {
+            index(new Entry(document));
+        }
+    }
+
+    public synchronized void completeLoading() {
+        loading = false;
+        touched.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 검색 (관련도 내림차순, 같은 점수는 이름이 짧은 순 -> 최신 등록순)
+     */
+    public SearchResult search(String keyword, String region, String district, String neighborhood,
+                               Restaurant.Category category, int offset, int limit) {
+        Query query = Query.parse(keyword);
+        if (query == null) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Entry entry : candidates(query)) {
+            if (!entry.matches(region, district, neighborhood, category)) {
+                continue;
+            }
+            int score = score(entry, query);
+            if (score > 0) {
+                hits.add(new Hit(entry, score));
+            }
+        }
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparingInt(hit -> hit.entry().name.length())
+                .thenComparing(hit -> hit.entry().document.id(), Comparator.reverseOrder()));
+
+        List<Long> ids = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(hit -> hit.entry().document.id())
+                .toList();
+        return new SearchResult(ids, hits.size());
+    }
+
+    // 검색어 토큰 posting 교집합 (토큰이 없으면 전체)
+    private Collection<Entry> candidates(Query query) {
+        if (query.tokens().isEmpty()) {
+            return entries.values();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>(query.tokens().size());
+        for (String token : query.tokens()) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Entry> result = new ArrayList<>();
+        Set<Long> smallest = lists.get(0);
+        for (Long id : smallest) {
+            boolean all = true;
+            for (int i = 1; i < lists.size() && all; i++) {
+                all = lists.get(i).contains(id);
+            }
+            Entry entry = all ? entries.get(id) : null;
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static int score(Entry entry, Query query) {
+        int score = 0;
+        int namePosition = query.indexIn(entry.name);
+        if (namePosition >= 0) {
+            score += NAME_WEIGHT;
+            if (namePosition == 0) {
+                score += NAME_PREFIX_BONUS;
+            }
+            if (entry.name.equals(query.text())) {
+                score += NAME_EXACT_BONUS;
+            }
+        }
+        if (query.indexIn(entry.category) >= 0) {
+            score += CATEGORY_WEIGHT;
+        }
+        if (query.indexIn(entry.address) >= 0) {
+            score += ADDRESS_WEIGHT;
+        }
+        return score;
+    }
+
+    private void index(Entry entry) {
+        Entry previous = entries.put(entry.document.id(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String token : entry.tokens()) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(entry.document.id());
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String token : entry.tokens()) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(entry.document.id());
+                if (ids.isEmpty()) {
+                    postings.remove(token, ids);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인 대상 음식점 정보
+     */
+    public record Document(long id, String name, String address, Restaurant.Category category,
+                           String region, String district, String neighborhood) {
+
+        public static Document from(Restaurant restaurant) {
+            return new Document(restaurant.getId(), restaurant.getName(), restaurant.getAddress(),
+                    restaurant.getCategory(), restaurant.getRegion(), restaurant.getDistrict(),
+                    restaurant.getNeighborhood());
+        }
+    }
+
+    public record SearchResult(List<Long> ids, long total) {}
+
+    private record Hit(Entry entry, int score) {}
+
+    private static class Entry {
+        private final Document document;
+        private final String name;
+        private final String address;
+        private final String category;
+
+        Entry(Document document) {
+            this.document = document;
+            this.name = HangulUtils.normalize(document.name());
+            this.address = HangulUtils.normalize(document.address());
+            this.category = document.category() != null
+                    ? HangulUtils.normalize(document.category().getDisplayName() + document.category().name())
+                    : "";
+        }
+
+        boolean matches(String region, String district, String neighborhood, Restaurant.Category category) {
+            return (region == null || region.equals(document.region()))
+                    && (district == null || district.equals(document.district()))
+                    && (neighborhood == null || neighborhood.equals(document.neighborhood()))
+                    && (category == null || category == document.category());
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new HashSet<>();
+            addTokens(tokens, name);
+            addTokens(tokens, address);
+            addTokens(tokens, category);
+            return tokens;
+        }
+
+        private static void addTokens(Set<String> tokens, String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                tokens.add(String.valueOf(c));
+                if (HangulUtils.isSyllable(c)) {
+                    tokens.add(baseToken(c));
+                }
+                if (i + 1 < text.length()) {
+                    tokens.add(text.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    private static String baseToken(char syllable) {
+        return String.valueOf(BASE_PREFIX) + HangulUtils.withoutFinalConsonant(syllable);
+    }
+
+    /**
+     * 정규화된 검색어
+     * - stable: 확정된 앞부분 (음절 단위 비교)
+     * - partialJamo: 입력 중일 수 있는 마지막 한글 글자의 자모 (자모 단위 앞부분 비교)
+     */
+    private record Query(String text, String stable, String partialJamo, List<String> tokens) {
+
+        static Query parse(String keyword) {
+            String text = HangulUtils.normalize(keyword);
+            if (text.isEmpty()) {
+                return null;
+            }
+
+            char last = text.charAt(text.length() - 1);
+            boolean partial = HangulUtils.isHangul(last);
+            String stable = partial ? text.substring(0, text.length() - 1) : text;
+
+            List<String> tokens = new ArrayList<>();
+            if (stable.length() == 1) {
+                tokens.add(stable);
+            }
+            for (int i = 0; i + 1 < stable.length(); i++) {
+                tokens.add(stable.substring(i, i + 2));
+            }
+            if (partial && HangulUtils.isSyllable(last)) {
+                tokens.add(baseToken(last));
+            }
+            return new Query(text, stable, partial ? HangulUtils.toJamo(String.valueOf(last)) : null,
+                    tokens.stream().distinct().toList());
+        }
+
+        // 필드 텍스트에서 검색어가 시작하는 위치 (없으면 -1)
+        int indexIn(String field) {
+            if (partialJamo == null) {
+                return field.indexOf(stable);
+            }
+            for (int from = 0; from <= field.length(); from++) {
+                int position = field.indexOf(stable, from);
+                if (position < 0) {
+                    return -1;
+                }
+                if (jamoStartsWith(field, position + stable.length())) {
+                    return position;
+                }
+                from = position;
+            }
+            return -1;
+        }
+
+        private boolean jamoStartsWith(String field, int offset) {
+            StringBuilder jamo = new StringBuilder();
+            for (int i = offset; i < field.length() && jamo.length() < partialJamo.length(); i++) {
+                HangulUtils.appendJamo(jamo, field.charAt(i));
+            }
+            return jamo.length() >= partialJamo.length()
+                    && jamo.substring(0, partialJamo.length()).equals(partialJamo);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.foodreview.domain.restaurant.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음식점 검색/위치/자동완성 색인 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSearchIndexScheduler {
+
+    private final RestaurantSearchService restaurantSearchService;
+    private final RestaurantGeoService restaurantGeoService;
+    private final RestaurantTypeaheadService restaurantTypeaheadService;
+
+    /**
+     * 서버 시작 직후 및 10분마다 검색 색인 재구성
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildIndex() {
+        try {
+            restaurantSearchService.rebuild();
+        } catch (Exception e) {
+            log.error("Restaurant search index rebuild failed", e);
+        }
+    }
+
+    /**
+     * 서버 시작 직후 및 10분마다 위치 색인 재구성
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildGeoIndex() {
+        try {
+            restaurantGeoService.rebuild();
+        } catch (Exception e) {
+            log.error("Restaurant geo index rebuild failed", e);
+        }
+    }
+
+    /**
+     * 서버 시작 직후 및 10분마다 자동완성 색인 재구성 (리뷰 수/평점 순위 갱신)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildTypeaheadIndex() {
+        try {
+            restaurantTypeaheadService.rebuild();
+        } catch (Exception e) {
+            log.error("Restaurant typeahead index rebuild failed", e);
+        }
+    }
+}
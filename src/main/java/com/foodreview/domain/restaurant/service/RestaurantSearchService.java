@@ -0,0 +1,129 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 음식점 검색 서비스 (메모리 역색인)
+ *
+ * 서버 시작 시 DB에서 노출 중인 음식점으로 색인을 만들고, 등록/승인/거부는 커밋 이후 바로 반영한다.
+ * 다른 서버에서의 변경을 맞추기 위해 주기적으로 새 색인을 만들어 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestaurantSearchService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private volatile RestaurantSearchIndex index;
+    // 재구성 중인 색인 (적재 중 변경도 함께 반영)
+    private volatile RestaurantSearchIndex building;
+
+    /**
+     * 색인 검색 (색인이 아직 없으면 null - 호출 측에서 DB 검색으로 대체)
+     */
+    public Page<Restaurant> search(String keyword, String region, String district, String neighborhood,
+                                   Restaurant.Category category, Pageable pageable) {
+        RestaurantSearchIndex current = index;
+        if (current == null) {
+            return null;
+        }
+
+        RestaurantSearchIndex.SearchResult result = current.search(keyword, region, district, neighborhood,
+                category, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        List<Restaurant> content = result.ids().stream()
+                .map(restaurantMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 음식점 등록/승인 상태 변경 반영 (커밋 이후)
+     */
+    public void onRestaurantChanged(Restaurant restaurant) {
+        long restaurantId = restaurant.getId();
+        RestaurantSearchIndex.Document document = isVisible(restaurant.getApprovalStatus())
+                ? RestaurantSearchIndex.Document.from(restaurant)
+                : null;
+        TransactionUtils.afterCommit(() -> {
+            apply(index, restaurantId, document);
+            apply(building, restaurantId, document);
+        });
+    }
+
+    /**
+     * DB에서 새 색인을 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        RestaurantSearchIndex fresh = new RestaurantSearchIndex();
+        building = fresh;
+        try {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = restaurantRepository.findSearchDocuments(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    fresh.load(new RestaurantSearchIndex.Document((Long) row[0], (String) row[1], (String) row[2],
+                            (Restaurant.Category) row[3], (String) row[4], (String) row[5], (String) row[6]));
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            fresh.completeLoading();
+            index = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("Restaurant search index rebuilt: restaurants={}, elapsed={}ms",
+                fresh.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static void apply(RestaurantSearchIndex target, long restaurantId, RestaurantSearchIndex.Document document) {
+        if (target == null) {
+            return;
+        }
+        if (document != null) {
+            target.put(document);
+        } else {
+            target.remove(restaurantId);
+        }
+    }
+
+    private static boolean isVisible(RestaurantApprovalStatus status) {
+        return status == null || status == RestaurantApprovalStatus.APPROVED;
+    }
+}
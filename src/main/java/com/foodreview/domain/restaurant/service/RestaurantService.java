@@ -5,9 +5,12 @@ import com.foodreview.domain.restaurant.entity.Restaurant;
 import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
 import com.foodreview.domain.restaurant.repository.RestaurantRepository;
 import com.foodreview.domain.review.repository.ReviewRepository;
+import com.foodreview.domain.review.service.ReviewAreaCounterService;
+import com.foodreview.domain.trending.service.TrendingService;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.FollowRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.ConditionalResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -19,16 +22,28 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RestaurantService {
 
+    // 근처 음식점 조회 최대 반경(m) / 최대 개수
+    private static final int MAX_NEARBY_RADIUS_METERS = 20_000;
+    private static final int MAX_NEARBY_SIZE = 100;
+
     private final RestaurantRepository restaurantRepository;
     private final ReviewRepository reviewRepository;
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final ReviewAreaCounterService reviewAreaCounterService;
+    private final TrendingService trendingService;
+    private final RestaurantSearchService restaurantSearchService;
+    private final RestaurantGeoService restaurantGeoService;
+    private final RestaurantTypeaheadService restaurantTypeaheadService;
 
     public RestaurantDto.Response getRestaurant(Long restaurantId) {
         Restaurant restaurant = findRestaurantById(restaurantId);
@@ -40,6 +55,21 @@ public class RestaurantService {
         return RestaurantDto.Response.from(restaurant);
     }
 
+    /**
+     * 상세 응답 ETag (수정 시각 기준, 엔티티를 읽지 않음)
+     */
+    public String getRestaurantEtag(Long restaurantId) {
+        return restaurantRepository.findUpdatedAtById(restaurantId)
+                .map(updatedAt -> ConditionalResponse.etag("restaurant", restaurantId, updatedAt))
+                .orElseThrow(() -> new CustomException("음식점을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "RESTAURANT_NOT_FOUND"));
+    }
+
+    public String getRestaurantEtagByUuid(String uuid) {
+        return restaurantRepository.findUpdatedAtByUuid(uuid)
+                .map(updatedAt -> ConditionalResponse.etag("restaurant", uuid, updatedAt))
+                .orElseThrow(() -> new CustomException("음식점을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "RESTAURANT_NOT_FOUND"));
+    }
+
     public PageResponse<RestaurantDto.SimpleResponse> getRestaurants(
             String region, String district, String neighborhood, String category, Pageable pageable) {
         Page<Restaurant> restaurants;
@@ -78,18 +108,13 @@ public class RestaurantService {
     public PageResponse<RestaurantDto.SimpleResponse> searchRestaurants(
             String keyword, String region, String district, String neighborhood, String category, Pageable pageable) {
 
-        Page<Restaurant> restaurants;
-
         Restaurant.Category cat = category != null ? Restaurant.Category.valueOf(category) : null;
 
-        if (region != null && cat != null) {
-            restaurants = restaurantRepository.searchByLocationAndCategory(keyword, region, district, neighborhood, cat, pageable);
-        } else if (region != null) {
-            restaurants = restaurantRepository.searchByLocation(keyword, region, district, neighborhood, pageable);
-        } else if (cat != null) {
-            restaurants = restaurantRepository.searchByCategory(keyword, cat, pageable);
-        } else {
-            restaurants = restaurantRepository.search(keyword, pageable);
+        // 검색 색인 (관련도순), 색인 준비 전에는 DB LIKE 검색으로 대체
+        Page<Restaurant> restaurants = restaurantSearchService.search(keyword, region, district, neighborhood, cat, pageable);
+
+        if (restaurants == null) {
+            restaurants = searchByKeywordLike(keyword, region, district, neighborhood, cat, pageable);
         }
 
         List<RestaurantDto.SimpleResponse> content = restaurants.getContent().stream()
@@ -99,6 +124,19 @@ public class RestaurantService {
         return PageResponse.from(restaurants, content);
     }
 
+    // DB LIKE 검색 (이름, 주소)
+    private Page<Restaurant> searchByKeywordLike(
+            String keyword, String region, String district, String neighborhood, Restaurant.Category cat, Pageable pageable) {
+        if (region != null && cat != null) {
+            return restaurantRepository.searchByLocationAndCategory(keyword, region, district, neighborhood, cat, pageable);
+        } else if (region != null) {
+            return restaurantRepository.searchByLocation(keyword, region, district, neighborhood, pageable);
+        } else if (cat != null) {
+            return restaurantRepository.searchByCategory(keyword, cat, pageable);
+        }
+        return restaurantRepository.search(keyword, pageable);
+    }
+
     // 첫 리뷰 가능한 음식점 조회
     public PageResponse<RestaurantDto.SimpleResponse> getFirstReviewAvailableRestaurants(Pageable pageable) {
         Page<Restaurant> restaurants = restaurantRepository.findByReviewCount(0, pageable);
@@ -163,9 +201,105 @@ public class RestaurantService {
                 .build();
 
         Restaurant saved = restaurantRepository.save(restaurant);
+        syncIndexes(saved);
         return RestaurantDto.Response.from(saved);
     }
 
+    /**
+     * 음식점 승인 (Admin용)
+     */
+    @Transactional
+    public void approveRestaurant(Long restaurantId) {
+        Restaurant restaurant = findRestaurantById(restaurantId);
+        RestaurantApprovalStatus previousStatus = restaurant.getApprovalStatus();
+        restaurant.approve();
+        syncReviewProjection(restaurant);
+        reviewAreaCounterService.onRestaurantApprovalChanged(restaurant, previousStatus);
+        syncIndexes(restaurant);
+    }
+
+    /**
+     * 음식점 거부 (Admin용)
+     */
+    @Transactional
+    public void rejectRestaurant(Long restaurantId, String reason) {
+        Restaurant restaurant = findRestaurantById(restaurantId);
+        RestaurantApprovalStatus previousStatus = restaurant.getApprovalStatus();
+        restaurant.reject(reason);
+        syncReviewProjection(restaurant);
+        reviewAreaCounterService.onRestaurantApprovalChanged(restaurant, previousStatus);
+        syncIndexes(restaurant);
+    }
+
+    // 음식점 변경 내용을 리뷰 피드 필터 컬럼에 반영
+    private void syncReviewProjection(Restaurant restaurant) {
+        reviewRepository.syncRestaurantProjection(
+                restaurant.getId(),
+                restaurant.getRegion(),
+                restaurant.getDistrict(),
+                restaurant.getNeighborhood(),
+                restaurant.getCategory(),
+                restaurant.getApprovalStatus()
+        );
+    }
+
+    // 음식점 변경 내용을 메모리 색인(검색/위치/자동완성)에 반영
+    private void syncIndexes(Restaurant restaurant) {
+        restaurantSearchService.onRestaurantChanged(restaurant);
+        restaurantGeoService.onRestaurantChanged(restaurant);
+        restaurantTypeaheadService.onRestaurantChanged(restaurant);
+    }
+
+    // 지금 뜨는 음식점 (트렌딩 점수판 상위, 승인된 음식점만)
+    public List<RestaurantDto.SimpleResponse> getTrendingRestaurants(String region, String district, int size) {
+        int limit = Math.max(1, Math.min(size, 50));
+        List<Long> restaurantIds = trendingService.getTopRestaurantIds(region, district, limit * 2);
+        if (restaurantIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(restaurantIds).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        return restaurantIds.stream()
+                .map(restaurantMap::get)
+                .filter(restaurant -> restaurant != null
+                        && (restaurant.getApprovalStatus() == null || restaurant.getApprovalStatus() == RestaurantApprovalStatus.APPROVED))
+                .limit(limit)
+                .map(RestaurantDto.SimpleResponse::from)
+                .toList();
+    }
+
+    // 음식점/지역명 자동완성 (DB 조회 없음)
+    public List<RestaurantDto.AutocompleteResponse> autocomplete(String keyword, int size) {
+        return restaurantTypeaheadService.autocomplete(keyword, size);
+    }
+
+    /**
+     * 근처 음식점 (가까운 순, 반경 내 최대 size개)
+     */
+    public List<RestaurantDto.NearbyResponse> getNearbyRestaurants(
+            double latitude, double longitude, int radius, String category, int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new CustomException("잘못된 좌표입니다", HttpStatus.BAD_REQUEST, "INVALID_COORDINATES");
+        }
+        int radiusMeters = Math.max(1, Math.min(radius, MAX_NEARBY_RADIUS_METERS));
+        int limit = Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+        Restaurant.Category cat = category != null ? Restaurant.Category.valueOf(category) : null;
+
+        List<RestaurantGeoIndex.Nearby> nearby = restaurantGeoService.findNearest(latitude, longitude, radiusMeters, limit, cat);
+        if (nearby.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(
+                        nearby.stream().map(RestaurantGeoIndex.Nearby::id).toList()).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        return nearby.stream()
+                .filter(item -> restaurantMap.containsKey(item.id()))
+                .map(item -> RestaurantDto.NearbyResponse.from(restaurantMap.get(item.id()), item.distanceMeters()))
+                .toList();
+    }
+
     // 카카오 Place ID로 음식점 조회
     public RestaurantDto.Response getRestaurantByKakaoPlaceId(String kakaoPlaceId) {
         return restaurantRepository.findByKakaoPlaceId(kakaoPlaceId)
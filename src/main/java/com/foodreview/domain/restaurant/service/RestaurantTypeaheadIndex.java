@@ -0,0 +1,328 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.global.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동완성 접두사 트라이 (음식점 이름 / 지역명)
+ *
+ * 이름의 각 단어 시작부터 끝까지를 자모열로 풀어 자모 트라이에, 초성열로 바꿔 초성 트라이에 넣는다.
+ * 자모 단위라 입력 중인 글자("김치찍")도 접두사로 맞고, 자음만 입력하면 초성 트라이("ㄱㅊㅉ")를 쓴다.
+ * 얕은 노드(CACHED_DEPTH 이하)는 하위 항목의 상위 후보를 미리 들고 있어 짧은 접두사도 바로 응답하고,
+ * 깊은 노드는 하위 트리가 작으므로 순회해서 고른다.
+ *
+ * 쓰기는 동기화하고, 노드의 자식/후보 배열은 통째로 교체해 조회는 잠금 없이 수행한다.
+ * 제외(거부)된 음식점은 삭제 표시 후 조회에서 거르고 주기적인 재구성에서 정리한다.
+ */
+public class RestaurantTypeaheadIndex {
+
+    // 노드별로 들고 있는 상위 후보 수 (삭제 표시분을 걸러도 요청 개수를 채울 수 있도록 여유 있게)
+    private static final int TOP_SIZE = 20;
+    // 상위 후보를 캐시하는 최대 깊이 (자모 기준, 약 3글자)
+    private static final int CACHED_DEPTH = 8;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt(Suggestion::reviewCount).reversed()
+            .thenComparing(Comparator.comparingDouble(Suggestion::averageRating).reversed())
+            .thenComparing(Suggestion::name);
+
+    private final Node jamoRoot = new Node();
+    private final Node choseongRoot = new Node();
+
+    // 삭제 표시된 음식점 ID
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    // 초기 적재 중 실시간으로 반영된 ID (DB에서 읽은 이전 상태로 덮어쓰지 않도록)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+
+    private int size;
+
+    /**
+     * 음식점 추가 (등록, 승인 시)
+     */
+    public synchronized void put(Suggestion suggestion) {
+        if (loading && suggestion.restaurantId() != null) {
+            touched.add(suggestion.restaurantId());
+        }
+        insert(suggestion);
+    }
+
+    public synchronized void remove(long restaurantId) {
+        if (loading) {
+            touched.add(restaurantId);
+        }
+        removed.add(restaurantId);
+    }
+
+    /**
+     * 초기 적재 (순위 높은 순으로 넣어 상위 후보 배열이 덧붙이기만으로 채워지게 함)
+     */
+    public synchronized void loadAll(List<Suggestion> suggestions) {
+        List<Suggestion> sorted = new ArrayList<>(suggestions);
+        sorted.sort(RANKING);
+        for (Suggestion suggestion : sorted) {
+            if (suggestion.restaurantId() == null || !touched.contains(suggestion.restaurantId())) {
+                insert(suggestion);
+            }
+        }
+    }
+
+    public synchronized void completeLoading() {
+        loading = false;
+        touched.clear();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 접두사 자동완성 (순위순 최대 limit개)
+     */
+    public List<Suggestion> suggest(String keyword, int limit) {
+        String text = HangulUtils.normalize(keyword);
+        if (text.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = isChoseongQuery(text)
+                ? find(choseongRoot, text)
+                : find(jamoRoot, HangulUtils.toJamo(text));
+        if (node == null) {
+            return List.of();
+        }
+
+        Suggestion[] top = node.top;
+        if (top != null) {
+            List<Suggestion> result = new ArrayList<>(limit);
+            for (Suggestion suggestion : top) {
+                if (isLive(suggestion)) {
+                    result.add(suggestion);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        Map<Object, Suggestion> collected = new HashMap<>();
+        collect(node, collected);
+        return collected.values().stream()
+                .filter(this::isLive)
+                .sorted(RANKING)
+                .limit(limit)
+                .toList();
+    }
+
+    private void insert(Suggestion suggestion) {
+        if (suggestion.restaurantId() != null) {
+            removed.remove(suggestion.restaurantId());
+        }
+        for (String key : keys(suggestion.name())) {
+            insert(jamoRoot, HangulUtils.toJamo(key), suggestion);
+            insert(choseongRoot, HangulUtils.toChoseong(key), suggestion);
+        }
+        size++;
+    }
+
+    private static void insert(Node root, String path, Suggestion suggestion) {
+        Node node = root;
+        node.offer(suggestion);
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrCreate(path.charAt(i), i + 1 <= CACHED_DEPTH);
+            node.offer(suggestion);
+        }
+        node.addTerminal(suggestion);
+    }
+
+    private static Node find(Node root, String path) {
+        Node node = root;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.child(path.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, Map<Object, Suggestion> collected) {
+        for (Suggestion suggestion : node.terminals) {
+            collected.put(suggestion.target(), suggestion);
+        }
+        for (Node child : node.children.nodes) {
+            collect(child, collected);
+        }
+    }
+
+    private boolean isLive(Suggestion suggestion) {
+        return suggestion.restaurantId() == null || !removed.contains(suggestion.restaurantId());
+    }
+
+    // 자음만 두 글자 이상이면 초성 검색
+    private static boolean isChoseongQuery(String text) {
+        if (text.length() < 2) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!HangulUtils.isConsonant(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 단어 시작 위치마다 끝까지 ("스타벅스 강남점" -> 스타벅스강남점, 강남점)
+    private static List<String> keys(String name) {
+        List<String> keys = new ArrayList<>();
+        String[] words = name.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = HangulUtils.normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+            if (!key.isEmpty() && !keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 자동완성 후보 (음식점 또는 지역)
+     * - 지역 후보는 restaurantId가 null이고 reviewCount에 해당 지역 음식점 수를 담는다
+     */
+    public record Suggestion(Type type, Long restaurantId, String uuid, String name, Restaurant.Category category,
+                             String region, String district, String neighborhood,
+                             int reviewCount, double averageRating) {
+
+        public enum Type {
+            RESTAURANT, PLACE
+        }
+
+        // 같은 대상 판별 키 (음식점은 ID, 지역은 시/도|구|동)
+        Object target() {
+            return restaurantId != null ? restaurantId : region + "|" + district + "|" + neighborhood;
+        }
+    }
+
+    private static final class Children {
+        private static final Children EMPTY = new Children(new char[0], new Node[0]);
+
+        private final char[] keys;
+        private final Node[] nodes;
+
+        private Children(char[] keys, Node[] nodes) {
+            this.keys = keys;
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class Node {
+        private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+        // 자식 (키 정렬, 통째로 교체)
+        private volatile Children children = Children.EMPTY;
+        // 상위 후보 (캐시하지 않는 깊이는 null)
+        private volatile Suggestion[] top;
+        // 이 노드에서 끝나는 후보
+        private volatile Suggestion[] terminals = NO_SUGGESTIONS;
+
+        private Node() {
+            this.top = NO_SUGGESTIONS;
+        }
+
+        private Node(boolean cached) {
+            this.top = cached ? NO_SUGGESTIONS : null;
+        }
+
+        Node child(char key) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys, key);
+            return index >= 0 ? current.nodes[index] : null;
+        }
+
+        Node childOrCreate(char key, boolean cached) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys, key);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+            int insertAt = -index - 1;
+            char[] keys = new char[current.keys.length + 1];
+            Node[] nodes = new Node[current.nodes.length + 1];
+            System.arraycopy(current.keys, 0, keys, 0, insertAt);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertAt);
+            System.arraycopy(current.keys, insertAt, keys, insertAt + 1, current.keys.length - insertAt);
+            System.arraycopy(current.nodes, insertAt, nodes, insertAt + 1, current.nodes.length - insertAt);
+            Node child = new Node(cached);
+            keys[insertAt] = key;
+            nodes[insertAt] = child;
+            children = new Children(keys, nodes);
+            return child;
+        }
+
+        // 상위 후보에 반영 (같은 대상의 이전 후보는 교체)
+        void offer(Suggestion suggestion) {
+            Suggestion[] current = top;
+            if (current == null) {
+                return;
+            }
+            int existing = indexOf(current, suggestion);
+            if (existing >= 0) {
+                if (current[existing].equals(suggestion)) {
+                    return;
+                }
+                current = without(current, existing);
+            }
+            if (current.length == TOP_SIZE && RANKING.compare(suggestion, current[TOP_SIZE - 1]) >= 0) {
+                return;
+            }
+            int insertAt = 0;
+            while (insertAt < current.length && RANKING.compare(current[insertAt], suggestion) <= 0) {
+                insertAt++;
+            }
+            int length = Math.min(current.length + 1, TOP_SIZE);
+            Suggestion[] updated = new Suggestion[length];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = suggestion;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, length - insertAt - 1);
+            top = updated;
+        }
+
+        void addTerminal(Suggestion suggestion) {
+            Suggestion[] current = terminals;
+            int existing = indexOf(current, suggestion);
+            if (existing >= 0) {
+                Suggestion[] updated = current.clone();
+                updated[existing] = suggestion;
+                terminals = updated;
+                return;
+            }
+            Suggestion[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = suggestion;
+            terminals = updated;
+        }
+
+        private static int indexOf(Suggestion[] suggestions, Suggestion suggestion) {
+            for (int i = 0; i < suggestions.length; i++) {
+                if (suggestions[i].target().equals(suggestion.target())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static Suggestion[] without(Suggestion[] suggestions, int index) {
+            Suggestion[] result = new Suggestion[suggestions.length - 1];
+            System.arraycopy(suggestions, 0, result, 0, index);
+            System.arraycopy(suggestions, index + 1, result, index, suggestions.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.dto.RestaurantDto;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음식점/지역명 자동완성 서비스 (메모리 접두사 트라이)
+ *
+ * 응답은 트라이에 담긴 값만으로 만들어 DB를 조회하지 않는다.
+ * 음식점 등록/승인/거부는 커밋 이후 바로 반영하고, 리뷰 수·평점 순위와 지역 후보는 주기적인 재구성에서 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestaurantTypeaheadService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final int MAX_SIZE = 20;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private volatile RestaurantTypeaheadIndex index;
+    // 재구성 중인 색인 (적재 중 변경도 함께 반영)
+    private volatile RestaurantTypeaheadIndex building;
+
+    public List<RestaurantDto.AutocompleteResponse> autocomplete(String keyword, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return index().suggest(keyword, limit).stream()
+                .map(RestaurantTypeaheadService::toResponse)
+                .toList();
+    }
+
+    /**
+     * 음식점 등록/승인 상태 변경 반영 (커밋 이후)
+     */
+    public void onRestaurantChanged(Restaurant restaurant) {
+        long restaurantId = restaurant.getId();
+        RestaurantTypeaheadIndex.Suggestion suggestion = isVisible(restaurant.getApprovalStatus())
+                ? restaurantSuggestion(restaurantId, restaurant.getUuid(), restaurant.getName(), restaurant.getCategory(),
+                        restaurant.getRegion(), restaurant.getDistrict(), restaurant.getNeighborhood(),
+                        restaurant.getReviewCount(), restaurant.getAverageRating())
+                : null;
+        TransactionUtils.afterCommit(() -> {
+            apply(index, restaurantId, suggestion);
+            apply(building, restaurantId, suggestion);
+        });
+    }
+
+    /**
+     * DB에서 새 색인을 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        RestaurantTypeaheadIndex fresh = new RestaurantTypeaheadIndex();
+        building = fresh;
+        try {
+            List<RestaurantTypeaheadIndex.Suggestion> suggestions = new ArrayList<>();
+            // 시/도|구|동 -> 음식점 수
+            Map<List<String>, Integer> placeCounts = new HashMap<>();
+
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = restaurantRepository.findTypeaheadEntries(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    String region = (String) row[4];
+                    String district = (String) row[5];
+                    String neighborhood = (String) row[6];
+                    suggestions.add(restaurantSuggestion((Long) row[0], (String) row[1], (String) row[2],
+                            (Restaurant.Category) row[3], region, district, neighborhood,
+                            (Integer) row[7], (BigDecimal) row[8]));
+                    countPlaces(placeCounts, region, district, neighborhood);
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            placeCounts.forEach((place, count) -> suggestions.add(placeSuggestion(place, count)));
+            fresh.loadAll(suggestions);
+            fresh.completeLoading();
+            index = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("Restaurant typeahead index rebuilt: entries={}, elapsed={}ms",
+                fresh.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static RestaurantDto.AutocompleteResponse toResponse(RestaurantTypeaheadIndex.Suggestion suggestion) {
+        boolean restaurant = suggestion.type() == RestaurantTypeaheadIndex.Suggestion.Type.RESTAURANT;
+        return RestaurantDto.AutocompleteResponse.builder()
+                .type(suggestion.type().name())
+                .id(suggestion.restaurantId())
+                .uuid(suggestion.uuid())
+                .name(suggestion.name())
+                .category(suggestion.category() != null ? suggestion.category().name() : null)
+                .categoryDisplay(suggestion.category() != null ? suggestion.category().getDisplayName() : null)
+                .region(suggestion.region())
+                .district(suggestion.district())
+                .neighborhood(suggestion.neighborhood())
+                .count(suggestion.reviewCount())
+                .averageRating(restaurant ? suggestion.averageRating() : null)
+                .build();
+    }
+
+    // 색인이 아직 없으면 바로 구성
+    private RestaurantTypeaheadIndex index() {
+        RestaurantTypeaheadIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private static void countPlaces(Map<List<String>, Integer> placeCounts,
+                                    String region, String district, String neighborhood) {
+        if (region == null || region.isBlank()) {
+            return;
+        }
+        placeCounts.merge(List.of(region), 1, Integer::sum);
+        if (district != null && !district.isBlank()) {
+            placeCounts.merge(List.of(region, district), 1, Integer::sum);
+            if (neighborhood != null && !neighborhood.isBlank()) {
+                placeCounts.merge(List.of(region, district, neighborhood), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static RestaurantTypeaheadIndex.Suggestion restaurantSuggestion(
+            Long id, String uuid, String name, Restaurant.Category category,
+            String region, String district, String neighborhood, Integer reviewCount, BigDecimal averageRating) {
+        return new RestaurantTypeaheadIndex.Suggestion(RestaurantTypeaheadIndex.Suggestion.Type.RESTAURANT,
+                id, uuid, name, category, region, district, neighborhood,
+                reviewCount != null ? reviewCount : 0,
+                averageRating != null ? averageRating.doubleValue() : 0);
+    }
+
+    // 지역 후보 (이름은 가장 하위 지역명, 순위는 음식점 수)
+    private static RestaurantTypeaheadIndex.Suggestion placeSuggestion(List<String> place, int restaurantCount) {
+        return new RestaurantTypeaheadIndex.Suggestion(RestaurantTypeaheadIndex.Suggestion.Type.PLACE,
+                null, null, place.get(place.size() - 1), null,
+                place.get(0), place.size() > 1 ? place.get(1) : null, place.size() > 2 ? place.get(2) : null,
+                restaurantCount, 0);
+    }
+
+    private static void apply(RestaurantTypeaheadIndex target, long restaurantId,
+                              RestaurantTypeaheadIndex.Suggestion suggestion) {
+        if (target == null) {
+            return;
+        }
+        if (suggestion != null) {
+            target.put(suggestion);
+        } else {
+            target.remove(restaurantId);
+        }
+    }
+
+    private static boolean isVisible(RestaurantApprovalStatus status) {
+        return status == null || status == RestaurantApprovalStatus.APPROVED;
+    }
+}
@@ -3,6 +3,7 @@ package com.foodreview.domain.review.controller;
 import com.foodreview.domain.review.dto.CommentDto;
 import com.foodreview.domain.review.service.CommentService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.CursorPageResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CurrentUser;
 import com.foodreview.global.security.CustomUserDetails;
@@ -52,6 +53,20 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(comments)));
     }
 
+    @Operation(summary = "리뷰의 댓글 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (오래된순)")
+    @GetMapping("/reviews/{reviewId}/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentDto.Response>>> getCommentsByCursor(
+            @PathVariable Long reviewId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser CustomUserDetails userDetails) {
+
+        Long currentUserId = userDetails != null ? userDetails.getUser().getId() : null;
+        CursorPageResponse<CommentDto.Response> comments = commentService.getCommentsByCursor(reviewId, currentUserId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(comments));
+    }
+
     @Operation(summary = "대댓글 목록 조회")
     @GetMapping("/comments/{commentId}/replies")
     public ResponseEntity<ApiResponse<PageResponse<CommentDto.Response>>> getReplies(
@@ -67,6 +82,20 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(replies)));
     }
 
+    @Operation(summary = "대댓글 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (오래된순)")
+    @GetMapping("/comments/{commentId}/replies/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentDto.Response>>> getRepliesByCursor(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser CustomUserDetails userDetails) {
+
+        Long currentUserId = userDetails != null ? userDetails.getUser().getId() : null;
+        CursorPageResponse<CommentDto.Response> replies = commentService.getRepliesByCursor(commentId, currentUserId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(replies));
+    }
+
     @Operation(summary = "댓글 수정")
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<CommentDto.Response>> updateComment(
@@ -3,6 +3,7 @@ package com.foodreview.domain.review.controller;
 import com.foodreview.domain.review.dto.ReviewDto;
 import com.foodreview.domain.review.service.ReviewService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.CursorPageResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CurrentUser;
 import com.foodreview.global.security.CustomUserDetails;
@@ -42,6 +43,35 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "리뷰 목록 커서 조회 (무한 스크롤용)", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewDto.Response>>> getReviewsByCursor(
+            @RequestParam(name = "region", required = false) String region,
+            @RequestParam(name = "district", required = false) String district,
+            @RequestParam(name = "neighborhood", required = false) String neighborhood,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "followingOnly", required = false, defaultValue = "false") boolean followingOnly,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @CurrentUser CustomUserDetails userDetails) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        CursorPageResponse<ReviewDto.Response> response = reviewService.getReviewsByCursor(
+                region, district, neighborhood, category, userId, followingOnly, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "지금 뜨는 리뷰 조회", description = "최근 공감/댓글 활동 기준 (시간이 지날수록 감쇠)")
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<ReviewDto.Response>>> getTrendingReviews(
+            @RequestParam(name = "region", required = false) String region,
+            @RequestParam(name = "district", required = false) String district,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @CurrentUser CustomUserDetails userDetails) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        List<ReviewDto.Response> response = reviewService.getTrendingReviews(region, district, size, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "동별 리뷰 수 조회 (지도 마커용)")
     @GetMapping("/count-by-neighborhood")
     public ResponseEntity<ApiResponse<List<ReviewDto.NeighborhoodCount>>> getReviewCountByNeighborhood(
@@ -16,7 +16,7 @@ import java.util.List;
 public class ReviewDto {
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     public static class Response {
         private Long id;
@@ -79,6 +79,11 @@ public class ReviewDto {
                     .referenceCount(referenceCount)
                     .build();
         }
+
+        // 캐시된 공통 응답에 조회자별 공감 여부 적용 (원본은 공유되므로 복사본 반환)
+        public Response withViewerState(boolean hasSympathized) {
+            return toBuilder().hasSympathized(hasSympathized).build();
+        }
     }
 
     // 참고한 리뷰 정보
@@ -6,7 +6,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = {
+            @Index(name = "idx_comment_review_parent_created", columnList = "review_id, parent_id, created_at"),
+            @Index(name = "idx_comment_parent_created", columnList = "parent_id, created_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
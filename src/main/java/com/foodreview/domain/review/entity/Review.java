@@ -2,9 +2,13 @@ package com.foodreview.domain.review.entity;
 
 import com.foodreview.domain.common.BaseTimeEntity;
 import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.restaurant.entity.ReviewRatings;
 import com.foodreview.domain.user.entity.User;
+import com.foodreview.global.counter.PendingCounterListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -15,9 +19,19 @@ import java.util.List;
 @Table(name = "reviews",
         indexes = {
             @Index(name = "idx_review_restaurant_created", columnList = "restaurant_id, created_at DESC"),
-            @Index(name = "idx_review_user_created", columnList = "user_id, created_at DESC")
+            @Index(name = "idx_review_user_created", columnList = "user_id, created_at DESC"),
+            @Index(name = "idx_review_created", columnList = "created_at DESC"),
+            // 피드 필터용 (필터 컬럼 + 정렬 컬럼을 한 인덱스로 처리)
+            @Index(name = "idx_review_feed_region", columnList = "restaurant_region, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_category_region", columnList = "restaurant_category, restaurant_region, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_district", columnList = "restaurant_district, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_district_category", columnList = "restaurant_district, restaurant_category, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_neighborhood", columnList = "restaurant_neighborhood, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_neighborhood_category", columnList = "restaurant_neighborhood, restaurant_category, created_at DESC, id DESC"),
+            @Index(name = "idx_review_feed_category", columnList = "restaurant_category, created_at DESC, id DESC")
         }
 )
+@EntityListeners(PendingCounterListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,6 +50,24 @@ public class Review extends BaseTimeEntity {
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
+    // 피드 필터용 음식점 정보 비정규화 (음식점 조인 없이 인덱스로 필터 + 정렬)
+    @Column(name = "restaurant_region", length = 50)
+    private String restaurantRegion;
+
+    @Column(name = "restaurant_district", length = 50)
+    private String restaurantDistrict;
+
+    @Column(name = "restaurant_neighborhood", length = 50)
+    private String restaurantNeighborhood;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "restaurant_category", length = 20)
+    private Restaurant.Category restaurantCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "restaurant_approval_status", length = 20)
+    private RestaurantApprovalStatus restaurantApprovalStatus;
+
     @Column(nullable = false, length = 1000)
     private String content;
 
@@ -55,7 +87,9 @@ public class Review extends BaseTimeEntity {
     @Column(name = "service_rating", precision = 2, scale = 1)
     private BigDecimal serviceRating;
 
+    // 목록 조회 시 페이지 단위로 한 번에 로딩 (리뷰별 N+1 방지)
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "review_images", joinColumns = @JoinColumn(name = "review_id"))
     @Column(name = "image_url", length = 500)
     @Builder.Default
@@ -70,7 +104,8 @@ public class Review extends BaseTimeEntity {
     @Column(name = "visit_date")
     private LocalDate visitDate;
 
-    @Column(name = "sympathy_count", nullable = false)
+    // CounterBuffer의 증감 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "sympathy_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer sympathyCount = 0;
 
@@ -102,16 +137,41 @@ public class Review extends BaseTimeEntity {
     @Builder.Default
     private ReferenceType referenceType = ReferenceType.NONE;
 
-    // 공감 수 증가
-    public void addSympathy() {
-        this.sympathyCount++;
+    @PrePersist
+    public void prePersist() {
+        syncRestaurantProjection();
     }
 
-    // 공감 수 감소
-    public void removeSympathy() {
-        if (this.sympathyCount > 0) {
-            this.sympathyCount--;
+    // 음식점 필터 컬럼 동기화
+    public void syncRestaurantProjection() {
+        if (this.restaurant == null) {
+            return;
         }
+        this.restaurantRegion = this.restaurant.getRegion();
+        this.restaurantDistrict = this.restaurant.getDistrict();
+        this.restaurantNeighborhood = this.restaurant.getNeighborhood();
+        this.restaurantCategory = this.restaurant.getCategory();
+        this.restaurantApprovalStatus = this.restaurant.getApprovalStatus();
+    }
+
+    // 피드 노출 여부 (승인된 음식점, 또는 미승인이어도 조회자가 등록한 음식점)
+    public boolean isVisibleTo(Long viewerId) {
+        if (this.restaurantApprovalStatus == null || this.restaurantApprovalStatus == RestaurantApprovalStatus.APPROVED) {
+            return true;
+        }
+        User registeredBy = this.restaurant.getRegisteredBy();
+        return viewerId != null && registeredBy != null && viewerId.equals(registeredBy.getId());
+    }
+
+    // 아직 DB에 반영되지 않은 공감 수 증감 적용 (조회용)
+    public void applyPendingSympathy(long delta) {
+        this.sympathyCount = (int) Math.max(0, this.sympathyCount + delta);
+    }
+
+    // 별점 묶음 (음식점 별점 분포 반영용)
+    public ReviewRatings getRatings() {
+        return new ReviewRatings(this.rating, this.tasteRating, this.priceRating,
+                this.atmosphereRating, this.serviceRating);
     }
 
     // 리뷰 수정
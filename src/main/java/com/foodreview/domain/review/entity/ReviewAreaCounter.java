@@ -0,0 +1,45 @@
+package com.foodreview.domain.review.entity;
+
+import com.foodreview.domain.common.BaseTimeEntity;
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 지역별 리뷰 수 카운터 (지도 마커용)
+ * - 리뷰 작성/삭제, 음식점 승인 상태 변경 시 증감하고 매일 새벽 리뷰 테이블 기준으로 보정
+ * - 노출되는 리뷰(승인된 음식점)만 집계
+ * - district/neighborhood가 없으면 빈 문자열로 저장 (NULL은 유니크 키에서 중복 허용되므로)
+ */
+@Entity
+@Table(name = "review_area_counters",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_area_counter", columnNames = {"region", "district", "neighborhood", "category"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReviewAreaCounter extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String region;
+
+    @Column(nullable = false, length = 50)
+    private String district;
+
+    @Column(nullable = false, length = 50)
+    private String neighborhood;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Restaurant.Category category;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+}
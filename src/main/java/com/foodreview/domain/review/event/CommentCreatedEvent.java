@@ -0,0 +1,7 @@
+package com.foodreview.domain.review.event;
+
+/**
+ * 댓글 작성 이벤트 (리뷰 작성자 또는 부모 댓글 작성자 알림)
+ */
+public record CommentCreatedEvent(Long commentId, Long reviewId, Long userId, String userName,
+                                  Long recipientId, boolean reply) {}
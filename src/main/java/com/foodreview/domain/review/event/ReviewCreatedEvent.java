@@ -0,0 +1,6 @@
+package com.foodreview.domain.review.event;
+
+/**
+ * 리뷰 작성 이벤트 (작성자 점수, 배지)
+ */
+public record ReviewCreatedEvent(Long reviewId, Long userId, String restaurantName, boolean firstReview) {}
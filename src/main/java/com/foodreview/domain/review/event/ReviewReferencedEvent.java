@@ -0,0 +1,8 @@
+package com.foodreview.domain.review.event;
+
+/**
+ * 참고 리뷰 영향력 포인트 지급 이벤트 (참고된 사용자 점수, 알림, 배지)
+ */
+public record ReviewReferencedEvent(Long reviewId, Long reviewerId, String reviewerName, Long referenceUserId,
+                                    Long referenceRestaurantId, String restaurantName,
+                                    int influencePoints, boolean referenceFirstReview) {}
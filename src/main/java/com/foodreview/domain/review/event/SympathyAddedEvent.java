@@ -0,0 +1,8 @@
+package com.foodreview.domain.review.event;
+
+/**
+ * 공감 이벤트 (리뷰 작성자 점수, 알림, 배지)
+ * 공감한 사용자의 점수는 공감 시점 값으로 전달한다.
+ */
+public record SympathyAddedEvent(Long reviewId, Long restaurantId, Long reviewAuthorId,
+                                 Long userId, String userName, int userTasteScore) {}
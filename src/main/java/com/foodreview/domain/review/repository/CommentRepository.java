@@ -8,12 +8,25 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 리뷰의 최상위 댓글 조회 (부모가 없는 댓글) - User JOIN FETCH 추가
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.review = :review AND c.parent IS NULL ORDER BY c.createdAt ASC")
     Page<Comment> findByReviewAndParentIsNull(@Param("review") Review review, Pageable pageable);
 
+    // 리뷰의 최상위 댓글 조회 (커서 기반, 오래된순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.review = :review AND c.parent IS NULL " +
+           "AND (c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByReviewAndParentIsNullWithCursor(
+            @Param("review") Review review,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     // 리뷰의 전체 댓글 수 조회 (삭제되지 않은 댓글만)
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.review = :review AND c.isDeleted = false")
     long countByReviewAndNotDeleted(@Param("review") Review review);
@@ -22,6 +35,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.parent = :parent ORDER BY c.createdAt ASC")
     Page<Comment> findByParent(@Param("parent") Comment parent, Pageable pageable);
 
+    // 특정 댓글의 대댓글 조회 (커서 기반, 오래된순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.parent = :parent " +
+           "AND (c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByParentWithCursor(
+            @Param("parent") Comment parent,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     // 특정 댓글의 대댓글 수 조회
     long countByParent(Comment parent);
+
+    // 여러 댓글의 대댓글 수를 배치로 조회 (N+1 방지)
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countByParentIds(@Param("parentIds") List<Long> parentIds);
 }
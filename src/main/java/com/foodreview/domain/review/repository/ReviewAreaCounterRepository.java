@@ -0,0 +1,22 @@
+package com.foodreview.domain.review.repository;
+
+import com.foodreview.domain.review.entity.ReviewAreaCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewAreaCounterRepository extends JpaRepository<ReviewAreaCounter, Long> {
+
+    // 카운터 증감 (행이 없으면 생성, 음수로 내려가지 않도록 0에서 멈춤)
+    @Modifying
+    @Query(value = "INSERT INTO review_area_counters (region, district, neighborhood, category, review_count, created_at, updated_at) " +
+                   "VALUES (:region, :district, :neighborhood, :category, GREATEST(:delta, 0), NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE review_count = GREATEST(review_count + :delta, 0), updated_at = NOW(6)",
+           nativeQuery = true)
+    int increment(@Param("region") String region,
+                  @Param("district") String district,
+                  @Param("neighborhood") String neighborhood,
+                  @Param("category") String category,
+                  @Param("delta") long delta);
+}
@@ -0,0 +1,64 @@
+package com.foodreview.domain.review.repository;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰 피드 필터 조건
+ * - 지역 필터는 가장 세밀한 단위 하나만 적용 (동 > 구 > 시/도)
+ * - 팔로잉 피드는 작성자 ID 목록 + 카테고리만 적용
+ * - 조회자 기준 노출 조건(차단한 작성자 제외, 미승인 음식점 리뷰 숨김)도 쿼리에서 함께 적용해 페이지가 비지 않도록 한다
+ */
+@Getter
+@Builder(toBuilder = true, access = AccessLevel.PRIVATE)
+public class ReviewFeedCondition {
+
+    private final String region;
+    private final String district;
+    private final List<String> neighborhoods;
+    private final Restaurant.Category category;
+    private final List<Long> authorIds;
+    private final Long restaurantId;
+
+    // 제외할 작성자 ID (조회자가 차단한 사용자)
+    private final Collection<Long> excludedAuthorIds;
+    // 미승인 음식점이라도 이 사용자가 등록한 음식점의 리뷰는 노출
+    private final Long ownerUserId;
+
+    // 지역/카테고리 피드 (neighborhood는 콤마로 복수 지정 가능)
+    public static ReviewFeedCondition of(String region, String district, String neighborhood, Restaurant.Category category) {
+        if (neighborhood != null) {
+            return builder().neighborhoods(Arrays.asList(neighborhood.split(","))).category(category).build();
+        }
+        if (district != null) {
+            return builder().district(district).category(category).build();
+        }
+        return builder().region(region).category(category).build();
+    }
+
+    // 팔로잉 피드
+    public static ReviewFeedCondition following(List<Long> authorIds, Restaurant.Category category) {
+        return builder().authorIds(authorIds).category(category).build();
+    }
+
+    // 음식점별 리뷰
+    public static ReviewFeedCondition restaurant(Long restaurantId) {
+        return builder().restaurantId(restaurantId).build();
+    }
+
+    // 사용자별 리뷰
+    public static ReviewFeedCondition author(Long userId) {
+        return builder().authorIds(List.of(userId)).build();
+    }
+
+    // 조회자 기준 노출 조건 추가
+    public ReviewFeedCondition visibleTo(Collection<Long> excludedAuthorIds, Long ownerUserId) {
+        return toBuilder().excludedAuthorIds(excludedAuthorIds).ownerUserId(ownerUserId).build();
+    }
+}
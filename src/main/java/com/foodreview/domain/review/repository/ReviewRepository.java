@@ -1,92 +1,77 @@
 package com.foodreview.domain.review.repository;
 
 import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
 import com.foodreview.domain.review.entity.ReceiptVerificationStatus;
 import com.foodreview.domain.review.entity.Review;
 import com.foodreview.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface ReviewRepository extends JpaRepository<Review, Long> {
-
-    // 사용자별 리뷰 조회
-    Page<Review> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
-
-    // 음식점별 리뷰 조회
-    Page<Review> findByRestaurantOrderByCreatedAtDesc(Restaurant restaurant, Pageable pageable);
-
-    // 지역별 리뷰 조회 (최신순) - region이 "서울"이면 "서울 강남구" 등도 매칭
-    @Query("SELECT r FROM Review r WHERE r.restaurant.region LIKE :region% ORDER BY r.createdAt DESC")
-    Page<Review> findByRegion(@Param("region") String region, Pageable pageable);
-
-    // 카테고리별 리뷰 조회
-    @Query("SELECT r FROM Review r WHERE r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByCategory(@Param("category") Restaurant.Category category, Pageable pageable);
-
-    // 지역 + 카테고리 필터
-    @Query("SELECT r FROM Review r WHERE r.restaurant.region LIKE :region% AND r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByRegionAndCategory(
-            @Param("region") String region,
-            @Param("category") Restaurant.Category category,
-            Pageable pageable);
-
-    // 전체 리뷰 조회 (최신순)
-    Page<Review> findAllByOrderByCreatedAtDesc(Pageable pageable);
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
 
     // 음식점에 사용자가 이미 리뷰를 작성했는지 확인
     boolean existsByUserAndRestaurant(User user, Restaurant restaurant);
 
-    // 동(neighborhood) 단위 필터링 - 단일 동
-    @Query("SELECT r FROM Review r WHERE r.restaurant.neighborhood = :neighborhood ORDER BY r.createdAt DESC")
-    Page<Review> findByNeighborhood(@Param("neighborhood") String neighborhood, Pageable pageable);
-
-    // 동 + 카테고리 필터링 - 단일 동
-    @Query("SELECT r FROM Review r WHERE r.restaurant.neighborhood = :neighborhood AND r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByNeighborhoodAndCategory(
-            @Param("neighborhood") String neighborhood,
-            @Param("category") Restaurant.Category category,
-            Pageable pageable);
-
-    // 동(neighborhood) 단위 필터링 - 복수 동 (IN 절)
-    @Query("SELECT r FROM Review r WHERE r.restaurant.neighborhood IN :neighborhoods ORDER BY r.createdAt DESC")
-    Page<Review> findByNeighborhoodIn(@Param("neighborhoods") List<String> neighborhoods, Pageable pageable);
-
-    // 동 + 카테고리 필터링 - 복수 동 (IN 절)
-    @Query("SELECT r FROM Review r WHERE r.restaurant.neighborhood IN :neighborhoods AND r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByNeighborhoodInAndCategory(
-            @Param("neighborhoods") List<String> neighborhoods,
-            @Param("category") Restaurant.Category category,
-            Pageable pageable);
-
-    // 구(district) 단위 필터링
-    @Query("SELECT r FROM Review r WHERE r.restaurant.district = :district ORDER BY r.createdAt DESC")
-    Page<Review> findByDistrict(@Param("district") String district, Pageable pageable);
-
-    // 구 + 카테고리 필터링
-    @Query("SELECT r FROM Review r WHERE r.restaurant.district = :district AND r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByDistrictAndCategory(
+    // 지역/카테고리별 노출 리뷰 수 집계 (지도 카운터 보정용)
+    @Query("SELECT r.restaurantRegion, r.restaurantDistrict, r.restaurantNeighborhood, r.restaurantCategory, COUNT(r) " +
+           "FROM Review r WHERE r.restaurantRegion IS NOT NULL AND r.restaurantCategory IS NOT NULL " +
+           "AND (r.restaurantApprovalStatus IS NULL " +
+           "OR r.restaurantApprovalStatus = com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus.APPROVED) " +
+           "GROUP BY r.restaurantRegion, r.restaurantDistrict, r.restaurantNeighborhood, r.restaurantCategory")
+    List<Object[]> countVisibleByArea();
+
+    // 음식점별 리뷰 수 (승인 상태 변경 시 카운터 증감용)
+    long countByRestaurantId(Long restaurantId);
+
+    // 음식점별 리뷰 별점 (음식점 별점 분포 재구성용)
+    @Query("SELECT r.restaurant.id, r.rating, r.tasteRating, r.priceRating, r.atmosphereRating, r.serviceRating " +
+           "FROM Review r WHERE r.restaurant.id IN :restaurantIds")
+    List<Object[]> findRatingsByRestaurantIds(@Param("restaurantIds") List<Long> restaurantIds);
+
+    // 음식점 정보 변경 시 리뷰 피드 필터 컬럼 동기화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Review r SET r.restaurantRegion = :region, r.restaurantDistrict = :district, " +
+           "r.restaurantNeighborhood = :neighborhood, r.restaurantCategory = :category, " +
+           "r.restaurantApprovalStatus = :approvalStatus " +
+           "WHERE r.restaurant.id = :restaurantId")
+    int syncRestaurantProjection(
+            @Param("restaurantId") Long restaurantId,
+            @Param("region") String region,
             @Param("district") String district,
+            @Param("neighborhood") String neighborhood,
             @Param("category") Restaurant.Category category,
-            Pageable pageable);
-
-    // 동별 리뷰 수 집계 (지도 마커용)
-    @Query("SELECT r.restaurant.neighborhood, COUNT(r) FROM Review r " +
-           "WHERE r.restaurant.region = :region AND r.restaurant.district = :district " +
-           "AND r.restaurant.neighborhood IS NOT NULL " +
-           "GROUP BY r.restaurant.neighborhood")
-    List<Object[]> countByNeighborhood(@Param("region") String region, @Param("district") String district);
-
-    // 구별 리뷰 수 집계
-    @Query("SELECT r.restaurant.district, COUNT(r) FROM Review r " +
-           "WHERE r.restaurant.region = :region " +
-           "AND r.restaurant.district IS NOT NULL " +
-           "GROUP BY r.restaurant.district")
-    List<Object[]> countByDistrict(@Param("region") String region);
+            @Param("approvalStatus") RestaurantApprovalStatus approvalStatus);
+
+    // 피드 필터 컬럼이 비어 있는 기존 리뷰 일괄 채움
+    @Modifying
+    @Query(value = "UPDATE reviews r JOIN restaurants rs ON rs.id = r.restaurant_id " +
+                   "SET r.restaurant_region = rs.region, r.restaurant_district = rs.district, " +
+                   "r.restaurant_neighborhood = rs.neighborhood, r.restaurant_category = rs.category, " +
+                   "r.restaurant_approval_status = rs.approval_status " +
+                   "WHERE r.restaurant_region IS NULL",
+           nativeQuery = true)
+    int backfillRestaurantProjection();
+
+    // 음식점 현재 값과 다른 피드 필터 컬럼 보정 (앱 밖에서 음식점이 바뀐 경우, 음식점 ID 구간 단위)
+    @Modifying
+    @Query(value = "UPDATE reviews r JOIN restaurants rs ON rs.id = r.restaurant_id " +
+                   "SET r.restaurant_region = rs.region, r.restaurant_district = rs.district, " +
+                   "r.restaurant_neighborhood = rs.neighborhood, r.restaurant_category = rs.category, " +
+                   "r.restaurant_approval_status = rs.approval_status " +
+                   "WHERE r.restaurant_id BETWEEN :fromId AND :toId " +
+                   "AND NOT (r.restaurant_region <=> rs.region AND r.restaurant_district <=> rs.district " +
+                   "AND r.restaurant_neighborhood <=> rs.neighborhood AND r.restaurant_category <=> rs.category " +
+                   "AND r.restaurant_approval_status <=> rs.approval_status)",
+           nativeQuery = true)
+    int reconcileRestaurantProjection(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
     // 영수증 검증 상태별 리뷰 조회 (Admin용)
     @Query("SELECT r FROM Review r WHERE r.receiptVerificationStatus = :status ORDER BY r.createdAt DESC")
@@ -98,16 +83,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT COUNT(r) FROM Review r WHERE r.receiptVerificationStatus = :status")
     long countByReceiptVerificationStatus(@Param("status") ReceiptVerificationStatus status);
 
-    // 팔로잉 사용자의 리뷰 조회
-    @Query("SELECT r FROM Review r WHERE r.user.id IN :userIds ORDER BY r.createdAt DESC")
-    Page<Review> findByUserIdIn(@Param("userIds") List<Long> userIds, Pageable pageable);
-
-    // 팔로잉 사용자의 리뷰 조회 + 카테고리 필터
-    @Query("SELECT r FROM Review r WHERE r.user.id IN :userIds AND r.restaurant.category = :category ORDER BY r.createdAt DESC")
-    Page<Review> findByUserIdInAndCategory(
-            @Param("userIds") List<Long> userIds,
-            @Param("category") Restaurant.Category category,
-            Pageable pageable);
+    // ID 목록으로 리뷰 조회 (작성자/음식점 fetch join, 타임라인 피드용)
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.restaurant WHERE r.id IN :ids")
+    List<Review> findAllWithUserAndRestaurantByIdIn(@Param("ids") List<Long> ids);
 
     // 같은 음식점에 리뷰를 작성한 다른 사용자 목록 + 공통 음식점 수 (나 자신 제외)
     @Query("SELECT r2.user.id, COUNT(DISTINCT r2.restaurant.id) as commonCount " +
@@ -139,7 +117,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Long> findReviewerIdsByRestaurantId(@Param("restaurantId") Long restaurantId);
 
     // 취향 분석용 리뷰 데이터 조회 (배치용)
-    @Query("SELECT r.restaurant.id, r.restaurant.category, r.rating, r.createdAt, r.visitDate, r.content, r.priceRating " +
+    @Query("SELECT r.restaurant.id, r.restaurantCategory, r.rating, r.createdAt, r.visitDate, r.content, r.priceRating " +
            "FROM Review r " +
            "WHERE r.user.id = :userId AND r.createdAt >= :since " +
            "ORDER BY r.createdAt DESC")
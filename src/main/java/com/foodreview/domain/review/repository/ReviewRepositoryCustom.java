@@ -0,0 +1,17 @@
+package com.foodreview.domain.review.repository;
+
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.global.common.PageCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+
+    // 리뷰 피드 페이지 조회 (조건 조합과 무관하게 목록 1회 + COUNT 1회, 작성자/음식점 fetch join)
+    Page<Review> findFeed(ReviewFeedCondition condition, Pageable pageable);
+
+    // 리뷰 피드 커서 조회 (최신순, OFFSET/COUNT 없이 limit건)
+    List<Review> findFeedByCursor(ReviewFeedCondition condition, PageCursor cursor, int limit);
+}
@@ -0,0 +1,143 @@
+package com.foodreview.domain.review.repository;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.global.common.PageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리뷰 피드 동적 쿼리
+ * - 지역/카테고리/작성자/음식점 조건을 조합해 하나의 쿼리로 생성 (조건별 리포지토리 메서드 없이)
+ * - 차단 작성자/미승인 음식점 필터도 쿼리에 포함 (조회 후 걸러내면 페이지가 비고 전체 건수가 맞지 않음)
+ * - 작성자/음식점은 fetch join으로 함께 조회하고, 이미지는 Review.images의 배치 로딩으로 1회 조회
+ */
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Review> findFeed(ReviewFeedCondition condition, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Review> query = cb.createQuery(Review.class);
+        Root<Review> review = query.from(Review.class);
+        fetchAssociations(review);
+        query.select(review)
+                .where(buildPredicates(cb, query, review, condition).toArray(new Predicate[0]))
+                .orderBy(cb.desc(review.get("createdAt")), cb.desc(review.get("id")));
+
+        List<Review> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 필터 컬럼이 모두 리뷰 테이블에 있으므로 COUNT는 조인 없이 수행
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Review> countRoot = countQuery.from(Review.class);
+        countQuery.select(cb.count(countRoot))
+                .where(buildPredicates(cb, countQuery, countRoot, condition).toArray(new Predicate[0]));
+        Long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<Review> findFeedByCursor(ReviewFeedCondition condition, PageCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Review> query = cb.createQuery(Review.class);
+        Root<Review> review = query.from(Review.class);
+        fetchAssociations(review);
+
+        List<Predicate> predicates = buildPredicates(cb, query, review, condition);
+        Path<LocalDateTime> createdAt = review.get("createdAt");
+        Path<Long> id = review.get("id");
+
+        // 키셋 조건: (createdAt, id) < (cursor.createdAt, cursor.id)
+        predicates.add(cb.or(
+                cb.lessThan(createdAt, cursor.getCreatedAt()),
+                cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.lessThan(id, cursor.getId()))
+        ));
+
+        query.select(review)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 응답 변환에 필요한 연관 엔티티를 목록 쿼리에서 함께 조회 (N+1 방지)
+    private void fetchAssociations(Root<Review> review) {
+        review.fetch("user");
+        review.fetch("restaurant");
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<Review> review,
+                                            ReviewFeedCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.getAuthorIds() != null) {
+            predicates.add(review.get("user").get("id").in(condition.getAuthorIds()));
+        }
+        if (condition.getRestaurantId() != null) {
+            predicates.add(cb.equal(review.get("restaurant").get("id"), condition.getRestaurantId()));
+        }
+        if (condition.getExcludedAuthorIds() != null && !condition.getExcludedAuthorIds().isEmpty()) {
+            predicates.add(cb.not(review.get("user").get("id").in(condition.getExcludedAuthorIds())));
+        }
+        predicates.add(approvalPredicate(cb, query, review, condition.getOwnerUserId()));
+
+        // 음식점 조인 없이 비정규화된 필터 컬럼 사용
+        if (condition.getNeighborhoods() != null) {
+            if (condition.getNeighborhoods().size() > 1) {
+                predicates.add(review.get("restaurantNeighborhood").in(condition.getNeighborhoods()));
+            } else {
+                predicates.add(cb.equal(review.get("restaurantNeighborhood"), condition.getNeighborhoods().get(0)));
+            }
+        } else if (condition.getDistrict() != null) {
+            predicates.add(cb.equal(review.get("restaurantDistrict"), condition.getDistrict()));
+        } else if (condition.getRegion() != null) {
+            // region이 "서울"이면 "서울 강남구" 등도 매칭
+            predicates.add(cb.like(review.<String>get("restaurantRegion"), condition.getRegion() + "%"));
+        }
+        if (condition.getCategory() != null) {
+            predicates.add(cb.equal(review.get("restaurantCategory"), condition.getCategory()));
+        }
+
+        return predicates;
+    }
+
+    // 승인된(또는 승인 절차 이전) 음식점 리뷰만 노출, 단 ownerUserId가 등록한 음식점은 미승인이어도 노출
+    private Predicate approvalPredicate(CriteriaBuilder cb, AbstractQuery<?> query, Root<Review> review, Long ownerUserId) {
+        Path<RestaurantApprovalStatus> status = review.get("restaurantApprovalStatus");
+        Predicate approved = cb.or(cb.isNull(status), cb.equal(status, RestaurantApprovalStatus.APPROVED));
+        if (ownerUserId == null) {
+            return approved;
+        }
+
+        // 음식점 조인 대신 본인 등록 음식점 ID 서브쿼리 (대상이 적고 COUNT 쿼리에도 조인이 생기지 않음)
+        Subquery<Long> ownRestaurants = query.subquery(Long.class);
+        Root<Restaurant> restaurant = ownRestaurants.from(Restaurant.class);
+        ownRestaurants.select(restaurant.get("id"))
+                .where(cb.equal(restaurant.get("registeredBy").get("id"), ownerUserId));
+        return cb.or(approved, review.get("restaurant").get("id").in(ownRestaurants));
+    }
+}
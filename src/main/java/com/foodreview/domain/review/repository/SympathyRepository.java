@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface SympathyRepository extends JpaRepository<Sympathy, Long> {
     @Query("SELECT s.review.id FROM Sympathy s WHERE s.user.id = :userId")
     List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
 
+    // 주어진 리뷰 중 사용자가 공감한 리뷰 ID (페이지 단위 조회)
+    @Query("SELECT s.review.id FROM Sympathy s WHERE s.user.id = :userId AND s.review.id IN :reviewIds")
+    List<Long> findReviewIdsByUserIdAndReviewIdIn(@Param("userId") Long userId,
+                                                  @Param("reviewIds") Collection<Long> reviewIds);
+
     // 내가 공감한 리뷰의 작성자 + 공감 횟수 (나 자신 제외)
     @Query("SELECT s.review.user.id, COUNT(s.review.user.id) as sympathyCount " +
            "FROM Sympathy s " +
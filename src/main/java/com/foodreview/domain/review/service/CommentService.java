@@ -1,22 +1,29 @@
 package com.foodreview.domain.review.service;
 
-import com.foodreview.domain.notification.entity.Notification;
-import com.foodreview.domain.notification.service.NotificationService;
 import com.foodreview.domain.review.dto.CommentDto;
 import com.foodreview.domain.review.entity.Comment;
 import com.foodreview.domain.review.entity.Review;
+import com.foodreview.domain.review.event.CommentCreatedEvent;
 import com.foodreview.domain.review.repository.CommentRepository;
 import com.foodreview.domain.review.repository.ReviewRepository;
+import com.foodreview.domain.trending.service.TrendingService;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.CursorPageResponse;
+import com.foodreview.global.common.PageCursor;
 import com.foodreview.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,7 +32,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 작성
@@ -62,29 +70,12 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        trendingService.recordComment(review);
 
-        // 알림 생성 (commentId 포함하여 푸시 알림 클릭 시 해당 댓글로 이동)
-        if (parent != null) {
-            // 대댓글인 경우: 부모 댓글 작성자에게 알림
-            notificationService.createNotification(
-                    parent.getUser(),
-                    user,
-                    Notification.NotificationType.REPLY,
-                    String.format("%s님이 회원님의 댓글에 답글을 남겼습니다.", user.getName()),
-                    reviewId,
-                    savedComment.getId()
-            );
-        } else {
-            // 일반 댓글인 경우: 리뷰 작성자에게 알림
-            notificationService.createNotification(
-                    review.getUser(),
-                    user,
-                    Notification.NotificationType.COMMENT,
-                    String.format("%s님이 회원님의 리뷰에 댓글을 남겼습니다.", user.getName()),
-                    reviewId,
-                    savedComment.getId()
-            );
-        }
+        // 알림 대상: 대댓글이면 부모 댓글 작성자, 일반 댓글이면 리뷰 작성자 (알림은 커밋 이후 핸들러에서 처리)
+        User recipient = parent != null ? parent.getUser() : review.getUser();
+        eventPublisher.publishEvent(new CommentCreatedEvent(
+                savedComment.getId(), reviewId, user.getId(), user.getName(), recipient.getId(), parent != null));
 
         return CommentDto.Response.from(savedComment, user.getId(), 0);
     }
@@ -104,6 +95,29 @@ public class CommentService {
         });
     }
 
+    /**
+     * 리뷰의 댓글 목록 커서 조회 (최상위 댓글만, COUNT 쿼리 없음)
+     */
+    public CursorPageResponse<CommentDto.Response> getCommentsByCursor(Long reviewId, Long currentUserId, String cursor, int size) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new CustomException("리뷰를 찾을 수 없습니다", HttpStatus.NOT_FOUND, "REVIEW_NOT_FOUND"));
+
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrEarliest(cursor);
+        List<Comment> comments = commentRepository.findByReviewAndParentIsNullWithCursor(
+                review, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+
+        return CursorPageResponse.of(comments, pageSize,
+                comment -> PageCursor.of(comment.getCreatedAt(), comment.getId()),
+                pageComments -> {
+                    Map<Long, Integer> replyCountMap = getReplyCountMap(pageComments);
+                    return pageComments.stream()
+                            .map(comment -> CommentDto.Response.from(comment, currentUserId,
+                                    replyCountMap.getOrDefault(comment.getId(), 0)))
+                            .toList();
+                });
+    }
+
     /**
      * 대댓글 목록 조회
      */
@@ -116,6 +130,25 @@ public class CommentService {
         return replies.map(reply -> CommentDto.Response.from(reply, currentUserId, 0));
     }
 
+    /**
+     * 대댓글 목록 커서 조회
+     */
+    public CursorPageResponse<CommentDto.Response> getRepliesByCursor(Long commentId, Long currentUserId, String cursor, int size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CustomException("댓글을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "COMMENT_NOT_FOUND"));
+
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrEarliest(cursor);
+        List<Comment> replies = commentRepository.findByParentWithCursor(
+                parent, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+
+        return CursorPageResponse.of(replies, pageSize,
+                reply -> PageCursor.of(reply.getCreatedAt(), reply.getId()),
+                pageReplies -> pageReplies.stream()
+                        .map(reply -> CommentDto.Response.from(reply, currentUserId, 0))
+                        .toList());
+    }
+
     /**
      * 댓글 수정
      */
@@ -188,4 +221,17 @@ public class CommentService {
 
         return commentRepository.countByReviewAndNotDeleted(review);
     }
+
+    // 댓글 목록의 대댓글 수 배치 조회 (1개 쿼리)
+    private Map<Long, Integer> getReplyCountMap(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        return commentRepository.countByParentIds(commentIds).stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> ((Number) row[1]).intValue()
+                ));
+    }
 }
@@ -0,0 +1,65 @@
+package com.foodreview.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지역별 리뷰 수 카운터 스케줄러
+ * - 메모리 스냅샷 주기 재적재
+ * - 매일 새벽 리뷰 테이블 기준 정합성 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewAreaCounterScheduler {
+
+    private final ReviewAreaCounterService reviewAreaCounterService;
+
+    /**
+     * 서버 시작 직후 및 1분마다 스냅샷 재적재
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void reloadSnapshot() {
+        try {
+            reviewAreaCounterService.reload();
+        } catch (Exception e) {
+            log.error("Review area counter reload failed", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 10분에 카운터 보정
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    public void reconcileCounters() {
+        log.info("Review area counter reconciliation started (scheduled)");
+        reconcile();
+    }
+
+    /**
+     * 서버 시작 후 1분 뒤 카운터가 비어 있으면 초기 구성
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = Long.MAX_VALUE)
+    public void buildInitialCounters() {
+        if (!reviewAreaCounterService.isEmpty()) {
+            return;
+        }
+        log.info("Review area counter reconciliation started (initial run)");
+        reconcile();
+    }
+
+    private void reconcile() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int corrected = reviewAreaCounterService.reconcile();
+            reviewAreaCounterService.reload();
+            log.info("Review area counter reconciliation completed: corrected={}, elapsed={}ms",
+                    corrected, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Review area counter reconciliation failed", e);
+        }
+    }
+}
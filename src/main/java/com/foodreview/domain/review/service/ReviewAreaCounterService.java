@@ -0,0 +1,207 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.review.dto.ReviewDto;
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.domain.review.entity.ReviewAreaCounter;
+import com.foodreview.domain.review.repository.ReviewAreaCounterRepository;
+import com.foodreview.domain.review.repository.ReviewRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지역별 리뷰 수 카운터 서비스 (지도 마커용)
+ *
+ * 리뷰 작성/삭제, 음식점 승인 상태 변경 시 카운터 테이블을 증감하고,
+ * 지도 API는 메모리 스냅샷(시/도 > 구 > 동, 카테고리 합산)에서 바로 응답한다.
+ * 스냅샷은 커밋 이후 증감을 즉시 반영하고 주기적으로 테이블에서 다시 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewAreaCounterService {
+
+    private static final String NONE = "";
+
+    private final ReviewAreaCounterRepository reviewAreaCounterRepository;
+    private final ReviewRepository reviewRepository;
+
+    // region -> district -> neighborhood -> 리뷰 수
+    private volatile Map<String, Map<String, Map<String, AtomicLong>>> snapshot;
+
+    // 동별 리뷰 수 (구 단위)
+    public List<ReviewDto.NeighborhoodCount> getNeighborhoodCounts(String region, String district) {
+        Map<String, AtomicLong> neighborhoods = snapshot()
+                .getOrDefault(region, Map.of())
+                .getOrDefault(normalize(district), Map.of());
+
+        List<ReviewDto.NeighborhoodCount> result = new ArrayList<>();
+        neighborhoods.forEach((neighborhood, count) -> {
+            long value = count.get();
+            if (!NONE.equals(neighborhood) && value > 0) {
+                result.add(new ReviewDto.NeighborhoodCount(neighborhood, value));
+            }
+        });
+        result.sort(Comparator.comparing(ReviewDto.NeighborhoodCount::getNeighborhood));
+        return result;
+    }
+
+    // 구별 리뷰 수 (시/도 단위)
+    public List<ReviewDto.DistrictCount> getDistrictCounts(String region) {
+        List<ReviewDto.DistrictCount> result = new ArrayList<>();
+        snapshot().getOrDefault(region, Map.of()).forEach((district, neighborhoods) -> {
+            long total = neighborhoods.values().stream().mapToLong(AtomicLong::get).sum();
+            if (!NONE.equals(district) && total > 0) {
+                result.add(new ReviewDto.DistrictCount(district, total));
+            }
+        });
+        result.sort(Comparator.comparing(ReviewDto.DistrictCount::getDistrict));
+        return result;
+    }
+
+    /**
+     * 리뷰 작성 반영 (음식점 필터 컬럼이 채워진 저장 이후 호출)
+     */
+    @Transactional
+    public void onReviewCreated(Review review) {
+        if (isVisible(review.getRestaurantApprovalStatus())) {
+            apply(review.getRestaurantRegion(), review.getRestaurantDistrict(),
+                    review.getRestaurantNeighborhood(), review.getRestaurantCategory(), 1);
+        }
+    }
+
+    @Transactional
+    public void onReviewDeleted(Review review) {
+        if (isVisible(review.getRestaurantApprovalStatus())) {
+            apply(review.getRestaurantRegion(), review.getRestaurantDistrict(),
+                    review.getRestaurantNeighborhood(), review.getRestaurantCategory(), -1);
+        }
+    }
+
+    /**
+     * 음식점 승인 상태 변경 반영 (노출 여부가 바뀐 경우 해당 음식점 리뷰 수만큼 증감)
+     */
+    @Transactional
+    public void onRestaurantApprovalChanged(Restaurant restaurant, RestaurantApprovalStatus previousStatus) {
+        boolean wasVisible = isVisible(previousStatus);
+        boolean visible = isVisible(restaurant.getApprovalStatus());
+        if (wasVisible == visible) {
+            return;
+        }
+        long reviewCount = reviewRepository.countByRestaurantId(restaurant.getId());
+        if (reviewCount == 0) {
+            return;
+        }
+        apply(restaurant.getRegion(), restaurant.getDistrict(), restaurant.getNeighborhood(),
+                restaurant.getCategory(), visible ? reviewCount : -reviewCount);
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 카운터 보정 (어긋난 행 수 반환)
+     *
+     * 리뷰 수와 카운터 값을 같은 트랜잭션 스냅샷에서 읽고, 차이(expected - seen)만큼 증감으로 반영한다.
+     * 절대값으로 덮어쓰지 않으므로 읽은 이후 커밋된 리뷰 작성/삭제 증감이 사라지지 않는다.
+     */
+    @Transactional
+    public int reconcile() {
+        Map<String, Long> actual = new HashMap<>();
+        Map<String, Object[]> areas = new HashMap<>();
+        for (Object[] row : reviewRepository.countVisibleByArea()) {
+            String key = key((String) row[0], (String) row[1], (String) row[2], (Restaurant.Category) row[3]);
+            actual.merge(key, (Long) row[4], Long::sum);
+            areas.putIfAbsent(key, row);
+        }
+
+        int corrected = 0;
+        for (ReviewAreaCounter counter : reviewAreaCounterRepository.findAll()) {
+            String key = key(counter.getRegion(), counter.getDistrict(), counter.getNeighborhood(), counter.getCategory());
+            long expected = actual.getOrDefault(key, 0L);
+            areas.remove(key);
+            long seen = counter.getReviewCount();
+            if (seen != expected) {
+                reviewAreaCounterRepository.increment(counter.getRegion(), normalize(counter.getDistrict()),
+                        normalize(counter.getNeighborhood()), counter.getCategory().name(), expected - seen);
+                corrected++;
+            }
+        }
+
+        // 카운터 행이 없는 지역 (그 사이 증감으로 행이 생겼으면 그 값에 더함)
+        for (Map.Entry<String, Object[]> entry : areas.entrySet()) {
+            Object[] row = entry.getValue();
+            reviewAreaCounterRepository.increment((String) row[0], normalize((String) row[1]),
+                    normalize((String) row[2]), ((Restaurant.Category) row[3]).name(), actual.get(entry.getKey()));
+            corrected++;
+        }
+        return corrected;
+    }
+
+    /**
+     * 카운터 테이블에서 스냅샷 재적재
+     */
+    public void reload() {
+        Map<String, Map<String, Map<String, AtomicLong>>> loaded = new ConcurrentHashMap<>();
+        for (ReviewAreaCounter counter : reviewAreaCounterRepository.findAll()) {
+            counterOf(loaded, counter.getRegion(), counter.getDistrict(), counter.getNeighborhood())
+                    .addAndGet(counter.getReviewCount());
+        }
+        snapshot = loaded;
+    }
+
+    public boolean isEmpty() {
+        return reviewAreaCounterRepository.count() == 0;
+    }
+
+    private void apply(String region, String district, String neighborhood, Restaurant.Category category, long delta) {
+        if (region == null || category == null) {
+            return;
+        }
+        reviewAreaCounterRepository.increment(region, normalize(district), normalize(neighborhood), category.name(), delta);
+        TransactionUtils.afterCommit(() -> {
+            Map<String, Map<String, Map<String, AtomicLong>>> current = snapshot;
+            if (current != null) {
+                counterOf(current, region, district, neighborhood).addAndGet(delta);
+            }
+        });
+    }
+
+    private Map<String, Map<String, Map<String, AtomicLong>>> snapshot() {
+        Map<String, Map<String, Map<String, AtomicLong>>> current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static AtomicLong counterOf(Map<String, Map<String, Map<String, AtomicLong>>> map,
+                                        String region, String district, String neighborhood) {
+        return map.computeIfAbsent(region, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(normalize(district), d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(normalize(neighborhood), n -> new AtomicLong());
+    }
+
+    private static boolean isVisible(RestaurantApprovalStatus status) {
+        return status == null || status == RestaurantApprovalStatus.APPROVED;
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value : NONE;
+    }
+
+    private static String key(String region, String district, String neighborhood, Restaurant.Category category) {
+        return region + "|" + normalize(district) + "|" + normalize(neighborhood) + "|" + category;
+    }
+}
@@ -0,0 +1,70 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.review.dto.ReviewDto;
+import com.foodreview.global.util.LocalCache;
+import com.foodreview.global.util.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 리뷰 상세 캐시
+ *
+ * 조회자와 무관한 상세 응답(리뷰, 작성자/음식점 요약, 참고 정보, 참고된 횟수)만 보관하고,
+ * 공감 여부 같은 조회자별 값은 꺼낼 때 덧씌운다. 수정/삭제/공감/참고 변경 커밋 이후 무효화한다.
+ * 작성자 프로필/점수 변경은 무효화하지 않으므로 짧은 TTL로 반영 지연을 제한한다.
+ * 무효화보다 먼저 시작한 적재 결과는 리뷰별 버전(ID 해시 구간)을 비교해 캐시에 넣지 않는다.
+ */
+@Component
+public class ReviewDetailCache {
+
+    private static final int MAX_CACHED_REVIEWS = 5_000;
+    private static final long CACHE_TTL_MILLIS = 60 * 1000L;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final LocalCache<Long, ReviewDto.Response> cache = new LocalCache<>(MAX_CACHED_REVIEWS, CACHE_TTL_MILLIS);
+    // 무효화 버전 (리뷰 ID 해시 구간별)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * 캐시된 상세 응답 조회 (없으면 loader로 적재)
+     */
+    public ReviewDto.Response get(Long reviewId, Function<Long, ReviewDto.Response> loader) {
+        ReviewDto.Response cached = cache.get(reviewId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripeOf(reviewId);
+        long version = versions.get(stripe);
+        ReviewDto.Response loaded = loader.apply(reviewId);
+        if (loaded != null) {
+            synchronized (this) {
+                // 적재 중 무효화가 있었으면 캐시하지 않음
+                if (versions.get(stripe) == version) {
+                    cache.put(reviewId, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 리뷰 변경 반영 (커밋 이후 무효화)
+     */
+    public void evict(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> invalidate(reviewId));
+    }
+
+    private synchronized void invalidate(long reviewId) {
+        versions.incrementAndGet(stripeOf(reviewId));
+        cache.invalidate(reviewId);
+    }
+
+    private static int stripeOf(long reviewId) {
+        return (int) ((reviewId ^ (reviewId >>> 32)) & (VERSION_STRIPES - 1));
+    }
+}
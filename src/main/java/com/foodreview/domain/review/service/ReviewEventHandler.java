@@ -0,0 +1,151 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.badge.service.BadgeService;
+import com.foodreview.domain.notification.entity.Notification;
+import com.foodreview.domain.notification.service.NotificationService;
+import com.foodreview.domain.review.event.CommentCreatedEvent;
+import com.foodreview.domain.review.event.ReviewCreatedEvent;
+import com.foodreview.domain.review.event.ReviewReferencedEvent;
+import com.foodreview.domain.review.event.SympathyAddedEvent;
+import com.foodreview.domain.user.entity.ScoreEvent;
+import com.foodreview.domain.user.entity.User;
+import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.ScoreLedger;
+import com.foodreview.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰/공감/댓글 이벤트 핸들러
+ *
+ * 작성 요청의 커밋 이후 별도 스레드·트랜잭션에서 점수(원장 기록), 알림, 배지를 처리한다.
+ * 엔티티는 이벤트의 ID로 다시 조회하므로 요청 트랜잭션의 영속성 컨텍스트와 무관하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewEventHandler {
+
+    private static final int FIRST_REVIEW_POINTS = 100;
+    private static final int NORMAL_REVIEW_POINTS = 50;
+    private static final int MASTER_SYMPATHY_BONUS = 25;
+    private static final int MASTER_SCORE_THRESHOLD = 2000;
+
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final BadgeService badgeService;
+    private final ScoreLedger scoreLedger;
+
+    // 리뷰 작성: 작성자 점수 + 점수/리뷰 수 배지
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        User user = userRepository.findById(event.userId()).orElse(null);
+        if (user == null) {
+            return;
+        }
+
+        int points = event.firstReview() ? FIRST_REVIEW_POINTS : NORMAL_REVIEW_POINTS;
+        ScoreEvent.ScoreEventType eventType = event.firstReview() ?
+                ScoreEvent.ScoreEventType.FIRST_REVIEW : ScoreEvent.ScoreEventType.REVIEW;
+        String description = event.firstReview() ?
+                String.format("%s 첫 리뷰 작성", event.restaurantName()) :
+                String.format("%s 리뷰 작성", event.restaurantName());
+
+        scoreLedger.record(user.getId(), eventType, description, points, null);
+
+        badgeService.checkAndAwardScoreBadges(user.getId(), user.getTasteScore() + points);
+        badgeService.checkAndAwardReviewBadges(user.getId(), user.getReviewCount());
+    }
+
+    // 참고 리뷰: 참고된 사용자 영향력 점수 + 알림 + 점수 배지
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleReviewReferenced(ReviewReferencedEvent event) {
+        User referenceUser = userRepository.findById(event.referenceUserId()).orElse(null);
+        User reviewer = userRepository.findById(event.reviewerId()).orElse(null);
+        if (referenceUser == null || reviewer == null) {
+            return;
+        }
+
+        ScoreEvent.ScoreEventType eventType = event.referenceFirstReview() ?
+                ScoreEvent.ScoreEventType.INFLUENCE_FIRST_REVIEW : ScoreEvent.ScoreEventType.INFLUENCE;
+        scoreLedger.record(referenceUser.getId(), eventType,
+                String.format("%s님이 내 리뷰를 참고하여 %s 리뷰 작성", event.reviewerName(), event.restaurantName()),
+                event.influencePoints(), reviewer.getId());
+
+        notificationService.createNotification(
+                referenceUser,
+                reviewer,
+                Notification.NotificationType.INFLUENCE,
+                String.format("%s님이 회원님의 리뷰를 참고하여 리뷰를 작성했습니다. (+%d점)",
+                        event.reviewerName(), event.influencePoints()),
+                event.referenceRestaurantId()
+        );
+
+        badgeService.checkAndAwardScoreBadges(referenceUser.getId(), referenceUser.getTasteScore() + event.influencePoints());
+    }
+
+    // 공감: 리뷰 작성자 점수(공감한 유저 점수의 0.5%, 마스터 보너스) + 알림 + 점수/공감 배지
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleSympathyAdded(SympathyAddedEvent event) {
+        User reviewAuthor = userRepository.findById(event.reviewAuthorId()).orElse(null);
+        User user = userRepository.findById(event.userId()).orElse(null);
+        if (reviewAuthor == null || user == null) {
+            return;
+        }
+
+        int points = Math.max(1, (int) (event.userTasteScore() * 0.005));
+        scoreLedger.record(reviewAuthor.getId(), ScoreEvent.ScoreEventType.SYMPATHY_RECEIVED,
+                String.format("%s님이 공감", event.userName()), points, user.getId());
+
+        // 마스터 보너스
+        if (event.userTasteScore() >= MASTER_SCORE_THRESHOLD) {
+            points += MASTER_SYMPATHY_BONUS;
+            scoreLedger.record(reviewAuthor.getId(), ScoreEvent.ScoreEventType.SYMPATHY_BONUS,
+                    String.format("마스터 %s님의 공감 보너스", event.userName()), MASTER_SYMPATHY_BONUS, user.getId());
+        }
+
+        notificationService.createNotification(
+                reviewAuthor,
+                user,
+                Notification.NotificationType.SYMPATHY,
+                String.format("%s님이 회원님의 리뷰에 공감했습니다.", event.userName()),
+                event.restaurantId()
+        );
+
+        badgeService.checkAndAwardScoreBadges(reviewAuthor.getId(), reviewAuthor.getTasteScore() + points);
+        badgeService.checkAndAwardSympathyBadges(reviewAuthor.getId(), reviewAuthor.getReceivedSympathyCount());
+    }
+
+    // 댓글: 리뷰 작성자(대댓글이면 부모 댓글 작성자) 알림
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        User recipient = userRepository.findById(event.recipientId()).orElse(null);
+        User user = userRepository.findById(event.userId()).orElse(null);
+        if (recipient == null || user == null) {
+            return;
+        }
+
+        // commentId 포함하여 푸시 알림 클릭 시 해당 댓글로 이동
+        notificationService.createNotification(
+                recipient,
+                user,
+                event.reply() ? Notification.NotificationType.REPLY : Notification.NotificationType.COMMENT,
+                event.reply()
+                        ? String.format("%s님이 회원님의 댓글에 답글을 남겼습니다.", event.userName())
+                        : String.format("%s님이 회원님의 리뷰에 댓글을 남겼습니다.", event.userName()),
+                event.reviewId(),
+                event.commentId()
+        );
+    }
+}
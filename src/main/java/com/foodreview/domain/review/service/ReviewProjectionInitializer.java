@@ -0,0 +1,30 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 피드 필터 컬럼(음식점 지역/카테고리/승인 상태) 초기화
+ * - 컬럼 추가 이전에 작성된 리뷰에 음식점 정보를 채움 (이미 채워진 리뷰는 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewProjectionInitializer implements ApplicationRunner {
+
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = reviewRepository.backfillRestaurantProjection();
+        if (updated > 0) {
+            log.info("Review feed projection backfilled: {} reviews", updated);
+        }
+    }
+}
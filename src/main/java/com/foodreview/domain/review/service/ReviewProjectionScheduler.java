@@ -0,0 +1,35 @@
+package com.foodreview.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 피드 필터 컬럼 보정 스케줄러
+ * - 음식점 현재 값과 어긋난 리뷰를 고치고, 고친 리뷰가 있으면 지역별 리뷰 수 카운터도 다시 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewProjectionScheduler {
+
+    private final ReviewProjectionService reviewProjectionService;
+
+    /**
+     * 서버 시작 2분 뒤부터 10분마다 보정
+     */
+    @Scheduled(initialDelay = 120000, fixedDelay = 600000)
+    public void reconcileProjection() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int corrected = reviewProjectionService.reconcile();
+            if (corrected > 0) {
+                log.info("Review feed projection reconciled: corrected={}, elapsed={}ms",
+                        corrected, System.currentTimeMillis() - startTime);
+            }
+        } catch (Exception e) {
+            log.error("Review feed projection reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.restaurant.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리뷰 피드 필터 컬럼 보정
+ *
+ * 음식점 승인/지역/카테고리가 앱 밖(DB 직접 수정, 가져오기 등)에서 바뀌면 리뷰에 복사한 값이 남으므로
+ * restaurants 테이블과 비교해 다른 행만 음식점 ID_RANGE_SIZE 구간마다 다시 맞춘다.
+ * 고친 리뷰가 있으면 지역별 리뷰 수 카운터도 리뷰 테이블 기준으로 다시 맞춘다.
+ * 구간 쓰기가 각자 트랜잭션을 가지도록 이 서비스에는 트랜잭션을 걸지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewProjectionService {
+
+    private static final long ID_RANGE_SIZE = 1000;
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReviewProjectionWriter reviewProjectionWriter;
+    private final ReviewAreaCounterService reviewAreaCounterService;
+
+    /**
+     * 전체 음식점 보정 (값이 달라 고친 리뷰 수 반환)
+     */
+    public int reconcile() {
+        int corrected = reconcileProjection();
+        if (corrected > 0) {
+            reviewAreaCounterService.reconcile();
+            reviewAreaCounterService.reload();
+        }
+        return corrected;
+    }
+
+    private int reconcileProjection() {
+        long minId = restaurantRepository.findMinId();
+        long maxId = restaurantRepository.findMaxId();
+        int corrected = 0;
+        for (long from = minId; from <= maxId; from += ID_RANGE_SIZE) {
+            corrected += reviewProjectionWriter.reconcile(from, Math.min(from + ID_RANGE_SIZE - 1, maxId));
+        }
+        return corrected;
+    }
+}
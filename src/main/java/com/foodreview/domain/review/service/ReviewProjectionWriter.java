@@ -0,0 +1,21 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 피드 필터 컬럼 구간 보정 (구간 단위 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewProjectionWriter {
+
+    private final ReviewRepository reviewRepository;
+
+    @Transactional
+    public int reconcile(long fromRestaurantId, long toRestaurantId) {
+        return reviewRepository.reconcileRestaurantProjection(fromRestaurantId, toRestaurantId);
+    }
+}
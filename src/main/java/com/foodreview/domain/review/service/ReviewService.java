@@ -1,10 +1,8 @@
 package com.foodreview.domain.review.service;
 
-import com.foodreview.domain.badge.service.BadgeService;
-import com.foodreview.domain.notification.entity.Notification;
-import com.foodreview.domain.notification.service.NotificationService;
+import com.foodreview.domain.feed.service.FeedTimelineService;
 import com.foodreview.domain.restaurant.entity.Restaurant;
-import com.foodreview.domain.restaurant.entity.RestaurantApprovalStatus;
+import com.foodreview.domain.restaurant.entity.ReviewRatings;
 import com.foodreview.domain.restaurant.repository.RestaurantRepository;
 import com.foodreview.domain.review.dto.ReviewDto;
 import com.foodreview.domain.review.entity.ReceiptVerificationStatus;
@@ -12,28 +10,34 @@ import com.foodreview.domain.review.entity.ReferenceType;
 import com.foodreview.domain.review.entity.Review;
 import com.foodreview.domain.review.entity.ReviewReference;
 import com.foodreview.domain.review.entity.Sympathy;
+import com.foodreview.domain.review.event.ReviewCreatedEvent;
+import com.foodreview.domain.review.event.ReviewReferencedEvent;
+import com.foodreview.domain.review.event.SympathyAddedEvent;
+import com.foodreview.domain.review.repository.ReviewFeedCondition;
 import com.foodreview.domain.review.repository.ReviewReferenceRepository;
 import com.foodreview.domain.review.repository.ReviewRepository;
 import com.foodreview.domain.review.repository.SympathyRepository;
-import com.foodreview.domain.user.entity.ScoreEvent;
+import com.foodreview.domain.trending.service.TrendingService;
 import com.foodreview.domain.user.entity.User;
-import com.foodreview.domain.user.repository.FollowRepository;
-import com.foodreview.domain.user.repository.ScoreEventRepository;
-import com.foodreview.domain.user.repository.UserBlockRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.domain.user.service.BlockRelationCache;
+import com.foodreview.global.common.CursorPageResponse;
+import com.foodreview.global.common.PageCursor;
 import com.foodreview.global.common.PageResponse;
+import com.foodreview.global.counter.CounterBuffer;
+import com.foodreview.global.counter.CounterType;
 import com.foodreview.global.exception.CustomException;
 import com.foodreview.global.util.HtmlSanitizer;
+import com.foodreview.global.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -51,25 +55,30 @@ public class ReviewService {
     private final RestaurantRepository restaurantRepository;
     private final UserRepository userRepository;
     private final SympathyRepository sympathyRepository;
-    private final ScoreEventRepository scoreEventRepository;
     private final ReviewReferenceRepository reviewReferenceRepository;
-    private final UserBlockRepository userBlockRepository;
-    private final FollowRepository followRepository;
-    private final NotificationService notificationService;
-    private final BadgeService badgeService;
-
-    private static final int FIRST_REVIEW_POINTS = 100;
-    private static final int NORMAL_REVIEW_POINTS = 50;
-    private static final int MASTER_SYMPATHY_BONUS = 25;
-    private static final int MASTER_SCORE_THRESHOLD = 2000;
+    private final FeedTimelineService feedTimelineService;
+    private final ViewerStateService viewerStateService;
+    private final BlockRelationCache blockRelationCache;
+    private final ReviewDetailCache reviewDetailCache;
+    private final ReviewAreaCounterService reviewAreaCounterService;
+    private final TrendingService trendingService;
+    private final CounterBuffer counterBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+
     private static final int INFLUENCE_POINTS = 5;
     private static final int INFLUENCE_FIRST_REVIEW_POINTS = 10;
 
-    // 리뷰 조회
+    // 리뷰 조회 (조회자 무관 부분은 캐시, 공감 여부만 조회자별로 덧씌움)
     public ReviewDto.Response getReview(Long reviewId, Long currentUserId) {
+        ReviewDto.Response detail = reviewDetailCache.get(reviewId, this::loadReviewDetail);
+        boolean hasSympathized = viewerStateService.getSympathizedReviewIds(currentUserId, List.of(reviewId))
+                .contains(reviewId);
+        return detail.withViewerState(hasSympathized);
+    }
+
+    // 조회자와 무관한 리뷰 상세 응답
+    private ReviewDto.Response loadReviewDetail(Long reviewId) {
         Review review = findReviewById(reviewId);
-        boolean hasSympathized = currentUserId != null &&
-                sympathyRepository.existsByUserAndReview(findUserById(currentUserId), review);
 
         // 참고 정보 조회
         ReviewDto.ReferenceInfo referenceInfo = null;
@@ -84,7 +93,10 @@ public class ReviewService {
         // 이 리뷰를 참고한 횟수
         int referenceCount = reviewReferenceRepository.countByReferenceReview(review);
 
-        return ReviewDto.Response.from(review, hasSympathized, referenceInfo, referenceCount);
+        // 캐시에 보관되므로 지연 로딩 컬렉션 대신 복사본 사용
+        return ReviewDto.Response.from(review, null, referenceInfo, referenceCount).toBuilder()
+                .images(List.copyOf(review.getImages()))
+                .build();
     }
 
     // 리뷰 목록 조회 (필터링) - 기존 호환
@@ -104,128 +116,136 @@ public class ReviewService {
         Page<Review> reviews;
         Restaurant.Category cat = category != null ? Restaurant.Category.valueOf(category) : null;
 
-        // 팔로잉 전용 피드
+        // 팔로잉 전용 피드 - 타임라인 인덱스 범위 조회 (셀럽 리뷰는 병합)
         if (followingOnly && currentUserId != null) {
-            List<Long> followingIds = followRepository.findFollowingIdsByFollowerId(currentUserId);
-            if (followingIds.isEmpty()) {
-                // 팔로잉이 없으면 빈 결과 반환
-                return PageResponse.empty(pageable);
-            }
-            if (cat != null) {
-                reviews = reviewRepository.findByUserIdInAndCategory(followingIds, cat, pageable);
-            } else {
-                reviews = reviewRepository.findByUserIdIn(followingIds, pageable);
-            }
-        }
-        // 동 단위 필터링 (가장 세밀한 필터)
-        // neighborhood가 콤마로 구분된 경우 IN 절 사용
-        else if (neighborhood != null) {
-            List<String> neighborhoods = Arrays.asList(neighborhood.split(","));
-            if (neighborhoods.size() > 1) {
-                // 복수 동 필터링
-                if (cat != null) {
-                    reviews = reviewRepository.findByNeighborhoodInAndCategory(neighborhoods, cat, pageable);
-                } else {
-                    reviews = reviewRepository.findByNeighborhoodIn(neighborhoods, pageable);
-                }
-            } else {
-                // 단일 동 필터링
-                if (cat != null) {
-                    reviews = reviewRepository.findByNeighborhoodAndCategory(neighborhood, cat, pageable);
-                } else {
-                    reviews = reviewRepository.findByNeighborhood(neighborhood, pageable);
-                }
-            }
-        }
-        // 구 단위 필터링
-        else if (district != null) {
-            if (cat != null) {
-                reviews = reviewRepository.findByDistrictAndCategory(district, cat, pageable);
-            } else {
-                reviews = reviewRepository.findByDistrict(district, pageable);
-            }
+            reviews = feedTimelineService.getFollowingFeedPage(currentUserId, cat, pageable);
         }
-        // 시/도 단위 필터링 (기존)
-        else if (region != null) {
-            if (cat != null) {
-                reviews = reviewRepository.findByRegionAndCategory(region, cat, pageable);
-            } else {
-                reviews = reviewRepository.findByRegion(region, pageable);
-            }
-        }
-        // 카테고리만 필터링
-        else if (cat != null) {
-            reviews = reviewRepository.findByCategory(cat, pageable);
-        }
-        // 전체 조회
+        // 지역(동 > 구 > 시/도) + 카테고리 필터는 하나의 동적 쿼리로 처리
         else {
-            reviews = reviewRepository.findAllByOrderByCreatedAtDesc(pageable);
+            reviews = reviewRepository.findFeed(
+                    visibleTo(ReviewFeedCondition.of(region, district, neighborhood, cat), currentUserId, currentUserId), pageable);
         }
 
-        Set<Long> sympathizedReviewIds = getSympathizedReviewIds(currentUserId);
-        Set<Long> blockedUserIds = getBlockedUserIds(currentUserId);
-        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), sympathizedReviewIds, blockedUserIds, currentUserId);
+        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), currentUserId);
 
         return PageResponse.from(reviews, content);
     }
 
-    // 동별 리뷰 수 집계 (지도 마커용)
+    // 리뷰 목록 커서 조회 (무한 스크롤용, COUNT/OFFSET 없음)
+    public CursorPageResponse<ReviewDto.Response> getReviewsByCursor(String region, String district, String neighborhood,
+                                                                     String category, Long currentUserId, boolean followingOnly,
+                                                                     String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        Restaurant.Category cat = category != null ? Restaurant.Category.valueOf(category) : null;
+
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+
+        List<Review> reviews;
+        if (followingOnly && currentUserId != null) {
+            // 팔로잉 피드는 fan-out 타임라인 + 셀럽 리뷰 병합
+            reviews = feedTimelineService.getFollowingFeed(currentUserId, cat, pageCursor, pageSize + 1);
+        } else {
+            ReviewFeedCondition condition = visibleTo(
+                    ReviewFeedCondition.of(region, district, neighborhood, cat), currentUserId, currentUserId);
+            reviews = reviewRepository.findFeedByCursor(condition, pageCursor, pageSize + 1);
+        }
+        return toCursorPage(reviews, pageSize, currentUserId);
+    }
+
+    // 지금 뜨는 리뷰 (트렌딩 점수판 상위, 차단/미승인 제외분을 감안해 여유 있게 조회)
+    public List<ReviewDto.Response> getTrendingReviews(String region, String district, int size, Long currentUserId) {
+        int limit = CursorPageResponse.normalizeSize(size);
+        List<Long> reviewIds = trendingService.getTopReviewIds(region, district, limit * 2);
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+
+        LongHashSet blockedUserIds = currentUserId != null ? blockRelationCache.getBlockedUserIds(currentUserId) : new LongHashSet();
+        Map<Long, Review> reviewMap = reviewRepository.findAllWithUserAndRestaurantByIdIn(reviewIds).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<Review> reviews = reviewIds.stream()
+                .map(reviewMap::get)
+                .filter(review -> review != null && review.isVisibleTo(currentUserId))
+                .filter(review -> !blockedUserIds.contains(review.getUser().getId()))
+                .limit(limit)
+                .toList();
+        return convertToResponseDtos(reviews, currentUserId);
+    }
+
+    // 동별 리뷰 수 집계 (지도 마커용, 카운터 스냅샷에서 조회)
     public List<ReviewDto.NeighborhoodCount> getReviewCountByNeighborhood(String region, String district) {
-        List<Object[]> results = reviewRepository.countByNeighborhood(region, district);
-        return results.stream()
-                .map(row -> new ReviewDto.NeighborhoodCount((String) row[0], (Long) row[1]))
-                .collect(Collectors.toList());
+        return reviewAreaCounterService.getNeighborhoodCounts(region, district);
     }
 
     // 구별 리뷰 수 집계
     public List<ReviewDto.DistrictCount> getReviewCountByDistrict(String region) {
-        List<Object[]> results = reviewRepository.countByDistrict(region);
-        return results.stream()
-                .map(row -> new ReviewDto.DistrictCount((String) row[0], (Long) row[1]))
-                .collect(Collectors.toList());
+        return reviewAreaCounterService.getDistrictCounts(region);
     }
 
     // 음식점별 리뷰 조회
     public PageResponse<ReviewDto.Response> getRestaurantReviews(Long restaurantId, Long currentUserId, Pageable pageable) {
-        Restaurant restaurant = findRestaurantById(restaurantId);
-        Page<Review> reviews = reviewRepository.findByRestaurantOrderByCreatedAtDesc(restaurant, pageable);
-
-        Set<Long> sympathizedReviewIds = getSympathizedReviewIds(currentUserId);
-        Set<Long> blockedUserIds = getBlockedUserIds(currentUserId);
-        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), sympathizedReviewIds, blockedUserIds);
-
-        return PageResponse.from(reviews, content);
+        return getRestaurantReviews(findRestaurantById(restaurantId), currentUserId, pageable);
     }
 
     // 음식점별 리뷰 조회 (UUID)
     public PageResponse<ReviewDto.Response> getRestaurantReviewsByUuid(String restaurantUuid, Long currentUserId, Pageable pageable) {
-        Restaurant restaurant = findRestaurantByUuid(restaurantUuid);
-        Page<Review> reviews = reviewRepository.findByRestaurantOrderByCreatedAtDesc(restaurant, pageable);
+        return getRestaurantReviews(findRestaurantByUuid(restaurantUuid), currentUserId, pageable);
+    }
 
-        Set<Long> sympathizedReviewIds = getSympathizedReviewIds(currentUserId);
-        Set<Long> blockedUserIds = getBlockedUserIds(currentUserId);
-        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), sympathizedReviewIds, blockedUserIds);
+    private PageResponse<ReviewDto.Response> getRestaurantReviews(Restaurant restaurant, Long currentUserId, Pageable pageable) {
+        Page<Review> reviews = reviewRepository.findFeed(
+                visibleTo(ReviewFeedCondition.restaurant(restaurant.getId()), currentUserId, null), pageable);
+
+        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), currentUserId);
 
         return PageResponse.from(reviews, content);
     }
 
     // 사용자별 리뷰 조회
     public PageResponse<ReviewDto.Response> getUserReviews(Long userId, Long currentUserId, Pageable pageable) {
-        User user = findUserById(userId);
-        Page<Review> reviews = reviewRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        findUserById(userId);
+        Page<Review> reviews = reviewRepository.findFeed(
+                visibleTo(ReviewFeedCondition.author(userId), currentUserId, null), pageable);
 
-        Set<Long> sympathizedReviewIds = getSympathizedReviewIds(currentUserId);
-        Set<Long> blockedUserIds = getBlockedUserIds(currentUserId);
-        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), sympathizedReviewIds, blockedUserIds);
+        List<ReviewDto.Response> content = convertToResponseDtos(reviews.getContent(), currentUserId);
 
         return PageResponse.from(reviews, content);
     }
 
+    // 음식점별 리뷰 커서 조회
+    public CursorPageResponse<ReviewDto.Response> getRestaurantReviewsByCursor(Long restaurantId, Long currentUserId, String cursor, int size) {
+        return getRestaurantReviewsByCursor(findRestaurantById(restaurantId), currentUserId, cursor, size);
+    }
+
+    // 음식점별 리뷰 커서 조회 (UUID)
+    public CursorPageResponse<ReviewDto.Response> getRestaurantReviewsByUuidAndCursor(String restaurantUuid, Long currentUserId, String cursor, int size) {
+        return getRestaurantReviewsByCursor(findRestaurantByUuid(restaurantUuid), currentUserId, cursor, size);
+    }
+
+    private CursorPageResponse<ReviewDto.Response> getRestaurantReviewsByCursor(Restaurant restaurant, Long currentUserId, String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<Review> reviews = reviewRepository.findFeedByCursor(
+                visibleTo(ReviewFeedCondition.restaurant(restaurant.getId()), currentUserId, null), pageCursor, pageSize + 1);
+        return toCursorPage(reviews, pageSize, currentUserId);
+    }
+
+    // 사용자별 리뷰 커서 조회
+    public CursorPageResponse<ReviewDto.Response> getUserReviewsByCursor(Long userId, Long currentUserId, String cursor, int size) {
+        findUserById(userId);
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<Review> reviews = reviewRepository.findFeedByCursor(
+                visibleTo(ReviewFeedCondition.author(userId), currentUserId, null), pageCursor, pageSize + 1);
+        return toCursorPage(reviews, pageSize, currentUserId);
+    }
+
     // 리뷰 작성
     @Transactional
     public ReviewDto.Response createReview(Long userId, ReviewDto.CreateRequest request) {
         User user = findUserById(userId);
-        Restaurant restaurant = findRestaurantById(request.getRestaurantId());
+        // 별점 분포/리뷰 수/첫 리뷰 여부를 동시 작성과 겹치지 않게 갱신하도록 음식점 행 잠금
+        Restaurant restaurant = lockRestaurant(request.getRestaurantId());
 
         // 이미 리뷰 작성 여부 확인
         if (reviewRepository.existsByUserAndRestaurant(user, restaurant)) {
@@ -257,6 +277,12 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
 
+        // 팔로워 타임라인 적재
+        feedTimelineService.fanOut(savedReview);
+        // 지도 마커용 지역 카운터 증가
+        reviewAreaCounterService.onReviewCreated(savedReview);
+        trendingService.recordReviewCreated(savedReview);
+
         // 영수증 이미지가 있는 경우 Admin 수동 검토 대기 상태로 설정
         if (request.getReceiptImageUrl() != null && !request.getReceiptImageUrl().isBlank()) {
             savedReview.updateReceiptVerification(ReceiptVerificationStatus.PENDING_REVIEW, null, null);
@@ -264,38 +290,14 @@ public class ReviewService {
             log.info("영수증 수동 검토 대기 설정. reviewId: {}", savedReview.getId());
         }
 
-        // 음식점 평점 업데이트
-        restaurant.addReview(request.getRating());
-        restaurant.addDetailRatings(
-                request.getTasteRating(),
-                request.getPriceRating(),
-                request.getAtmosphereRating(),
-                request.getServiceRating()
-        );
+        // 음식점 별점 분포/평균 업데이트
+        restaurant.addReview(savedReview.getRatings());
 
-        // 점수 부여
-        int points = isFirstReview ? FIRST_REVIEW_POINTS : NORMAL_REVIEW_POINTS;
-        user.addScore(points);
-        user.incrementReviewCount();
+        counterBuffer.add(CounterType.USER_REVIEW_COUNT, user.getId(), 1);
 
-        // 점수 획득 이벤트 기록
-        ScoreEvent.ScoreEventType eventType = isFirstReview ?
-                ScoreEvent.ScoreEventType.FIRST_REVIEW : ScoreEvent.ScoreEventType.REVIEW;
-        String description = isFirstReview ?
-                String.format("%s 첫 리뷰 작성", restaurant.getName()) :
-                String.format("%s 리뷰 작성", restaurant.getName());
-
-        ScoreEvent event = ScoreEvent.builder()
-                .user(user)
-                .type(eventType)
-                .description(description)
-                .points(points)
-                .build();
-        scoreEventRepository.save(event);
-
-        // 배지 체크 (점수 기반 + 리뷰 수 기반)
-        badgeService.checkAndAwardScoreBadges(user.getId(), user.getTasteScore());
-        badgeService.checkAndAwardReviewBadges(user.getId(), user.getReviewCount());
+        // 점수 부여, 배지 체크는 커밋 이후 핸들러에서 처리
+        eventPublisher.publishEvent(new ReviewCreatedEvent(
+                savedReview.getId(), user.getId(), restaurant.getName(), isFirstReview));
 
         // 참고 리뷰 처리
         ReviewDto.ReferenceInfo referenceInfo = null;
@@ -323,35 +325,12 @@ public class ReviewService {
         int influencePoints = 0;
         if (!isMutualReference) {
             influencePoints = referenceReview.getIsFirstReview() ? INFLUENCE_FIRST_REVIEW_POINTS : INFLUENCE_POINTS;
-            referenceUser.addScore(influencePoints);
-
-            // 점수 획득 이벤트 기록
-            ScoreEvent.ScoreEventType eventType = referenceReview.getIsFirstReview() ?
-                    ScoreEvent.ScoreEventType.INFLUENCE_FIRST_REVIEW : ScoreEvent.ScoreEventType.INFLUENCE;
-            String description = String.format("%s님이 내 리뷰를 참고하여 %s 리뷰 작성",
-                    reviewer.getName(), review.getRestaurant().getName());
-
-            ScoreEvent event = ScoreEvent.builder()
-                    .user(referenceUser)
-                    .type(eventType)
-                    .description(description)
-                    .points(influencePoints)
-                    .fromUser(reviewer)
-                    .build();
-
-            scoreEventRepository.save(event);
-
-            // 알림 생성
-            notificationService.createNotification(
-                    referenceUser,
-                    reviewer,
-                    Notification.NotificationType.INFLUENCE,
-                    String.format("%s님이 회원님의 리뷰를 참고하여 리뷰를 작성했습니다. (+%d점)", reviewer.getName(), influencePoints),
-                    referenceReview.getRestaurant().getId()
-            );
 
-            // 배지 체크 (참고 받은 사용자)
-            badgeService.checkAndAwardScoreBadges(referenceUser.getId(), referenceUser.getTasteScore());
+            // 점수 부여, 알림, 배지 체크는 커밋 이후 핸들러에서 처리
+            eventPublisher.publishEvent(new ReviewReferencedEvent(
+                    review.getId(), reviewer.getId(), reviewer.getName(), referenceUser.getId(),
+                    referenceReview.getRestaurant().getId(), review.getRestaurant().getName(),
+                    influencePoints, referenceReview.getIsFirstReview()));
         }
 
         // 참고 기록 저장
@@ -362,6 +341,8 @@ public class ReviewService {
                 .pointsAwarded(influencePoints)
                 .build();
         reviewReferenceRepository.save(reference);
+        // 참고된 리뷰의 참고 횟수 변경
+        reviewDetailCache.evict(referenceReviewId);
 
         return ReviewDto.ReferenceInfo.from(referenceReviewId, referenceUser);
     }
@@ -375,11 +356,9 @@ public class ReviewService {
             throw new CustomException("본인의 리뷰만 수정할 수 있습니다", HttpStatus.FORBIDDEN, "FORBIDDEN");
         }
 
-        // 평점 변경 시 음식점 평점 업데이트
-        if (request.getRating() != null && !request.getRating().equals(review.getRating())) {
-            review.getRestaurant().removeReview(review.getRating());
-            review.getRestaurant().addReview(request.getRating());
-        }
+        // 수정 전후 별점 차이만큼 음식점 별점 분포/평균 업데이트 (세부 별점 변경 포함)
+        Restaurant restaurant = lockRestaurant(review.getRestaurant().getId());
+        ReviewRatings previousRatings = review.getRatings();
 
         review.update(
                 request.getContent(),
@@ -395,15 +374,20 @@ public class ReviewService {
                 request.getReceiptImageUrl(),
                 request.getReferenceType()
         );
+        restaurant.changeRatings(previousRatings, review.getRatings());
+
+        reviewDetailCache.evict(reviewId);
 
         // referenceType이 REVIEW이고 referenceReviewId가 있으면 참고 리뷰 처리
         ReviewDto.ReferenceInfo referenceInfo = null;
         if (request.getReferenceType() == ReferenceType.REVIEW && request.getReferenceReviewId() != null) {
             // 기존 참고 리뷰 삭제 후 새로 추가
+            evictReferencedReview(review);
             reviewReferenceRepository.deleteByReview(review);
             referenceInfo = processReferenceReview(review, review.getUser(), request.getReferenceReviewId());
         } else if (request.getReferenceType() != null && request.getReferenceType() != ReferenceType.REVIEW) {
             // REVIEW가 아닌 타입으로 변경 시 기존 참고 리뷰 삭제
+            evictReferencedReview(review);
             reviewReferenceRepository.deleteByReview(review);
         } else {
             // 기존 참고 리뷰 정보 조회
@@ -429,15 +413,14 @@ public class ReviewService {
             throw new CustomException("본인의 리뷰만 삭제할 수 있습니다", HttpStatus.FORBIDDEN, "FORBIDDEN");
         }
 
-        // 음식점 평점 업데이트
-        review.getRestaurant().removeReview(review.getRating());
-        review.getRestaurant().removeDetailRatings(
-                review.getTasteRating(),
-                review.getPriceRating(),
-                review.getAtmosphereRating(),
-                review.getServiceRating()
-        );
+        // 음식점 별점 분포/평균 업데이트
+        lockRestaurant(review.getRestaurant().getId()).removeReview(review.getRatings());
 
+        feedTimelineService.removeReview(reviewId);
+        reviewAreaCounterService.onReviewDeleted(review);
+        trendingService.removeReview(reviewId);
+        evictReferencedReview(review);
+        reviewDetailCache.evict(reviewId);
         reviewRepository.delete(review);
     }
 
@@ -461,58 +444,23 @@ public class ReviewService {
                 .build();
         sympathyRepository.save(sympathy);
 
-        review.addSympathy();
-
-        // 리뷰 작성자에게 점수 부여 (공감한 유저 점수의 0.5%)
+        // 공감 수, 리뷰 작성자의 받은 공감 수 증가 (커밋 이후 버퍼에 누적, 상세 캐시 무효화보다 먼저 등록)
         User reviewAuthor = review.getUser();
+        counterBuffer.add(CounterType.REVIEW_SYMPATHY, reviewId, 1);
+        counterBuffer.add(CounterType.USER_RECEIVED_SYMPATHY, reviewAuthor.getId(), 1);
 
-        // 리뷰 작성자의 받은 공감 수 증가
-        reviewAuthor.incrementReceivedSympathyCount();
-        int points = (int) (user.getTasteScore() * 0.005);
-        if (points < 1) points = 1;
+        viewerStateService.updateSympathy(userId, reviewId, true);
+        reviewDetailCache.evict(reviewId);
+        trendingService.recordSympathy(review, true);
 
-        reviewAuthor.addScore(points);
-
-        // 점수 획득 이벤트 기록
-        ScoreEvent event = ScoreEvent.builder()
-                .user(reviewAuthor)
-                .type(ScoreEvent.ScoreEventType.SYMPATHY_RECEIVED)
-                .description(String.format("%s님이 공감", user.getName()))
-                .points(points)
-                .fromUser(user)
-                .build();
-        scoreEventRepository.save(event);
-
-        // 마스터 보너스
-        if (user.getTasteScore() >= MASTER_SCORE_THRESHOLD) {
-            reviewAuthor.addScore(MASTER_SYMPATHY_BONUS);
-
-            ScoreEvent bonusEvent = ScoreEvent.builder()
-                    .user(reviewAuthor)
-                    .type(ScoreEvent.ScoreEventType.SYMPATHY_BONUS)
-                    .description(String.format("마스터 %s님의 공감 보너스", user.getName()))
-                    .points(MASTER_SYMPATHY_BONUS)
-                    .fromUser(user)
-                    .build();
-            scoreEventRepository.save(bonusEvent);
-        }
-
-        // 공감 알림 생성
-        notificationService.createNotification(
-                reviewAuthor,
-                user,
-                Notification.NotificationType.SYMPATHY,
-                String.format("%s님이 회원님의 리뷰에 공감했습니다.", user.getName()),
-                review.getRestaurant().getId()
-        );
-
-        // 배지 체크 (점수 기반 + 받은 공감 수 기반)
-        badgeService.checkAndAwardScoreBadges(reviewAuthor.getId(), reviewAuthor.getTasteScore());
-        badgeService.checkAndAwardSympathyBadges(reviewAuthor.getId(), reviewAuthor.getReceivedSympathyCount());
+        // 작성자 점수 부여, 알림, 배지 체크는 커밋 이후 핸들러에서 처리
+        eventPublisher.publishEvent(new SympathyAddedEvent(
+                reviewId, review.getRestaurant().getId(), reviewAuthor.getId(),
+                user.getId(), user.getName(), user.getTasteScore()));
 
         return ReviewDto.SympathyResponse.builder()
                 .reviewId(reviewId)
-                .sympathyCount(review.getSympathyCount())
+                .sympathyCount(review.getSympathyCount() + 1)
                 .hasSympathized(true)
                 .build();
     }
@@ -527,14 +475,18 @@ public class ReviewService {
                 .orElseThrow(() -> new CustomException("공감 기록이 없습니다", HttpStatus.NOT_FOUND, "SYMPATHY_NOT_FOUND"));
 
         sympathyRepository.delete(sympathy);
-        review.removeSympathy();
 
-        // 리뷰 작성자의 받은 공감 수 감소
-        review.getUser().decrementReceivedSympathyCount();
+        // 공감 수, 리뷰 작성자의 받은 공감 수 감소
+        counterBuffer.add(CounterType.REVIEW_SYMPATHY, reviewId, -1);
+        counterBuffer.add(CounterType.USER_RECEIVED_SYMPATHY, review.getUser().getId(), -1);
+
+        viewerStateService.updateSympathy(userId, reviewId, false);
+        reviewDetailCache.evict(reviewId);
+        trendingService.recordSympathy(review, false);
 
         return ReviewDto.SympathyResponse.builder()
                 .reviewId(reviewId)
-                .sympathyCount(review.getSympathyCount())
+                .sympathyCount(Math.max(0, review.getSympathyCount() - 1))
                 .hasSympathized(false)
                 .build();
     }
@@ -562,29 +514,32 @@ public class ReviewService {
                 .build();
     }
 
-    private Set<Long> getSympathizedReviewIds(Long userId) {
-        if (userId == null) return new HashSet<>();
-        return new HashSet<>(sympathyRepository.findReviewIdsByUserId(userId));
+    // 조회자 기준 노출 조건 (차단한 작성자 제외, 미승인 음식점 리뷰는 ownerUserId가 등록한 경우만 노출)
+    // ownerUserId는 기존과 동일하게 지역/팔로잉 피드에서만 전달
+    private ReviewFeedCondition visibleTo(ReviewFeedCondition condition, Long viewerId, Long ownerUserId) {
+        Set<Long> blockedUserIds = viewerId != null ? blockRelationCache.getBlockedUserIds(viewerId).toSet() : Set.of();
+        return condition.visibleTo(blockedUserIds, ownerUserId);
     }
 
-    private Set<Long> getBlockedUserIds(Long userId) {
-        if (userId == null) return new HashSet<>();
-        return new HashSet<>(userBlockRepository.findBlockedUserIdsByBlockerId(userId));
+    // 커서 페이지 응답 생성
+    private CursorPageResponse<ReviewDto.Response> toCursorPage(List<Review> reviews, int pageSize, Long currentUserId) {
+        return CursorPageResponse.of(reviews, pageSize,
+                review -> PageCursor.of(review.getCreatedAt(), review.getId()),
+                pageReviews -> convertToResponseDtos(pageReviews, currentUserId));
     }
 
     // 리뷰 목록을 DTO로 변환 (배치 쿼리로 N+1 방지)
-    private List<ReviewDto.Response> convertToResponseDtos(List<Review> reviews, Set<Long> sympathizedReviewIds, Set<Long> blockedUserIds) {
-        return convertToResponseDtos(reviews, sympathizedReviewIds, blockedUserIds, null);
-    }
-
-    // 리뷰 목록을 DTO로 변환 (미승인 음식점 필터링 포함)
-    private List<ReviewDto.Response> convertToResponseDtos(List<Review> reviews, Set<Long> sympathizedReviewIds, Set<Long> blockedUserIds, Long currentUserId) {
+    // 차단/미승인 필터는 조회 쿼리에서 적용되므로 여기서는 걸러내지 않음
+    private List<ReviewDto.Response> convertToResponseDtos(List<Review> reviews, Long viewerId) {
         if (reviews.isEmpty()) {
             return List.of();
         }
 
         List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
 
+        // 공감 여부는 현재 페이지의 리뷰만 확인
+        Set<Long> sympathizedReviewIds = viewerStateService.getSympathizedReviewIds(viewerId, reviewIds);
+
         // 배치로 참고 정보 조회 (1개 쿼리)
         Map<Long, ReviewReference> referenceMap = reviewReferenceRepository.findByReviewIds(reviewIds)
                 .stream()
@@ -599,23 +554,6 @@ public class ReviewService {
                 ));
 
         return reviews.stream()
-                .filter(review -> !blockedUserIds.contains(review.getUser().getId()))
-                // 미승인 음식점 리뷰 필터링 (본인이 등록한 음식점은 제외)
-                .filter(review -> {
-                    Restaurant restaurant = review.getRestaurant();
-                    RestaurantApprovalStatus status = restaurant.getApprovalStatus();
-                    // 승인된 음식점이면 통과
-                    if (status == null || status == RestaurantApprovalStatus.APPROVED) {
-                        return true;
-                    }
-                    // 미승인 음식점이지만 본인이 등록한 경우 통과
-                    if (currentUserId != null && restaurant.getRegisteredBy() != null
-                            && restaurant.getRegisteredBy().getId().equals(currentUserId)) {
-                        return true;
-                    }
-                    // 미승인 음식점이고 본인이 등록하지 않은 경우 필터링
-                    return false;
-                })
                 .map(review -> {
                     ReviewDto.ReferenceInfo referenceInfo = null;
                     ReviewReference reference = referenceMap.get(review.getId());
@@ -631,6 +569,12 @@ public class ReviewService {
                 .toList();
     }
 
+    // 이 리뷰가 참고한 리뷰의 상세 캐시 무효화 (참고 관계 삭제 전에 호출)
+    private void evictReferencedReview(Review review) {
+        reviewReferenceRepository.findByReview(review)
+                .ifPresent(reference -> reviewDetailCache.evict(reference.getReferenceReview().getId()));
+    }
+
     private Review findReviewById(Long reviewId) {
         return reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new CustomException("리뷰를 찾을 수 없습니다", HttpStatus.NOT_FOUND, "REVIEW_NOT_FOUND"));
@@ -646,6 +590,11 @@ public class ReviewService {
                 .orElseThrow(() -> new CustomException("음식점을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "RESTAURANT_NOT_FOUND"));
     }
 
+    private Restaurant lockRestaurant(Long restaurantId) {
+        return restaurantRepository.findByIdForUpdate(restaurantId)
+                .orElseThrow(() -> new CustomException("음식점을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "RESTAURANT_NOT_FOUND"));
+    }
+
     private Restaurant findRestaurantByUuid(String uuid) {
         return restaurantRepository.findByUuid(uuid)
                 .orElseThrow(() -> new CustomException("음식점을 찾을 수 없습니다", HttpStatus.NOT_FOUND, "RESTAURANT_NOT_FOUND"));
@@ -658,6 +607,7 @@ public class ReviewService {
     public void approveReceiptManually(Long reviewId) {
         Review review = findReviewById(reviewId);
         review.approveReceiptManually();
+        reviewDetailCache.evict(reviewId);
         log.info("영수증 수동 승인. reviewId: {}", reviewId);
     }
 
@@ -668,6 +618,7 @@ public class ReviewService {
     public void rejectReceiptManually(Long reviewId) {
         Review review = findReviewById(reviewId);
         review.rejectReceiptManually();
+        reviewDetailCache.evict(reviewId);
         log.info("영수증 수동 거부. reviewId: {}", reviewId);
     }
 
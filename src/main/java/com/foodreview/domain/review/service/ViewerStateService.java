@@ -0,0 +1,110 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.review.repository.SympathyRepository;
+import com.foodreview.global.util.LocalCache;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰 목록의 조회자별 상태 (공감 여부)
+ *
+ * 조회자의 전체 공감 이력이 아니라 현재 페이지에 있는 리뷰만 IN 쿼리로 확인한다.
+ * 공감 여부는 사용자별 캐시에 보관해 같은 리뷰를 다시 볼 때는 쿼리하지 않는다.
+ * 캐시는 서버별이므로 다른 서버에서의 공감 변경은 TTL(30초) 안에 반영되고,
+ * 공감 변경보다 먼저 시작한 조회 결과는 사용자별 버전을 비교해 캐시에 넣지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ViewerStateService {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final long CACHE_TTL_MILLIS = 30 * 1000L;
+    // 사용자당 보관하는 리뷰 수 상한 (초과 시 해당 사용자 캐시를 비움)
+    private static final int MAX_REVIEWS_PER_USER = 2_000;
+
+    private final SympathyRepository sympathyRepository;
+
+    private final LocalCache<Long, SympathyStates> sympathyCache = new LocalCache<>(MAX_CACHED_USERS, CACHE_TTL_MILLIS);
+
+    /**
+     * 주어진 리뷰 중 조회자가 공감한 리뷰 ID (캐시에 없는 리뷰만 1회 쿼리)
+     */
+    public Set<Long> getSympathizedReviewIds(Long userId, Collection<Long> reviewIds) {
+        if (userId == null || reviewIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        SympathyStates states = sympathyCache.computeIfAbsent(userId, id -> new SympathyStates());
+        Set<Long> result = new HashSet<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long reviewId : reviewIds) {
+            Boolean sympathized = states.get(reviewId);
+            if (sympathized == null) {
+                missing.add(reviewId);
+            } else if (sympathized) {
+                result.add(reviewId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long version = states.version();
+            Set<Long> sympathized = new HashSet<>(sympathyRepository.findReviewIdsByUserIdAndReviewIdIn(userId, missing));
+            states.load(version, missing, sympathized);
+            result.addAll(sympathized);
+        }
+        return result;
+    }
+
+    /**
+     * 공감 추가/취소 반영 (커밋 이후)
+     */
+    public void updateSympathy(Long userId, Long reviewId, boolean sympathized) {
+        TransactionUtils.afterCommit(() -> {
+            SympathyStates states = sympathyCache.get(userId);
+            if (states != null) {
+                states.update(reviewId, sympathized);
+            }
+        });
+    }
+
+    // 사용자별 공감 여부 (reviewId -> 공감 여부) + 변경 버전
+    private static class SympathyStates {
+        private final Map<Long, Boolean> states = new ConcurrentHashMap<>();
+        private long version;
+
+        Boolean get(Long reviewId) {
+            return states.get(reviewId);
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        // 조회 시작 이후 공감 변경이 있었으면 버림
+        synchronized void load(long loadedVersion, List<Long> reviewIds, Set<Long> sympathized) {
+            if (loadedVersion != version) {
+                return;
+            }
+            if (states.size() + reviewIds.size() > MAX_REVIEWS_PER_USER) {
+                states.clear();
+            }
+            for (Long reviewId : reviewIds) {
+                states.put(reviewId, sympathized.contains(reviewId));
+            }
+        }
+
+        synchronized void update(Long reviewId, boolean sympathized) {
+            version++;
+            states.put(reviewId, sympathized);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.foodreview.domain.trending.entity;
+
+import com.foodreview.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수 스냅샷
+ * - 메모리 점수판을 매시 저장해 재시작 시 복원 (최신 스냅샷 1벌만 유지)
+ * - score는 snapshot_at 시점 기준 감쇠가 반영된 값
+ */
+@Entity
+@Table(name = "trending_snapshots",
+    indexes = {
+        @Index(name = "idx_trending_snapshot_type", columnList = "target_type")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TrendingSnapshot extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(length = 50)
+    private String region;
+
+    @Column(length = 50)
+    private String district;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    public enum TargetType {
+        REVIEW, RESTAURANT
+    }
+}
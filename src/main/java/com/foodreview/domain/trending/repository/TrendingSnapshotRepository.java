@@ -0,0 +1,7 @@
+package com.foodreview.domain.trending.repository;
+
+import com.foodreview.domain.trending.entity.TrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, Long> {
+}
@@ -0,0 +1,192 @@
+package com.foodreview.domain.trending.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지수 감쇠 점수판 (대상 ID별 점수, 지역 버킷별 top-K)
+ *
+ * 점수는 기준 시각(epoch) 값으로 저장한다. 이벤트 가중치를 exp(λ·(t - epoch))로 키워 더하면
+ * 모든 항목이 같은 비율로 감쇠하므로 순위 계산 시 감쇠를 다시 적용할 필요가 없다.
+ * 값이 커지지 않도록 주기적으로 rebase 해 기준 시각을 옮기고 낮은 점수를 정리한다.
+ */
+public class DecayedScoreBoard {
+
+    private static final String GLOBAL_BUCKET = "";
+
+    // 밀리초당 감쇠율 (ln2 / 반감기)
+    private final double decayRate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 버킷 키(전체 / region / region|district) -> 대상 ID -> 점수
+    private final Map<String, Map<Long, Entry>> buckets = new ConcurrentHashMap<>();
+
+    private volatile long epochMillis;
+
+    public DecayedScoreBoard(long halfLifeMillis, long nowMillis) {
+        this.decayRate = Math.log(2) / halfLifeMillis;
+        this.epochMillis = nowMillis;
+    }
+
+    /**
+     * 현재 시각 기준 점수 가산 (감쇠 전 가중치)
+     */
+    public void add(long id, String region, String district, double weight, long nowMillis) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(id, key -> register(new Entry(key, region, district)));
+            entry.value.add(weight * Math.exp(decayRate * (nowMillis - epochMillis)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                unregister(entry);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버킷 내 상위 K개 (region/district가 없으면 상위 버킷 사용)
+     */
+    public List<ScoredId> top(String region, String district, int limit, long nowMillis) {
+        Map<Long, Entry> bucket = buckets.get(bucketKey(region, district));
+        if (bucket == null || limit <= 0) {
+            return List.of();
+        }
+
+        // 크기 limit의 최소 힙으로 상위 K개만 유지
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Candidate::value));
+        for (Entry entry : bucket.values()) {
+            double value = entry.value.sum();
+            if (value <= 0) {
+                continue;
+            }
+            heap.offer(new Candidate(entry.id, value));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        double decay = Math.exp(-decayRate * (nowMillis - epochMillis));
+        List<ScoredId> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Candidate candidate = heap.poll();
+            result.add(new ScoredId(candidate.id(), candidate.value() * decay));
+        }
+        result.sort(Comparator.comparingDouble(ScoredId::score).reversed());
+        return result;
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 minScore 미만 항목 정리 (정리된 항목 수 반환)
+     */
+    public int rebase(long nowMillis, double minScore) {
+        lock.writeLock().lock();
+        try {
+            double decay = Math.exp(-decayRate * (nowMillis - epochMillis));
+            int removed = 0;
+            for (Entry entry : new ArrayList<>(entries.values())) {
+                double value = entry.value.sumThenReset() * decay;
+                if (value < minScore) {
+                    entries.remove(entry.id);
+                    unregister(entry);
+                    removed++;
+                } else {
+                    entry.value.add(value);
+                }
+            }
+            epochMillis = nowMillis;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 시각 기준 점수 전체 (스냅샷 저장용)
+     */
+    public List<ScoredEntry> export(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            double decay = Math.exp(-decayRate * (nowMillis - epochMillis));
+            List<ScoredEntry> result = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                result.add(new ScoredEntry(entry.id, entry.region, entry.district, entry.value.sum() * decay));
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry register(Entry entry) {
+        bucketOf(GLOBAL_BUCKET).put(entry.id, entry);
+        if (entry.region != null) {
+            bucketOf(bucketKey(entry.region, null)).put(entry.id, entry);
+            if (entry.district != null) {
+                bucketOf(bucketKey(entry.region, entry.district)).put(entry.id, entry);
+            }
+        }
+        return entry;
+    }
+
+    private void unregister(Entry entry) {
+        bucketOf(GLOBAL_BUCKET).remove(entry.id);
+        if (entry.region != null) {
+            bucketOf(bucketKey(entry.region, null)).remove(entry.id);
+            if (entry.district != null) {
+                bucketOf(bucketKey(entry.region, entry.district)).remove(entry.id);
+            }
+        }
+    }
+
+    private Map<Long, Entry> bucketOf(String key) {
+        return buckets.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    private static String bucketKey(String region, String district) {
+        if (region == null || region.isBlank()) {
+            return GLOBAL_BUCKET;
+        }
+        return district == null || district.isBlank() ? region : region + "|" + district;
+    }
+
+    public record ScoredId(long id, double score) {}
+
+    public record ScoredEntry(long id, String region, String district, double score) {}
+
+    private record Candidate(long id, double value) {}
+
+    private static class Entry {
+        private final long id;
+        private final String region;
+        private final String district;
+        private final DoubleAdder value = new DoubleAdder();
+
+        Entry(long id, String region, String district) {
+            this.id = id;
+            this.region = region;
+            this.district = district;
+        }
+    }
+}
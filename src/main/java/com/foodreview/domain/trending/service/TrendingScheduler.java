@@ -0,0 +1,49 @@
+package com.foodreview.domain.trending.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트렌딩 점수판 스케줄러
+ * - 서버 시작 시 마지막 스냅샷 복원
+ * - 매시 정각 감쇠 기준 갱신 + 스냅샷 저장, 종료 시에도 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingScheduler implements ApplicationRunner {
+
+    private final TrendingService trendingService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            trendingService.restore();
+        } catch (Exception e) {
+            log.error("Trending snapshot restore failed", e);
+        }
+    }
+
+    /**
+     * 매시 정각에 스냅샷 저장
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void persistSnapshot() {
+        try {
+            trendingService.rebaseAndPersist();
+        } catch (Exception e) {
+            log.error("Trending snapshot save failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persistSnapshot();
+    }
+}
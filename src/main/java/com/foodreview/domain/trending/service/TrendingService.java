@@ -0,0 +1,168 @@
+package com.foodreview.domain.trending.service;
+
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.domain.trending.entity.TrendingSnapshot;
+import com.foodreview.domain.trending.repository.TrendingSnapshotRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 트렌딩 서비스 ("지금 뜨는" 리뷰/음식점)
+ *
+ * 리뷰 작성/공감/댓글 이벤트를 가중치로 받아 리뷰별·음식점별 지수 감쇠 점수를 메모리에 유지하고,
+ * 전체/시·도/구 단위 상위 목록을 DB 조회 없이 계산한다. 점수판은 매시 스냅샷으로 저장해 재시작 시 복원한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TrendingService {
+
+    // 이벤트 가중치
+    private static final double REVIEW_CREATED_WEIGHT = 3.0;
+    private static final double SYMPATHY_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+
+    // 이 점수 미만으로 감쇠한 항목은 정리
+    private static final double MIN_SCORE = 0.05;
+    // 스냅샷으로 저장하는 대상 종류별 최대 항목 수
+    private static final int MAX_SNAPSHOT_ENTRIES = 20_000;
+    private static final int SNAPSHOT_BATCH_SIZE = 1000;
+    private static final String INSERT_SNAPSHOT_SQL = "INSERT INTO trending_snapshots " +
+            "(target_type, target_id, region, district, score, snapshot_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DecayedScoreBoard reviewBoard;
+    private final DecayedScoreBoard restaurantBoard;
+
+    public TrendingService(TrendingSnapshotRepository trendingSnapshotRepository,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${trending.half-life-hours:6}") long halfLifeHours) {
+        this.trendingSnapshotRepository = trendingSnapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        long halfLifeMillis = halfLifeHours * 60 * 60 * 1000L;
+        long now = System.currentTimeMillis();
+        this.reviewBoard = new DecayedScoreBoard(halfLifeMillis, now);
+        this.restaurantBoard = new DecayedScoreBoard(halfLifeMillis, now);
+    }
+
+    // 리뷰 작성 (리뷰 필터 컬럼이 채워진 저장 이후 호출)
+    public void recordReviewCreated(Review review) {
+        record(review, REVIEW_CREATED_WEIGHT);
+    }
+
+    // 공감 추가/취소
+    public void recordSympathy(Review review, boolean added) {
+        record(review, added ? SYMPATHY_WEIGHT : -SYMPATHY_WEIGHT);
+    }
+
+    public void recordComment(Review review) {
+        record(review, COMMENT_WEIGHT);
+    }
+
+    public void removeReview(Long reviewId) {
+        TransactionUtils.afterCommit(() -> reviewBoard.remove(reviewId));
+    }
+
+    /**
+     * 지역 단위 상위 리뷰 ID (region/district 생략 시 상위 단위)
+     */
+    public List<Long> getTopReviewIds(String region, String district, int limit) {
+        return ids(reviewBoard.top(region, district, limit, System.currentTimeMillis()));
+    }
+
+    public List<Long> getTopRestaurantIds(String region, String district, int limit) {
+        return ids(restaurantBoard.top(region, district, limit, System.currentTimeMillis()));
+    }
+
+    /**
+     * 감쇠 기준 시각 갱신 + 낮은 점수 정리 후 스냅샷 저장 (최대 수만 행이므로 엔티티 저장 대신 JDBC 일괄 INSERT)
+     */
+    @Transactional
+    public void rebaseAndPersist() {
+        long now = System.currentTimeMillis();
+        int prunedReviews = reviewBoard.rebase(now, MIN_SCORE);
+        int prunedRestaurants = restaurantBoard.rebase(now, MIN_SCORE);
+
+        Timestamp snapshotAt = Timestamp.valueOf(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()));
+        List<SnapshotRow> rows = new ArrayList<>();
+        addSnapshots(rows, TrendingSnapshot.TargetType.REVIEW, reviewBoard.export(now));
+        addSnapshots(rows, TrendingSnapshot.TargetType.RESTAURANT, restaurantBoard.export(now));
+
+        trendingSnapshotRepository.deleteAllInBatch();
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, rows, SNAPSHOT_BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, row.type().name());
+            ps.setLong(2, row.entry().id());
+            ps.setString(3, row.entry().region());
+            ps.setString(4, row.entry().district());
+            ps.setDouble(5, row.entry().score());
+            ps.setTimestamp(6, snapshotAt);
+            ps.setTimestamp(7, snapshotAt);
+            ps.setTimestamp(8, snapshotAt);
+        });
+
+        log.info("Trending snapshot saved: reviews={}, restaurants={}, pruned={}",
+                reviewBoard.size(), restaurantBoard.size(), prunedReviews + prunedRestaurants);
+    }
+
+    /**
+     * 저장된 스냅샷으로 점수판 복원 (스냅샷 이후 경과 시간만큼 감쇠 적용)
+     */
+    public void restore() {
+        long now = System.currentTimeMillis();
+        List<TrendingSnapshot> snapshots = trendingSnapshotRepository.findAll();
+        for (TrendingSnapshot snapshot : snapshots) {
+            DecayedScoreBoard board = snapshot.getTargetType() == TrendingSnapshot.TargetType.REVIEW
+                    ? reviewBoard : restaurantBoard;
+            long snapshotMillis = snapshot.getSnapshotAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            // 스냅샷 시점에 가산하면 현재 시각까지의 감쇠가 자연히 반영됨
+            board.add(snapshot.getTargetId(), snapshot.getRegion(), snapshot.getDistrict(),
+                    snapshot.getScore(), Math.min(snapshotMillis, now));
+        }
+        if (!snapshots.isEmpty()) {
+            log.info("Trending scores restored: {} entries", snapshots.size());
+        }
+    }
+
+    // 커밋된 이벤트만 반영
+    private void record(Review review, double weight) {
+        Long reviewId = review.getId();
+        Long restaurantId = review.getRestaurant().getId();
+        String region = review.getRestaurantRegion();
+        String district = review.getRestaurantDistrict();
+        TransactionUtils.afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            reviewBoard.add(reviewId, region, district, weight, now);
+            restaurantBoard.add(restaurantId, region, district, weight, now);
+        });
+    }
+
+    private static void addSnapshots(List<SnapshotRow> rows, TrendingSnapshot.TargetType type,
+                                     List<DecayedScoreBoard.ScoredEntry> entries) {
+        entries.stream()
+                .sorted(Comparator.comparingDouble(DecayedScoreBoard.ScoredEntry::score).reversed())
+                .limit(MAX_SNAPSHOT_ENTRIES)
+                .forEach(entry -> rows.add(new SnapshotRow(type, entry)));
+    }
+
+    private static List<Long> ids(List<DecayedScoreBoard.ScoredId> scored) {
+        return scored.stream().map(DecayedScoreBoard.ScoredId::id).toList();
+    }
+
+    // 스냅샷 INSERT 한 행
+    private record SnapshotRow(TrendingSnapshot.TargetType type, DecayedScoreBoard.ScoredEntry entry) {}
+}
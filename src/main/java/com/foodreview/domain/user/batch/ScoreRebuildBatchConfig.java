@@ -0,0 +1,114 @@
+package com.foodreview.domain.user.batch;
+
+import com.foodreview.domain.user.repository.ScoreEventRepository;
+import com.foodreview.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 점수 재계산 배치
+ *
+ * 사용자 ID 범위를 파티션으로 나눠 병렬로 처리하고, 각 파티션은 ID 구간 단위로
+ * users.taste_score를 점수 원장(score_events) 합계로 덮어쓴다. 구간마다 별도 트랜잭션으로 커밋한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ScoreRebuildBatchConfig {
+
+    private static final int GRID_SIZE = 4;
+    private static final long ID_RANGE_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final UserRepository userRepository;
+    private final ScoreEventRepository scoreEventRepository;
+
+    @Bean
+    public Job scoreRebuildJob() {
+        return new JobBuilder("scoreRebuildJob", jobRepository)
+                .start(scoreRebuildManagerStep())
+                .build();
+    }
+
+    @Bean
+    public Step scoreRebuildManagerStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("score-rebuild-");
+        taskExecutor.setConcurrencyLimit(GRID_SIZE);
+
+        return new StepBuilder("scoreRebuildManagerStep", jobRepository)
+                .partitioner("scoreRebuildStep", userIdRangePartitioner())
+                .step(scoreRebuildStep())
+                .gridSize(GRID_SIZE)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step scoreRebuildStep() {
+        return new StepBuilder("scoreRebuildStep", jobRepository)
+                .tasklet(scoreRebuildTasklet(null, null), transactionManager)
+                .build();
+    }
+
+    /**
+     * 사용자 ID 최소~최대 범위를 gridSize개 구간으로 분할
+     */
+    @Bean
+    public Partitioner userIdRangePartitioner() {
+        return gridSize -> {
+            long minId = userRepository.findMinId();
+            long maxId = userRepository.findMaxId();
+            long span = Math.max(1, (maxId - minId + gridSize) / gridSize);
+
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            int index = 0;
+            for (long from = minId; from <= maxId; from += span) {
+                ExecutionContext context = new ExecutionContext();
+                context.putLong("minId", from);
+                context.putLong("maxId", Math.min(from + span - 1, maxId));
+                partitions.put("partition" + index++, context);
+            }
+            log.info("Score rebuild batch: user id {}~{}, {} partitions", minId, maxId, partitions.size());
+            return partitions;
+        };
+    }
+
+    /**
+     * 파티션 범위를 ID_RANGE_SIZE 단위로 재계산 (구간마다 CONTINUABLE로 반복, 진행 위치는 실행 컨텍스트에 저장)
+     */
+    @Bean
+    @StepScope
+    public Tasklet scoreRebuildTasklet(@Value("#{stepExecutionContext['minId']}") Long minId,
+                                      @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long from = context.getLong("nextId", minId);
+            long to = Math.min(from + ID_RANGE_SIZE - 1, maxId);
+
+            int updated = scoreEventRepository.rebuildTasteScores(from, to);
+            contribution.incrementWriteCount(updated);
+
+            context.putLong("nextId", to + 1);
+            return to < maxId ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+}
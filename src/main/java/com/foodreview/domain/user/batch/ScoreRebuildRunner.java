@@ -0,0 +1,70 @@
+package com.foodreview.domain.user.batch;
+
+import com.foodreview.domain.user.service.UserRankingService;
+import com.foodreview.global.config.SchedulingConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 점수 재계산 실행
+ * - 실행 인자 --rebuild-scores 지정 시 서버 시작 직후 실행 (원장 초기화 이후)
+ * - 매주 월요일 새벽 정합성 보정
+ */
+@Slf4j
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class ScoreRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-scores";
+
+    private final JobLauncher jobLauncher;
+    private final Job scoreRebuildJob;
+    private final UserRankingService userRankingService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            rebuild("command");
+        }
+    }
+
+    /**
+     * 매주 월요일 새벽 5시 20분에 점수 재계산 (새벽 3~4시대 보정/정리 작업 이후 빈 시간대)
+     * 배치와 순위판 재구성이 끝날 때까지 스레드를 점유하므로 전용 스케줄러에서 실행
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 20 5 * * MON", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void runScheduledRebuild() {
+        rebuild("scheduled");
+    }
+
+    private void rebuild(String type) {
+        try {
+            log.info("Starting score rebuild batch job ({})...", type);
+
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .addString("type", type)
+                    .toJobParameters();
+
+            jobLauncher.run(scoreRebuildJob, params);
+
+            log.info("Score rebuild batch job completed");
+
+            // 점수가 일괄로 바뀌었으므로 순위판도 다시 만듦
+            userRankingService.rebuild();
+        } catch (Exception e) {
+            log.error("Score rebuild batch job failed", e);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Ranking", description = "랭킹 API")
 @RestController
 @RequestMapping("/api/ranking")
@@ -20,12 +22,21 @@ public class RankingController {
 
     private final UserService userService;
 
-    @Operation(summary = "랭킹 조회")
+    @Operation(summary = "랭킹 조회", description = "period: ALL(누적, 기본값), WEEKLY(최근 7일), MONTHLY(최근 30일)")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<UserDto.RankingResponse>>> getRanking(
             @RequestParam(required = false) String region,
+            @RequestParam(required = false, defaultValue = "ALL") String period,
             @PageableDefault(size = 20) Pageable pageable) {
-        PageResponse<UserDto.RankingResponse> response = userService.getRanking(region, pageable);
+        PageResponse<UserDto.RankingResponse> response = userService.getRanking(region, period, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "사용자 기간별 순위 조회", description = "누적/주간/월간 전체 순위와 지역 내 순위")
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<List<UserDto.RankingPositionResponse>>> getRankingPositions(
+            @PathVariable Long userId) {
+        List<UserDto.RankingPositionResponse> response = userService.getRankingPositions(userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
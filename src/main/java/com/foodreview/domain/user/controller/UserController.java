@@ -6,11 +6,14 @@ import com.foodreview.domain.user.dto.ScoreEventDto;
 import com.foodreview.domain.user.dto.UserDto;
 import com.foodreview.domain.user.service.UserService;
 import com.foodreview.global.common.ApiResponse;
+import com.foodreview.global.common.ConditionalResponse;
+import com.foodreview.global.common.CursorPageResponse;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.security.CurrentUser;
 import com.foodreview.global.security.CustomUserDetails;
 import com.foodreview.global.exception.CustomException;
 import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -32,22 +35,29 @@ public class UserController {
 
     private final UserService userService;
     private final ReviewService reviewService;
+    private final ConditionalResponse conditionalResponse;
 
     @Operation(summary = "내 정보 조회")
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserDto.Response>> getMe(@CurrentUser CustomUserDetails userDetails) {
+    public ResponseEntity<ApiResponse<UserDto.Response>> getMe(
+            @CurrentUser CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if (userDetails == null) {
             throw new CustomException("인증되지 않은 사용자입니다", HttpStatus.UNAUTHORIZED, "UNAUTHORIZED");
         }
         UserDto.Response response = userService.getMyProfile(userDetails.getUserId());
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return conditionalResponse.ok(ifNoneMatch, true, response);
     }
 
-    @Operation(summary = "사용자 정보 조회")
+    // 점수/카운터는 벌크 갱신이라 수정 시각에 반영되지 않고 순위는 다른 사용자 점수에 따라 바뀌므로 응답 내용으로 ETag 계산
+    @Operation(summary = "사용자 정보 조회", description = "ETag 지원 (If-None-Match 일치 시 304)")
     @GetMapping("/{userId}")
-    public ResponseEntity<ApiResponse<UserDto.Response>> getUser(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<UserDto.Response>> getUser(
+            @PathVariable Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         UserDto.Response response = userService.getUser(userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return conditionalResponse.ok(ifNoneMatch, userDetails != null, response);
     }
 
     @Operation(summary = "사용자 리뷰 조회")
@@ -61,6 +71,18 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "사용자 리뷰 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/{userId}/reviews/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewDto.Response>>> getUserReviewsByCursor(
+            @PathVariable("userId") Long userId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = userDetails != null ? userDetails.getUserId() : null;
+        CursorPageResponse<ReviewDto.Response> response = reviewService.getUserReviewsByCursor(userId, currentUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "내 프로필 수정")
     @PutMapping("/me")
     public ResponseEntity<ApiResponse<UserDto.Response>> updateProfile(
@@ -88,6 +110,15 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(null, "언팔로우했습니다"));
     }
 
+    @Operation(summary = "사용자 목록 관계 조회", description = "최대 300명의 팔로우/팔로워/차단 여부를 한 번에 조회")
+    @PostMapping("/relationships")
+    public ResponseEntity<ApiResponse<List<UserDto.RelationshipResponse>>> getRelationships(
+            @CurrentUser CustomUserDetails userDetails,
+            @Valid @RequestBody UserDto.RelationshipRequest request) {
+        List<UserDto.RelationshipResponse> response = userService.getRelationships(userDetails.getUserId(), request.getUserIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "팔로잉 목록 조회")
     @GetMapping("/{userId}/followings")
     public ResponseEntity<ApiResponse<PageResponse<UserDto.SimpleResponse>>> getFollowings(
@@ -106,6 +137,26 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "팔로잉 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최근 팔로우순)")
+    @GetMapping("/{userId}/followings/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserDto.SimpleResponse>>> getFollowingsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<UserDto.SimpleResponse> response = userService.getFollowingsByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "팔로워 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최근 팔로우순)")
+    @GetMapping("/{userId}/followers/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserDto.SimpleResponse>>> getFollowersByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<UserDto.SimpleResponse> response = userService.getFollowersByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "팔로우 여부 확인")
     @GetMapping("/{userId}/is-following")
     public ResponseEntity<ApiResponse<Boolean>> isFollowing(
@@ -115,7 +166,7 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(isFollowing));
     }
 
-    @Operation(summary = "점수 획득 내역 조회")
+    @Operation(summary = "점수 획득 내역 조회", description = "오프셋 기반 (하위 호환용). 커서 조회 API 사용 권장", deprecated = true)
     @GetMapping("/{userId}/score-history")
     public ResponseEntity<ApiResponse<PageResponse<ScoreEventDto.Response>>> getScoreHistory(
             @PathVariable Long userId,
@@ -124,6 +175,16 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "점수 획득 내역 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달 (최신순)")
+    @GetMapping("/{userId}/score-history/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ScoreEventDto.Response>>> getScoreHistoryByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<ScoreEventDto.Response> response = userService.getScoreHistoryByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "친구 추천")
     @GetMapping("/recommendations")
     public ResponseEntity<ApiResponse<List<UserDto.RecommendResponse>>> getRecommendedFriends(
@@ -2,6 +2,8 @@ package com.foodreview.domain.user.dto;
 
 import com.foodreview.domain.user.entity.RecommendationCache;
 import com.foodreview.domain.user.entity.User;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -24,6 +26,8 @@ public class UserDto {
         private String tasteGrade;
         private Integer reviewCount;
         private Integer receivedSympathyCount;
+        private Integer followerCount;
+        private Integer followingCount;
         private List<String> favoriteCategories;
         private Integer rank;
 
@@ -39,6 +43,8 @@ public class UserDto {
                     .tasteGrade(user.getTasteGrade())
                     .reviewCount(user.getReviewCount())
                     .receivedSympathyCount(user.getReceivedSympathyCount())
+                    .followerCount(user.getFollowerCount())
+                    .followingCount(user.getFollowingCount())
                     .favoriteCategories(user.getFavoriteCategories())
                     .build();
         }
@@ -55,6 +61,8 @@ public class UserDto {
                     .tasteGrade(user.getTasteGrade())
                     .reviewCount(user.getReviewCount())
                     .receivedSympathyCount(user.getReceivedSympathyCount())
+                    .followerCount(user.getFollowerCount())
+                    .followingCount(user.getFollowingCount())
                     .favoriteCategories(user.getFavoriteCategories())
                     .rank(rank)
                     .build();
@@ -108,8 +116,13 @@ public class UserDto {
         private String tasteGrade;
         private Integer rank;
         private Integer reviewCount;
+        private Integer periodScore; // 주간/월간 랭킹일 때 기간 내 획득 점수
 
         public static RankingResponse from(User user, Integer rank) {
+            return from(user, rank, null);
+        }
+
+        public static RankingResponse from(User user, Integer rank, Integer periodScore) {
             return RankingResponse.builder()
                     .id(user.getId())
                     .name(user.getName())
@@ -119,10 +132,22 @@ public class UserDto {
                     .tasteGrade(user.getTasteGrade())
                     .rank(rank)
                     .reviewCount(user.getReviewCount())
+                    .periodScore(periodScore)
                     .build();
         }
     }
 
+    // 기간별 순위 (ALL: 누적 점수, WEEKLY: 최근 7일, MONTHLY: 최근 30일)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RankingPositionResponse {
+        private String period;
+        private Integer score;
+        private Integer rank;       // 전체 순위 (기간 내 점수가 없으면 null)
+        private Integer regionRank; // 지역 내 순위 (기간 내 점수가 없으면 null)
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -133,6 +158,7 @@ public class UserDto {
         private String region;
         private Integer tasteScore;
         private String tasteGrade;
+        private Integer followerCount;
         private List<String> commonCategories;
         private String recommendReason;
 
@@ -144,12 +170,35 @@ public class UserDto {
                     .region(user.getRegion())
                     .tasteScore(user.getTasteScore())
                     .tasteGrade(user.getTasteGrade())
+                    .followerCount(user.getFollowerCount())
                     .commonCategories(commonCategories)
                     .recommendReason(reason)
                     .build();
         }
     }
 
+    // 사용자 목록 관계 일괄 조회 요청
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RelationshipRequest {
+        @NotEmpty(message = "조회할 사용자를 선택해주세요")
+        @Size(max = 300, message = "한 번에 최대 300명까지 조회할 수 있습니다")
+        private List<Long> userIds;
+    }
+
+    // 나와 해당 사용자의 관계
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RelationshipResponse {
+        private Long userId;
+        private Boolean following;  // 내가 팔로우 중
+        private Boolean followedBy; // 나를 팔로우 중
+        private Boolean blocked;    // 내가 차단함
+        private Boolean blockedBy;  // 나를 차단함
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -182,6 +231,7 @@ public class UserDto {
         private Integer tasteScore;
         private String tasteGrade;
         private Integer reviewCount;
+        private Integer followerCount;
         private Boolean isFollowing;
 
         public static SearchResponse from(User user, Boolean isFollowing) {
@@ -193,6 +243,7 @@ public class UserDto {
                     .tasteScore(user.getTasteScore())
                     .tasteGrade(user.getTasteGrade())
                     .reviewCount(user.getReviewCount())
+                    .followerCount(user.getFollowerCount())
                     .isFollowing(isFollowing)
                     .build();
         }
@@ -7,6 +7,9 @@ import lombok.*;
 @Entity
 @Table(name = "follows", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"follower_id", "following_id"})
+}, indexes = {
+    @Index(name = "idx_follow_follower_created", columnList = "follower_id, created_at DESC"),
+    @Index(name = "idx_follow_following_created", columnList = "following_id, created_at DESC")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -4,8 +4,14 @@ import com.foodreview.domain.common.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 점수 원장 (추가 전용, users.taste_score는 사용자별 points 합계)
+ */
 @Entity
-@Table(name = "score_events")
+@Table(name = "score_events", indexes = {
+        @Index(name = "idx_score_event_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_score_event_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -41,6 +47,7 @@ public class ScoreEvent extends BaseTimeEntity {
         SYMPATHY_RECEIVED, // 공감 받음 (상대방 점수의 0.5%)
         SYMPATHY_BONUS,    // 마스터 공감 보너스 (25점)
         INFLUENCE,         // 리뷰 영향력 (내 리뷰가 참고됨, 5점)
-        INFLUENCE_FIRST_REVIEW // 첫 리뷰 영향력 (첫 리뷰가 참고됨, 10점)
+        INFLUENCE_FIRST_REVIEW, // 첫 리뷰 영향력 (첫 리뷰가 참고됨, 10점)
+        OPENING_BALANCE    // 원장 도입 이전 누적 점수 (최초 1회)
     }
 }
@@ -1,6 +1,7 @@
 package com.foodreview.domain.user.entity;
 
 import com.foodreview.domain.common.BaseTimeEntity;
+import com.foodreview.global.counter.PendingCounterListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PendingCounterListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -41,18 +43,29 @@ public class User extends BaseTimeEntity {
     @Column(length = 50)
     private String neighborhood;
 
-    @Column(name = "taste_score", nullable = false)
+    // 점수는 점수 원장(score_events) 합계를 반영한 값 (ScoreLedger만 변경)
+    @Column(name = "taste_score", nullable = false, updatable = false)
     @Builder.Default
     private Integer tasteScore = 0;
 
-    @Column(name = "review_count", nullable = false)
+    // 카운터 컬럼은 CounterBuffer의 증감 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "review_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer reviewCount = 0;
 
-    @Column(name = "received_sympathy_count", nullable = false)
+    @Column(name = "received_sympathy_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer receivedSympathyCount = 0;
 
+    // 팔로워/팔로잉 수는 팔로우/언팔로우/탈퇴 트랜잭션의 증감 UPDATE로만 변경 (follows 기준 주기 보정)
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer followerCount = 0;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer followingCount = 0;
+
     @ElementCollection
     @CollectionTable(name = "user_favorite_categories", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "category")
@@ -100,26 +113,11 @@ public class User extends BaseTimeEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
-    // 점수 추가
-    public void addScore(int points) {
-        this.tasteScore += points;
-    }
-
-    // 리뷰 카운트 증가
-    public void incrementReviewCount() {
-        this.reviewCount++;
-    }
-
-    // 받은 공감 수 증가
-    public void incrementReceivedSympathyCount() {
-        this.receivedSympathyCount++;
-    }
-
-    // 받은 공감 수 감소
-    public void decrementReceivedSympathyCount() {
-        if (this.receivedSympathyCount > 0) {
-            this.receivedSympathyCount--;
-        }
+    // 아직 DB에 반영되지 않은 점수/카운터 증감 적용 (조회용)
+    public void applyPendingCounters(long scoreDelta, long reviewCountDelta, long receivedSympathyDelta) {
+        this.tasteScore = (int) (this.tasteScore + scoreDelta);
+        this.reviewCount = (int) Math.max(0, this.reviewCount + reviewCountDelta);
+        this.receivedSympathyCount = (int) Math.max(0, this.receivedSympathyCount + receivedSympathyDelta);
     }
 
     // 프로필 업데이트
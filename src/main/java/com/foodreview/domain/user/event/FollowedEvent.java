@@ -0,0 +1,6 @@
+package com.foodreview.domain.user.event;
+
+/**
+ * 팔로우 이벤트 (팔로우 받은 사용자 배지)
+ */
+public record FollowedEvent(Long followerId, Long followingId) {}
@@ -5,9 +5,12 @@ import com.foodreview.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,20 +30,55 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.follower FROM Follow f WHERE f.following = :user")
     Page<User> findFollowersByFollowing(@Param("user") User user, Pageable pageable);
 
-    // 팔로잉 수
-    long countByFollower(User follower);
+    // 팔로잉 목록 커서 조회 (최근 팔로우순, 대상 사용자 fetch join)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.following WHERE f.follower = :user " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findFollowingsWithCursor(@Param("user") User user,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
 
-    // 팔로워 수
-    long countByFollowing(User following);
+    // 팔로워 목록 커서 조회 (최근 팔로우순, 팔로워 fetch join)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.following = :user " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findFollowersWithCursor(@Param("user") User user,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
 
     // 팔로잉 ID 목록 조회 (빠른 확인용)
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
     List<Long> findFollowingIdsByFollowerId(@Param("userId") Long userId);
 
+    // 팔로워 수가 기준 이상인 사용자 ID (피드 fan-out 제외 대상)
+    @Query("SELECT f.following.id FROM Follow f GROUP BY f.following.id HAVING COUNT(f) >= :threshold")
+    List<Long> findUserIdsWithFollowerCountAtLeast(@Param("threshold") long threshold);
+
+    // 주어진 사용자 중 팔로우하고 있는 사용자 ID
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :followingIds")
+    List<Long> findFollowingIdsByFollowerIdAndFollowingIdIn(@Param("followerId") Long followerId,
+                                                            @Param("followingIds") Collection<Long> followingIds);
+
+    // 주어진 사용자 중 나를 팔로우하는 사용자 ID
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :followingId AND f.follower.id IN :followerIds")
+    List<Long> findFollowerIdsByFollowingIdAndFollowerIdIn(@Param("followingId") Long followingId,
+                                                          @Param("followerIds") Collection<Long> followerIds);
+
     // 팔로우 관계 확인 (ID만 사용 - 최적화)
     @Query("SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
     boolean existsByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
+    // 팔로우 그래프 적재용 (ID 순 청크)
+    @Query("SELECT f.id, f.follower.id, f.following.id FROM Follow f WHERE f.id > :afterId ORDER BY f.id")
+    List<Object[]> findEdges(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 팔로우 관계 삭제 (삭제된 행 수 반환, 실제로 끊긴 관계만 팔로워/팔로잉 수에 반영하기 위함)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
     // 회원 탈퇴 시 팔로우 관계 전체 삭제
     void deleteByFollowerOrFollowing(User follower, User following);
 
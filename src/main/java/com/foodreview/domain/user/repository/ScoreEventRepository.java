@@ -5,9 +5,51 @@ import com.foodreview.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ScoreEventRepository extends JpaRepository<ScoreEvent, Long> {
 
     // 사용자의 점수 획득 내역 조회
     Page<ScoreEvent> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    // 사용자의 점수 획득 내역 커서 조회 (최신순, fromUser fetch join, (user_id, created_at, id) 인덱스 범위 조회)
+    @Query("SELECT e FROM ScoreEvent e LEFT JOIN FETCH e.fromUser WHERE e.user.id = :userId " +
+           "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.id < :cursorId)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ScoreEvent> findByUserIdWithCursor(@Param("userId") Long userId,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    boolean existsByType(ScoreEvent.ScoreEventType type);
+
+    // 기간별 순위판 적재 (since 이후 사용자/일자별 점수 합계, 기초 잔액 제외, created_at 인덱스 범위 조회)
+    @Query(value = "SELECT e.user_id, u.region, DATE(e.created_at), SUM(e.points) FROM score_events e " +
+                   "JOIN users u ON u.id = e.user_id " +
+                   "WHERE e.created_at >= :since AND e.type <> 'OPENING_BALANCE' " +
+                   "GROUP BY e.user_id, u.region, DATE(e.created_at)",
+           nativeQuery = true)
+    List<Object[]> sumPointsByUserAndDaySince(@Param("since") LocalDateTime since);
+
+    // 원장 합계와 다른 기존 점수를 기초 잔액으로 기록 (원장 도입 시 1회)
+    @Modifying
+    @Query(value = "INSERT INTO score_events (user_id, type, description, points, from_user_id, created_at, updated_at) " +
+                   "SELECT u.id, 'OPENING_BALANCE', '기존 누적 점수', u.taste_score - COALESCE(l.total, 0), NULL, NOW(6), NOW(6) " +
+                   "FROM users u LEFT JOIN (SELECT user_id, SUM(points) AS total FROM score_events GROUP BY user_id) l " +
+                   "ON l.user_id = u.id WHERE u.taste_score <> COALESCE(l.total, 0)",
+           nativeQuery = true)
+    int insertOpeningBalances();
+
+    // 사용자 ID 구간의 점수를 원장 합계로 재계산
+    @Modifying
+    @Query(value = "UPDATE users u LEFT JOIN (SELECT user_id, SUM(points) AS total FROM score_events " +
+                   "WHERE user_id BETWEEN :fromId AND :toId GROUP BY user_id) l ON l.user_id = u.id " +
+                   "SET u.taste_score = COALESCE(l.total, 0) WHERE u.id BETWEEN :fromId AND :toId",
+           nativeQuery = true)
+    int rebuildTasteScores(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -19,8 +19,10 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
 
     Optional<UserBlock> findByBlockerAndBlockedUser(User blocker, User blockedUser);
 
-    @Query("SELECT ub.blockedUser FROM UserBlock ub WHERE ub.blocker = :user")
-    Page<User> findBlockedUsersByBlocker(@Param("user") User user, Pageable pageable);
+    // 차단 목록 (차단 시점 + 차단 대상 함께 조회)
+    @Query(value = "SELECT ub FROM UserBlock ub JOIN FETCH ub.blockedUser WHERE ub.blocker.id = :userId",
+           countQuery = "SELECT COUNT(ub) FROM UserBlock ub WHERE ub.blocker.id = :userId")
+    Page<UserBlock> findWithBlockedUserByBlockerId(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT ub.blockedUser.id FROM UserBlock ub WHERE ub.blocker.id = :userId")
     List<Long> findBlockedUserIdsByBlockerId(@Param("userId") Long userId);
@@ -5,9 +5,11 @@ import com.foodreview.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +32,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) + 1 FROM User u WHERE u.region = :region AND u.tasteScore > :score")
     Integer findRankByRegionAndScore(@Param("region") String region, @Param("score") Integer score);
 
+    // 사용자의 전체 순위 조회
+    @Query("SELECT COUNT(u) + 1 FROM User u WHERE u.tasteScore > :score")
+    Integer findRankByScore(@Param("score") Integer score);
+
     // 친구 추천 - 같은 지역, 비슷한 관심사
     @Query("SELECT u FROM User u WHERE u.region = :region AND u.id != :userId ORDER BY u.tasteScore DESC")
     List<User> findRecommendedFriends(@Param("region") String region, @Param("userId") Long userId, Pageable pageable);
@@ -55,4 +61,66 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 취향 분석 배치용: 최소 N개 이상 리뷰 작성한 사용자 조회
     @Query("SELECT u FROM User u WHERE u.deleted = false AND u.reviewCount >= :minReviews")
     List<User> findUsersWithMinReviews(@Param("minReviews") int minReviews);
+
+    // 점수 재계산 배치 파티션 범위
+    @Query("SELECT COALESCE(MIN(u.id), 0) FROM User u")
+    Long findMinId();
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    Long findMaxId();
+
+    // 사용자 검색 색인 적재용 (탈퇴하지 않은 사용자, ID 순 청크)
+    @Query("SELECT u.id, u.name, u.region, u.tasteScore FROM User u WHERE u.deleted = false AND u.id > :afterId ORDER BY u.id")
+    List<Object[]> findSearchEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 순위판 적재용 (ID 순 청크)
+    @Query("SELECT u.id, u.region, u.tasteScore FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findRankingEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 순위판 갱신용 (점수 기록 직후 같은 트랜잭션에서 조회)
+    @Query("SELECT u.id, u.region, u.tasteScore FROM User u WHERE u.id IN :ids")
+    List<Object[]> findRankingEntriesByIds(@Param("ids") Collection<Long> ids);
+
+    // 팔로워 수 증감 (팔로우/언팔로우 트랜잭션에서 호출, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE users SET follower_count = GREATEST(follower_count + :delta, 0) WHERE id = :userId",
+           nativeQuery = true)
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 팔로잉 수 증감 (팔로우/언팔로우 트랜잭션에서 호출, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE users SET following_count = GREATEST(following_count + :delta, 0) WHERE id = :userId",
+           nativeQuery = true)
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 탈퇴 시 상대 사용자들의 팔로워/팔로잉 수 감소 (팔로우 관계 삭제 전에 호출)
+    @Modifying
+    @Query(value = "UPDATE users u JOIN follows f ON f.following_id = u.id " +
+                   "SET u.follower_count = GREATEST(u.follower_count - 1, 0) WHERE f.follower_id = :userId",
+           nativeQuery = true)
+    int decrementFollowerCountsFollowedBy(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE users u JOIN follows f ON f.follower_id = u.id " +
+                   "SET u.following_count = GREATEST(u.following_count - 1, 0) WHERE f.following_id = :userId",
+           nativeQuery = true)
+    int decrementFollowingCountsFollowing(@Param("userId") Long userId);
+
+    // 탈퇴 사용자의 팔로워/팔로잉 수 초기화
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = 0, u.followingCount = 0 WHERE u.id = :userId")
+    int resetFollowCounts(@Param("userId") Long userId);
+
+    // 사용자 ID 구간의 팔로워/팔로잉 수를 follows 기준으로 보정 (값이 다른 행만 갱신, 갱신 행 수 반환)
+    @Modifying
+    @Query(value = "UPDATE users u " +
+                   "LEFT JOIN (SELECT following_id, COUNT(*) AS total FROM follows " +
+                   "WHERE following_id BETWEEN :fromId AND :toId GROUP BY following_id) fr ON fr.following_id = u.id " +
+                   "LEFT JOIN (SELECT follower_id, COUNT(*) AS total FROM follows " +
+                   "WHERE follower_id BETWEEN :fromId AND :toId GROUP BY follower_id) fg ON fg.follower_id = u.id " +
+                   "SET u.follower_count = COALESCE(fr.total, 0), u.following_count = COALESCE(fg.total, 0) " +
+                   "WHERE u.id BETWEEN :fromId AND :toId " +
+                   "AND (u.follower_count <> COALESCE(fr.total, 0) OR u.following_count <> COALESCE(fg.total, 0))",
+           nativeQuery = true)
+    int reconcileFollowCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
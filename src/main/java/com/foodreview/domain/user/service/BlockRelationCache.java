@@ -0,0 +1,119 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.UserBlockRepository;
+import com.foodreview.global.util.LocalCache;
+import com.foodreview.global.util.LongHashSet;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 차단 관계 캐시
+ *
+ * 사용자별로 "내가 차단한 사용자"와 "나를 차단한 사용자"를 long 셋으로 보관해 양방향 차단 여부를 쿼리 없이 확인한다.
+ * 항목은 적재 후 수정하지 않고, 차단/해제/탈퇴 커밋 이후 관련 사용자 항목을 무효화해 다음 조회 때 다시 적재한다.
+ * 무효화는 이 서버에만 적용되므로 다른 서버에서의 변경은 TTL(10초) 안에 반영된다.
+ * 무효화보다 먼저 시작한 적재 결과는 사용자별 버전(ID 해시 구간)을 비교해 캐시에 넣지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockRelationCache {
+
+    private static final int MAX_CACHED_USERS = 50_000;
+    private static final long CACHE_TTL_MILLIS = 10 * 1000L;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final UserBlockRepository userBlockRepository;
+
+    private final LocalCache<Long, BlockRelations> cache = new LocalCache<>(MAX_CACHED_USERS, CACHE_TTL_MILLIS);
+    // 무효화 버전 (사용자 ID 해시 구간별)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    // blocker가 target을 차단했는지
+    public boolean isBlocked(Long blockerId, Long targetId) {
+        return relationsOf(blockerId).blocked.contains(targetId);
+    }
+
+    // 두 사용자 중 한쪽이라도 상대를 차단했는지
+    public boolean isBlockedEitherWay(Long userId, Long otherUserId) {
+        BlockRelations relations = relationsOf(userId);
+        return relations.blocked.contains(otherUserId) || relations.blockedBy.contains(otherUserId);
+    }
+
+    // 내가 차단한 사용자 ID
+    public LongHashSet getBlockedUserIds(Long userId) {
+        return relationsOf(userId).blocked;
+    }
+
+    // 나를 차단한 사용자 ID
+    public LongHashSet getBlockerIds(Long userId) {
+        return relationsOf(userId).blockedBy;
+    }
+
+    /**
+     * 차단/차단 해제 반영 (커밋 이후 양쪽 사용자 항목 무효화)
+     */
+    public void evictPair(Long blockerId, Long blockedUserId) {
+        TransactionUtils.afterCommit(() -> {
+            invalidate(blockerId);
+            invalidate(blockedUserId);
+        });
+    }
+
+    /**
+     * 탈퇴 반영 - 차단 관계 삭제 전에 호출해 상대 사용자 항목까지 무효화
+     */
+    public void evictUser(Long userId) {
+        BlockRelations relations = load(userId);
+        TransactionUtils.afterCommit(() -> {
+            invalidate(userId);
+            relations.blocked.forEach(this::invalidate);
+            relations.blockedBy.forEach(this::invalidate);
+        });
+    }
+
+    private BlockRelations relationsOf(Long userId) {
+        BlockRelations cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripeOf(userId);
+        long version = versions.get(stripe);
+        BlockRelations loaded = load(userId);
+        synchronized (this) {
+            // 적재 중 무효화가 있었으면 캐시하지 않음
+            if (versions.get(stripe) == version) {
+                cache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void invalidate(long userId) {
+        versions.incrementAndGet(stripeOf(userId));
+        cache.invalidate(userId);
+    }
+
+    private static int stripeOf(long userId) {
+        return (int) ((userId ^ (userId >>> 32)) & (VERSION_STRIPES - 1));
+    }
+
+    private BlockRelations load(Long userId) {
+        return new BlockRelations(
+                LongHashSet.of(userBlockRepository.findBlockedUserIdsByBlockerId(userId)),
+                LongHashSet.of(userBlockRepository.findBlockerIdsByBlockedUserId(userId))
+        );
+    }
+
+    private static class BlockRelations {
+        private final LongHashSet blocked;
+        private final LongHashSet blockedBy;
+
+        BlockRelations(LongHashSet blocked, LongHashSet blockedBy) {
+            this.blocked = blocked;
+            this.blockedBy = blockedBy;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.foodreview.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로워/팔로잉 수 보정 스케줄러
+ * - 매일 새벽 follows 테이블 기준 정합성 보정
+ * - 서버 시작 시 한 번 보정 (컬럼 추가 직후 초기 구성 포함, 값이 같은 행은 갱신하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountScheduler {
+
+    private final FollowCountService followCountService;
+
+    /**
+     * 매일 새벽 4시 40분에 보정
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void reconcileFollowCounts() {
+        log.info("Follow count reconciliation started (scheduled)");
+        reconcile();
+    }
+
+    /**
+     * 서버 시작 후 1분 뒤 보정
+     * 팔로워가 없는 사용자만 있거나 일부만 기록된 상태도 있으므로 기록 여부와 관계없이 실행
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = Long.MAX_VALUE)
+    public void buildInitialFollowCounts() {
+        log.info("Follow count reconciliation started (startup)");
+        reconcile();
+    }
+
+    private void reconcile() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int corrected = followCountService.reconcile();
+            log.info("Follow count reconciliation completed: corrected={}, elapsed={}ms",
+                    corrected, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Follow count reconciliation failed", e);
+        }
+    }
+}
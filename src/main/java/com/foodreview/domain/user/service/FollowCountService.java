@@ -0,0 +1,34 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로워/팔로잉 수 보정
+ *
+ * 저장된 users.follower_count / following_count를 follows 테이블 기준으로 ID_RANGE_SIZE 구간마다 다시 맞춘다.
+ * 구간 쓰기가 각자 트랜잭션을 가지도록 이 서비스에는 트랜잭션을 걸지 않는다 (한 번에 많은 사용자 행을 잠그지 않음).
+ */
+@Service
+@RequiredArgsConstructor
+public class FollowCountService {
+
+    private static final long ID_RANGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final FollowCountWriter followCountWriter;
+
+    /**
+     * 전체 사용자 보정 (값이 달라 고친 사용자 수 반환)
+     */
+    public int reconcile() {
+        long minId = userRepository.findMinId();
+        long maxId = userRepository.findMaxId();
+        int corrected = 0;
+        for (long from = minId; from <= maxId; from += ID_RANGE_SIZE) {
+            corrected += followCountWriter.reconcile(from, Math.min(from + ID_RANGE_SIZE - 1, maxId));
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,21 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팔로워/팔로잉 수 구간 보정 (구간 단위 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowCountWriter {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    public int reconcile(long fromId, long toId) {
+        return userRepository.reconcileFollowCounts(fromId, toId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.badge.service.BadgeService;
+import com.foodreview.domain.user.event.FollowedEvent;
+import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로우 이벤트 핸들러 (커밋 이후 팔로워 배지 체크)
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowEventHandler {
+
+    private final UserRepository userRepository;
+    private final BadgeService badgeService;
+
+    @Async(AsyncConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleFollowed(FollowedEvent event) {
+        userRepository.findById(event.followingId()).ifPresent(following ->
+                badgeService.checkAndAwardFollowerBadges(following.getId(), following.getFollowerCount()));
+    }
+}
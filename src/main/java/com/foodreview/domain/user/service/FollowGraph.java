@@ -0,0 +1,396 @@
+package com.foodreview.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우 그래프 (CSR 인접 배열)
+ *
+ * 사용자 ID를 정렬된 배열 위치(int)로 바꾸고, 팔로잉/팔로워 인접 목록을 하나의 int 배열에 이어 붙여(offset 배열로 구간 표시) 보관한다.
+ * 각 인접 목록은 정렬되어 있어 공통 팔로우, 2촌 계산을 정렬 배열 교집합/병합으로 처리한다.
+ * 적재 이후 변경은 해당 사용자의 인접 목록을 복사해 고친 배열로 교체하므로 조회는 잠금 없이 수행한다.
+ */
+public class FollowGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 적재 시점 사용자 ID (정렬, 배열 위치가 내부 ID)
+    private final long[] baseIds;
+    private final int[] followingOffsets;
+    private final int[] followingTargets;
+    private final int[] followerOffsets;
+    private final int[] followerTargets;
+
+    // 적재 이후 인접 목록이 바뀐 사용자 (내부 ID -> 정렬된 인접 배열)
+    private final Map<Integer, int[]> followingOverrides = new ConcurrentHashMap<>();
+    private final Map<Integer, int[]> followerOverrides = new ConcurrentHashMap<>();
+    // 적재 이후 추가된 사용자 (내부 ID는 baseIds.length부터)
+    private final Map<Long, Integer> addedIndexes = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> addedIds = new ConcurrentHashMap<>();
+
+    private FollowGraph(long[] baseIds, int[] followingOffsets, int[] followingTargets,
+                        int[] followerOffsets, int[] followerTargets) {
+        this.baseIds = baseIds;
+        this.followingOffsets = followingOffsets;
+        this.followingTargets = followingTargets;
+        this.followerOffsets = followerOffsets;
+        this.followerTargets = followerTargets;
+    }
+
+    public static FollowGraph empty() {
+        return new Builder().build();
+    }
+
+    public boolean isFollowing(long followerId, long followingId) {
+        int target = indexOf(followingId);
+        return target >= 0 && following(indexOf(followerId)).contains(target);
+    }
+
+    public int followingCount(long userId) {
+        return following(indexOf(userId)).size();
+    }
+
+    public int followerCount(long userId) {
+        return followers(indexOf(userId)).size();
+    }
+
+    public List<Long> followingIds(long userId) {
+        return toIds(following(indexOf(userId)), Integer.MAX_VALUE);
+    }
+
+    /**
+     * userId가 팔로우하는 사람 중 targetId를 팔로우하는 사람 수
+     */
+    public int countMutual(long userId, long targetId) {
+        return intersect(following(indexOf(userId)), followers(indexOf(targetId)), Integer.MAX_VALUE).length;
+    }
+
+    /**
+     * userId가 팔로우하는 사람 중 targetId를 팔로우하는 사람 (최대 limit명)
+     */
+    public List<Long> mutualIds(long userId, long targetId, int limit) {
+        int[] mutual = intersect(following(indexOf(userId)), followers(indexOf(targetId)), limit);
+        return toIds(new Slice(mutual, 0, mutual.length), limit);
+    }
+
+    /**
+     * userId 기준 targetId와의 관계 (팔로우 여부, 공통 팔로우 수 - 최대 mutualLimit까지만 셈)
+     */
+    public Relation relation(long userId, long targetId, int mutualLimit) {
+        int user = indexOf(userId);
+        int target = indexOf(targetId);
+        if (user < 0 || target < 0) {
+            return Relation.NONE;
+        }
+        Slice followings = following(user);
+        return new Relation(followings.contains(target), following(target).contains(user),
+                intersect(followings, followers(target), mutualLimit).length);
+    }
+
+    /**
+     * 2촌 (내가 팔로우하는 사람들이 팔로우하는 사용자, 나와 이미 팔로우한 사용자 제외) - 공통 팔로우 수 내림차순
+     */
+    public List<Connection> secondDegree(long userId) {
+        int self = indexOf(userId);
+        Slice mine = following(self);
+        if (mine.size() == 0) {
+            return List.of();
+        }
+
+        // 팔로잉들의 팔로잉 목록을 이어 붙여 정렬한 뒤 같은 값의 개수를 센다
+        List<Slice> lists = new ArrayList<>(mine.size());
+        int total = 0;
+        for (int i = mine.from; i < mine.to; i++) {
+            Slice list = following(mine.values[i]);
+            lists.add(list);
+            total += list.size();
+        }
+        int[] candidates = new int[total];
+        int length = 0;
+        for (Slice list : lists) {
+            System.arraycopy(list.values, list.from, candidates, length, list.size());
+            length += list.size();
+        }
+        Arrays.sort(candidates);
+
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < length; ) {
+            int candidate = candidates[i];
+            int end = i + 1;
+            while (end < length && candidates[end] == candidate) {
+                end++;
+            }
+            if (candidate != self && !mine.contains(candidate)) {
+                connections.add(new Connection(idOf(candidate), end - i));
+            }
+            i = end;
+        }
+        connections.sort(Comparator.comparingInt(Connection::mutualCount).reversed()
+                .thenComparingLong(Connection::userId));
+        return connections;
+    }
+
+    /**
+     * 팔로우 추가 (이미 있으면 false)
+     */
+    public synchronized boolean follow(long followerId, long followingId) {
+        int follower = indexOrAdd(followerId);
+        int following = indexOrAdd(followingId);
+        int[] followings = following(follower).insert(following);
+        if (followings == null) {
+            return false;
+        }
+        followingOverrides.put(follower, followings);
+        followerOverrides.put(following, followers(following).insert(follower));
+        return true;
+    }
+
+    /**
+     * 팔로우 삭제 (없으면 false)
+     */
+    public synchronized boolean unfollow(long followerId, long followingId) {
+        int follower = indexOf(followerId);
+        int following = indexOf(followingId);
+        if (follower < 0 || following < 0) {
+            return false;
+        }
+        int[] followings = following(follower).delete(following);
+        if (followings == null) {
+            return false;
+        }
+        followingOverrides.put(follower, followings);
+        followerOverrides.put(following, followers(following).delete(follower));
+        return true;
+    }
+
+    /**
+     * 사용자의 팔로우 관계 전체 삭제 (탈퇴)
+     */
+    public synchronized void removeUser(long userId) {
+        int user = indexOf(userId);
+        if (user < 0) {
+            return;
+        }
+        for (Long followingId : toIds(following(user), Integer.MAX_VALUE)) {
+            unfollow(userId, followingId);
+        }
+        for (Long followerId : toIds(followers(user), Integer.MAX_VALUE)) {
+            unfollow(followerId, userId);
+        }
+    }
+
+    private int indexOf(long userId) {
+        int index = Arrays.binarySearch(baseIds, userId);
+        if (index >= 0) {
+            return index;
+        }
+        Integer added = addedIndexes.get(userId);
+        return added != null ? added : -1;
+    }
+
+    private int indexOrAdd(long userId) {
+        int index = indexOf(userId);
+        if (index >= 0) {
+            return index;
+        }
+        index = baseIds.length + addedIndexes.size();
+        addedIds.put(index, userId);
+        addedIndexes.put(userId, index);
+        return index;
+    }
+
+    private long idOf(int index) {
+        return index < baseIds.length ? baseIds[index] : addedIds.get(index);
+    }
+
+    private Slice following(int index) {
+        return adjacency(index, followingOverrides, followingOffsets, followingTargets);
+    }
+
+    private Slice followers(int index) {
+        return adjacency(index, followerOverrides, followerOffsets, followerTargets);
+    }
+
+    private Slice adjacency(int index, Map<Integer, int[]> overrides, int[] offsets, int[] targets) {
+        if (index < 0) {
+            return Slice.NONE;
+        }
+        int[] override = overrides.get(index);
+        if (override != null) {
+            return new Slice(override, 0, override.length);
+        }
+        if (index >= baseIds.length) {
+            return Slice.NONE;
+        }
+        return new Slice(targets, offsets[index], offsets[index + 1]);
+    }
+
+    private List<Long> toIds(Slice slice, int limit) {
+        int count = Math.min(slice.size(), limit);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(idOf(slice.values[slice.from + i]));
+        }
+        return ids;
+    }
+
+    // 정렬 배열 교집합 (크기 차이가 크면 작은 쪽 원소를 큰 쪽에서 이진 탐색)
+    private static int[] intersect(Slice a, Slice b, int limit) {
+        Slice small = a.size() <= b.size() ? a : b;
+        Slice large = small == a ? b : a;
+        int[] result = new int[Math.min(small.size(), limit)];
+        int count = 0;
+
+        if ((long) small.size() * 16 < large.size()) {
+            for (int i = small.from; i < small.to && count < result.length; i++) {
+                if (large.contains(small.values[i])) {
+                    result[count++] = small.values[i];
+                }
+            }
+        } else {
+            int i = small.from;
+            int j = large.from;
+            while (i < small.to && j < large.to && count < result.length) {
+                int x = small.values[i];
+                int y = large.values[j];
+                if (x == y) {
+                    result[count++] = x;
+                    i++;
+                    j++;
+                } else if (x < y) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 2촌 후보 (mutualCount: 후보를 팔로우하는 내 팔로잉 수)
+     */
+    public record Connection(long userId, int mutualCount) {}
+
+    /**
+     * 관계 (following: 내가 팔로우, followedBy: 나를 팔로우, mutualCount: 대상을 팔로우하는 내 팔로잉 수)
+     */
+    public record Relation(boolean following, boolean followedBy, int mutualCount) {
+        public static final Relation NONE = new Relation(false, false, 0);
+    }
+
+    // 정렬된 인접 목록 구간 [from, to)
+    private record Slice(int[] values, int from, int to) {
+        static final Slice NONE = new Slice(EMPTY, 0, 0);
+
+        int size() {
+            return to - from;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, from, to, value) >= 0;
+        }
+
+        // value를 넣은 새 배열 (이미 있으면 null)
+        int[] insert(int value) {
+            int position = Arrays.binarySearch(values, from, to, value);
+            if (position >= 0) {
+                return null;
+            }
+            int at = -position - 1 - from;
+            int[] result = new int[size() + 1];
+            System.arraycopy(values, from, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, from + at, result, at + 1, size() - at);
+            return result;
+        }
+
+        // value를 뺀 새 배열 (없으면 null)
+        int[] delete(int value) {
+            int position = Arrays.binarySearch(values, from, to, value);
+            if (position < 0) {
+                return null;
+            }
+            int at = position - from;
+            int[] result = new int[size() - 1];
+            System.arraycopy(values, from, result, 0, at);
+            System.arraycopy(values, position + 1, result, at, size() - at - 1);
+            return result;
+        }
+    }
+
+    /**
+     * 팔로우 관계 목록으로 그래프 생성
+     */
+    public static class Builder {
+        private long[] followerIds = new long[1024];
+        private long[] followingIds = new long[1024];
+        private int edgeCount;
+
+        public Builder add(long followerId, long followingId) {
+            if (edgeCount == followerIds.length) {
+                followerIds = Arrays.copyOf(followerIds, edgeCount * 2);
+                followingIds = Arrays.copyOf(followingIds, edgeCount * 2);
+            }
+            followerIds[edgeCount] = followerId;
+            followingIds[edgeCount] = followingId;
+            edgeCount++;
+            return this;
+        }
+
+        public int edgeCount() {
+            return edgeCount;
+        }
+
+        public FollowGraph build() {
+            // 등장한 사용자 ID 정렬 + 중복 제거
+            long[] ids = new long[edgeCount * 2];
+            System.arraycopy(followerIds, 0, ids, 0, edgeCount);
+            System.arraycopy(followingIds, 0, ids, edgeCount, edgeCount);
+            Arrays.sort(ids);
+            int distinct = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+            long[] baseIds = Arrays.copyOf(ids, distinct);
+
+            int[] sources = new int[edgeCount];
+            int[] targets = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                sources[i] = Arrays.binarySearch(baseIds, followerIds[i]);
+                targets[i] = Arrays.binarySearch(baseIds, followingIds[i]);
+            }
+
+            int[] followingOffsets = new int[distinct + 1];
+            int[] followingTargets = adjacency(sources, targets, followingOffsets);
+            int[] followerOffsets = new int[distinct + 1];
+            int[] followerTargets = adjacency(targets, sources, followerOffsets);
+            return new FollowGraph(baseIds, followingOffsets, followingTargets, followerOffsets, followerTargets);
+        }
+
+        // 출발 노드별로 도착 노드를 모아 정렬 (offsets는 노드 수 + 1 크기로 채워짐)
+        private static int[] adjacency(int[] sources, int[] targets, int[] offsets) {
+            for (int source : sources) {
+                offsets[source + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            int[] result = new int[sources.length];
+            int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+            for (int i = 0; i < sources.length; i++) {
+                result[cursor[sources[i]]++] = targets[i];
+            }
+            for (int i = 0; i < offsets.length - 1; i++) {
+                Arrays.sort(result, offsets[i], offsets[i + 1]);
+            }
+            return result;
+        }
+    }
+}
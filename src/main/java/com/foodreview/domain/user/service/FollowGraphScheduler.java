@@ -0,0 +1,29 @@
+package com.foodreview.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 그래프 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphScheduler {
+
+    private final FollowGraphService followGraphService;
+
+    /**
+     * 서버 시작 직후 및 10분마다 그래프 재구성 (다른 서버에서의 팔로우 변경 반영)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildFollowGraph() {
+        try {
+            followGraphService.rebuild();
+        } catch (Exception e) {
+            log.error("Follow graph rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.FollowRepository;
+import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 그래프 서비스 (메모리 팔로우 그래프)
+ *
+ * 서버 시작 시 follows 테이블로 그래프를 만들고, 팔로우/언팔로우/탈퇴는 커밋 이후 바로 반영한다.
+ * 재구성 중 발생한 변경은 모아 두었다가 적재가 끝난 그래프에 순서대로 다시 적용한다.
+ * 그래프가 아직 없으면 기존 쿼리로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FollowGraphService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+
+    private final Object changeLock = new Object();
+    private volatile FollowGraph graph;
+    // 재구성 중 발생한 변경 (changeLock으로 보호)
+    private List<Consumer<FollowGraph>> pendingChanges;
+
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    // 팔로잉 ID 목록
+    public List<Long> getFollowingIds(Long userId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return followRepository.findFollowingIdsByFollowerId(userId);
+        }
+        return current.followingIds(userId);
+    }
+
+    // 주어진 사용자 중 내가 팔로우하는 사용자 ID
+    public Set<Long> getFollowingIdsAmong(Long userId, Collection<Long> targetIds) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return new HashSet<>(followRepository.findFollowingIdsByFollowerIdAndFollowingIdIn(userId, targetIds));
+        }
+        return targetIds.stream().filter(targetId -> current.isFollowing(userId, targetId)).collect(Collectors.toSet());
+    }
+
+    // 주어진 사용자들과의 관계 (검색 정렬용, 공통 팔로우 수는 최대 mutualLimit, 그래프가 아직 없으면 빈 맵)
+    public Map<Long, FollowGraph.Relation> getRelations(Long userId, Collection<Long> targetIds, int mutualLimit) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return Map.of();
+        }
+        Map<Long, FollowGraph.Relation> relations = new HashMap<>();
+        for (Long targetId : targetIds) {
+            FollowGraph.Relation relation = current.relation(userId, targetId, mutualLimit);
+            if (relation != FollowGraph.Relation.NONE) {
+                relations.put(targetId, relation);
+            }
+        }
+        return relations;
+    }
+
+    // 2촌 사용자와 공통 팔로우 수 (공통 팔로우 수 내림차순)
+    public List<FollowGraph.Connection> getSecondDegreeConnections(Long userId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return followRepository.findSecondDegreeConnections(userId).stream()
+                    .map(row -> new FollowGraph.Connection((Long) row[0], ((Long) row[1]).intValue()))
+                    .toList();
+        }
+        return current.secondDegree(userId);
+    }
+
+    // 내가 팔로우하는 사람 중 대상 사용자를 팔로우하는 사람 이름 (최대 limit명)
+    public List<String> getMutualFollowerNames(Long userId, Long targetUserId, int limit) {
+        FollowGraph current = graph;
+        if (current == null) {
+            List<String> names = followRepository.findMutualFollowerNames(userId, targetUserId);
+            return names.subList(0, Math.min(limit, names.size()));
+        }
+
+        List<Long> mutualIds = current.mutualIds(userId, targetUserId, limit);
+        if (mutualIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> names = new HashMap<>();
+        userRepository.findAllById(mutualIds).forEach(user -> names.put(user.getId(), user.getName()));
+        return mutualIds.stream().filter(names::containsKey).map(names::get).toList();
+    }
+
+    /**
+     * 팔로우 반영 (커밋 이후)
+     */
+    public void onFollow(Long followerId, Long followingId) {
+        TransactionUtils.afterCommit(() -> apply(target -> target.follow(followerId, followingId)));
+    }
+
+    /**
+     * 언팔로우 반영 (커밋 이후)
+     */
+    public void onUnfollow(Long followerId, Long followingId) {
+        TransactionUtils.afterCommit(() -> apply(target -> target.unfollow(followerId, followingId)));
+    }
+
+    /**
+     * 탈퇴 반영 (커밋 이후 사용자의 팔로우 관계 전체 삭제)
+     */
+    public void onUserRemoved(Long userId) {
+        TransactionUtils.afterCommit(() -> apply(target -> target.removeUser(userId)));
+    }
+
+    /**
+     * DB에서 새 그래프를 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        try {
+            FollowGraph.Builder builder = new FollowGraph.Builder();
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = followRepository.findEdges(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    builder.add((Long) row[1], (Long) row[2]);
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            FollowGraph fresh = builder.build();
+            synchronized (changeLock) {
+                pendingChanges.forEach(change -> change.accept(fresh));
+                graph = fresh;
+            }
+            log.info("Follow graph rebuilt: edges={}, elapsed={}ms",
+                    builder.edgeCount(), System.currentTimeMillis() - startTime);
+        } finally {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private void apply(Consumer<FollowGraph> change) {
+        synchronized (changeLock) {
+            FollowGraph current = graph;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+}
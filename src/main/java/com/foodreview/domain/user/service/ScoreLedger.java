@@ -0,0 +1,136 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.entity.ScoreEvent;
+import com.foodreview.global.util.TransactionUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 점수 원장 (score_events 추가 전용)
+ *
+ * 점수 획득은 커밋 이후 메모리 큐에 쌓고, 스케줄러가 모아서 원장 행을 일괄 INSERT 한다.
+ * 같은 트랜잭션에서 사용자별 합계만큼 users.taste_score를 증가시키므로 점수는 항상 원장 합계와 일치한다.
+ * 아직 기록되지 않은 점수는 사용자 엔티티 로드 시 더해서 보여준다 (기록 트랜잭션 커밋 직후 보정값에서 제외).
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreLedger {
+
+    private static final String INSERT_SQL = "INSERT INTO score_events " +
+            "(user_id, type, description, points, from_user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String ROLLUP_QUERY = "UPDATE User u SET u.tasteScore = u.tasteScore + :delta WHERE u.id IN :ids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final UserRankingService userRankingService;
+
+    private final ConcurrentLinkedDeque<Entry> queue = new ConcurrentLinkedDeque<>();
+    // 원장에 기록되기 전 사용자별 점수 합계 (조회 값 보정용, 0이 되면 제거)
+    private final Map<Long, Long> pendingPoints = new ConcurrentHashMap<>();
+
+    /**
+     * 점수 획득 기록 (현재 트랜잭션 커밋 이후 큐에 추가)
+     */
+    public void record(Long userId, ScoreEvent.ScoreEventType type, String description, int points, Long fromUserId) {
+        Entry entry = new Entry(userId, type, description, points, fromUserId, LocalDateTime.now());
+        TransactionUtils.afterCommit(() -> {
+            pendingPoints.merge(userId, (long) points, ScoreLedger::sumOrRemove);
+            queue.offer(entry);
+        });
+    }
+
+    public long getPendingPoints(Long userId) {
+        if (userId == null) {
+            return 0;
+        }
+        return pendingPoints.getOrDefault(userId, 0L);
+    }
+
+    public boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    /**
+     * 큐에서 최대 maxSize개를 꺼냄
+     */
+    public List<Entry> drain(int maxSize) {
+        List<Entry> entries = new ArrayList<>(Math.min(maxSize, 256));
+        Entry entry;
+        while (entries.size() < maxSize && (entry = queue.poll()) != null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 원장 행 일괄 INSERT + 사용자별 점수 합계 반영 (한 트랜잭션)
+     */
+    @Transactional
+    public void write(List<Entry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+            ps.setLong(1, entry.userId());
+            ps.setString(2, entry.type().name());
+            ps.setString(3, entry.description());
+            ps.setInt(4, entry.points());
+            ps.setObject(5, entry.fromUserId());
+            ps.setTimestamp(6, createdAt);
+            ps.setTimestamp(7, createdAt);
+        });
+
+        // 합계가 같은 사용자끼리 묶어 UPDATE
+        Map<Long, Long> pointsByUser = new HashMap<>();
+        entries.forEach(entry -> pointsByUser.merge(entry.userId(), (long) entry.points(), Long::sum));
+        Map<Long, List<Long>> usersByPoints = new HashMap<>();
+        pointsByUser.forEach((userId, points) -> usersByPoints.computeIfAbsent(points, p -> new ArrayList<>()).add(userId));
+        usersByPoints.forEach((points, userIds) -> entityManager.createQuery(ROLLUP_QUERY)
+                .setParameter("delta", points.intValue())
+                .setParameter("ids", userIds)
+                .executeUpdate());
+
+        // 갱신된 점수로 순위판, 기록된 점수로 기간별 순위판 반영 (커밋 이후)
+        userRankingService.onScoresChanged(entries);
+
+        // 합계가 반영된 점수는 커밋 직후 보정값에서 제외 (두 번 더해 보이지 않도록)
+        TransactionUtils.afterCommit(() -> complete(entries));
+    }
+
+    /**
+     * 기록 완료(또는 기록 불가로 버린) 점수를 조회 보정값에서 제외
+     */
+    public void complete(List<Entry> entries) {
+        for (Entry entry : entries) {
+            pendingPoints.computeIfPresent(entry.userId(), (userId, points) -> sumOrRemove(points, (long) -entry.points()));
+        }
+    }
+
+    /**
+     * 기록 실패 시 큐 앞쪽으로 되돌림 (순서 유지)
+     */
+    public void requeue(List<Entry> entries) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            queue.offerFirst(entries.get(i));
+        }
+    }
+
+    // 합이 0이면 null을 반환해 맵에서 제거
+    private static Long sumOrRemove(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+
+    public record Entry(Long userId, ScoreEvent.ScoreEventType type, String description, int points,
+                        Long fromUserId, LocalDateTime createdAt) {}
+}
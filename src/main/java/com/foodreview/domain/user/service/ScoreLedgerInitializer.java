@@ -0,0 +1,37 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.entity.ScoreEvent;
+import com.foodreview.domain.user.repository.ScoreEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 점수 원장 초기화
+ * - 원장 도입 이전 점수(원장 합계와 다른 taste_score)를 기초 잔액(OPENING_BALANCE)으로 기록
+ * - 재계산 시 기존 점수가 사라지지 않도록 재계산 명령보다 먼저 실행
+ */
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class ScoreLedgerInitializer implements ApplicationRunner {
+
+    private final ScoreEventRepository scoreEventRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (scoreEventRepository.existsByType(ScoreEvent.ScoreEventType.OPENING_BALANCE)) {
+            return;
+        }
+        int inserted = scoreEventRepository.insertOpeningBalances();
+        if (inserted > 0) {
+            log.info("Score ledger opening balances recorded: {} users", inserted);
+        }
+    }
+}
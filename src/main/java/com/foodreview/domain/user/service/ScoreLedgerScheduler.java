@@ -0,0 +1,71 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.global.config.SchedulingConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 점수 원장 기록 스케줄러
+ * - 1초마다 쌓인 점수 획득 내역을 일괄 기록 (재계산 배치/재구성 작업에 밀리지 않도록 전용 스케줄러에서 실행)
+ * - 종료 시 남은 내역 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreLedgerScheduler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ScoreLedger scoreLedger;
+
+    @Scheduled(fixedDelay = 1000, scheduler = SchedulingConfig.FLUSH_SCHEDULER)
+    public void flushScheduled() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flush() {
+        while (scoreLedger.hasPending()) {
+            List<ScoreLedger.Entry> entries = scoreLedger.drain(BATCH_SIZE);
+            if (entries.isEmpty()) {
+                return;
+            }
+            try {
+                scoreLedger.write(entries);
+                log.debug("Score ledger flushed: {} entries", entries.size());
+            } catch (DataIntegrityViolationException e) {
+                // 탈퇴 등으로 기록할 수 없는 행이 섞인 경우 한 건씩 기록하고 실패한 건은 버림
+                log.warn("Score ledger batch rejected, retrying one by one: {}", e.getMessage());
+                writeIndividually(entries);
+            } catch (Exception e) {
+                // 기록 실패 시 다음 주기에 다시 시도
+                scoreLedger.requeue(entries);
+                log.error("Score ledger flush failed", e);
+                return;
+            }
+        }
+    }
+
+    private void writeIndividually(List<ScoreLedger.Entry> entries) {
+        for (ScoreLedger.Entry entry : entries) {
+            try {
+                scoreLedger.write(List.of(entry));
+            } catch (Exception e) {
+                // 버린 점수도 조회 보정값에서 제외
+                scoreLedger.complete(List.of(entry));
+                log.error("Score ledger entry dropped: userId={}, type={}, points={}",
+                        entry.userId(), entry.type(), entry.points(), e);
+            }
+        }
+    }
+}
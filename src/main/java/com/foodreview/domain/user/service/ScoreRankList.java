@@ -0,0 +1,169 @@
+package com.foodreview.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 순위 목록 (순위 조회가 가능한 skip list)
+ *
+ * 점수 내림차순, 같은 점수는 사용자 ID 오름차순으로 정렬한다.
+ * 각 링크가 건너뛰는 항목 수(span)를 함께 저장해 추가/삭제, N번째 항목 찾기,
+ * 특정 점수보다 높은 항목 수 세기를 모두 O(log n)에 처리한다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리한다.
+ */
+class ScoreRankList {
+
+    private static final int MAX_LEVEL = 32;
+    // 다음 레벨로 올라갈 확률 1/4
+    private static final int LEVEL_PROBABILITY_BOUND = 4;
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(int score, long userId) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && node.next[i].isBefore(score, userId)) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node inserted = new Node(score, userId, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    boolean remove(int score, long userId) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && node.next[i].isBefore(score, userId)) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        Node target = node.next[0];
+        if (target == null || target.score != score || target.userId != userId) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * score보다 높은 점수의 항목 수 (동점은 같은 순위가 되도록 순위 = 이 값 + 1)
+     */
+    int countAbove(int score) {
+        int count = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && node.next[i].score > score) {
+                count += node.span[i];
+                node = node.next[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * offset번째(0부터)부터 최대 limit개 (순위순)
+     */
+    List<Ranked> range(int offset, int limit) {
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return List.of();
+        }
+
+        // offset + 1번째 항목까지 span을 따라 이동
+        int target = offset + 1;
+        int traversed = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.span[i] <= target) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (traversed == target) {
+                break;
+            }
+        }
+
+        List<Ranked> result = new ArrayList<>(Math.min(limit, size - offset));
+        for (int i = 0; node != null && i < limit; i++, node = node.next[0]) {
+            result.add(new Ranked(node.userId, node.score, offset + i + 1));
+        }
+        return result;
+    }
+
+    private static int randomLevel() {
+        int level = 1;
+        while (level < MAX_LEVEL && ThreadLocalRandom.current().nextInt(LEVEL_PROBABILITY_BOUND) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * 순위 항목 (position: 1부터 시작하는 목록 내 위치)
+     */
+    record Ranked(long userId, int score, int position) {}
+
+    private static final class Node {
+        private final int score;
+        private final long userId;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(int score, long userId, int level) {
+            this.score = score;
+            this.userId = userId;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        // 정렬 순서상 (score, userId)보다 앞인지
+        private boolean isBefore(int otherScore, long otherUserId) {
+            return score > otherScore || (score == otherScore && userId < otherUserId);
+        }
+    }
+}
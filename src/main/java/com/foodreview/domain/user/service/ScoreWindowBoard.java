@@ -0,0 +1,141 @@
+package com.foodreview.domain.user.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간별 점수 순위판 (최근 7일 / 30일)
+ *
+ * 점수 기록을 일 단위 버킷(일자 -> 사용자 -> 점수)에 더하면서 기간별 사용자 합계와 순위판을 함께 갱신한다.
+ * 날짜가 바뀌면 기간을 벗어난 일자 버킷만큼 합계에서 빼고, 가장 긴 기간을 벗어난 버킷은 버린다.
+ * 원장을 다시 집계하지 않고 기록/만료로 합계가 바뀐 사용자만 순위판에서 옮긴다.
+ * 쓰기는 동기화하고, 조회는 순위판의 읽기 잠금과 합계 맵으로 수행한다.
+ */
+public class ScoreWindowBoard {
+
+    public enum Window {
+        WEEKLY(7),
+        MONTHLY(30);
+
+        private final int days;
+
+        Window(int days) {
+            this.days = days;
+        }
+
+        public int getDays() {
+            return days;
+        }
+    }
+
+    // 보관하는 일자 버킷 수 (가장 긴 기간)
+    private static final int RETAINED_DAYS = 30;
+
+    // 일자(epoch day) -> 사용자 ID -> 점수
+    private final Map<Long, Map<Long, Integer>> buckets = new HashMap<>();
+    private final Map<Long, String> regions = new HashMap<>();
+    private final Map<Window, Map<Long, Integer>> totals = new EnumMap<>(Window.class);
+    private final Map<Window, UserRankingBoard> boards = new EnumMap<>(Window.class);
+
+    private long today;
+
+    public ScoreWindowBoard(long today) {
+        this.today = today;
+        for (Window window : Window.values()) {
+            totals.put(window, new ConcurrentHashMap<>());
+            UserRankingBoard board = new UserRankingBoard();
+            board.completeLoading();
+            boards.put(window, board);
+        }
+    }
+
+    /**
+     * 점수 기록 반영 (day: 점수를 얻은 날짜의 epoch day)
+     */
+    public synchronized void add(long userId, String region, long day, int points) {
+        advance(day);
+        if (day <= today - RETAINED_DAYS || points == 0) {
+            return;
+        }
+
+        String previousRegion = regions.put(userId, region);
+        if (previousRegion != null && !previousRegion.equals(region)) {
+            boards.values().forEach(board -> board.moveRegion(userId, region));
+        }
+
+        buckets.computeIfAbsent(day, key -> new HashMap<>()).merge(userId, points, Integer::sum);
+        for (Window window : Window.values()) {
+            if (day > today - window.days) {
+                update(window, userId, points);
+            }
+        }
+    }
+
+    public synchronized void moveRegion(long userId, String region) {
+        if (regions.containsKey(userId)) {
+            regions.put(userId, region);
+            boards.values().forEach(board -> board.moveRegion(userId, region));
+        }
+    }
+
+    /**
+     * 날짜 이동 (기간을 벗어난 일자 버킷 만료)
+     */
+    public synchronized void advance(long day) {
+        while (today < day) {
+            today++;
+            for (Window window : Window.values()) {
+                Map<Long, Integer> expired = buckets.get(today - window.days);
+                if (expired != null) {
+                    expired.forEach((userId, points) -> update(window, userId, -points));
+                }
+            }
+            Map<Long, Integer> dropped = buckets.remove(today - RETAINED_DAYS);
+            if (dropped != null) {
+                dropped.keySet().stream()
+                        .filter(userId -> buckets.values().stream().noneMatch(bucket -> bucket.containsKey(userId)))
+                        .toList()
+                        .forEach(regions::remove);
+            }
+        }
+    }
+
+    /**
+     * 기간 내 점수 (기록이 없으면 null)
+     */
+    public Integer scoreOf(Window window, long userId) {
+        return totals.get(window).get(userId);
+    }
+
+    /**
+     * score보다 높은 기간 점수의 사용자 수 (region이 null이면 전체)
+     */
+    public int countAbove(Window window, String region, int score) {
+        return boards.get(window).countAbove(region, score);
+    }
+
+    public int size(Window window, String region) {
+        return boards.get(window).size(region);
+    }
+
+    public List<ScoreRankList.Ranked> range(Window window, String region, int offset, int limit) {
+        return boards.get(window).range(region, offset, limit);
+    }
+
+    // 기간 합계 증감 후 순위판 반영 (합계가 0이 되면 순위판에서 제외)
+    private void update(Window window, long userId, int delta) {
+        Integer total = totals.get(window).merge(userId, delta, (current, added) -> {
+            int sum = current + added;
+            return sum != 0 ? sum : null;
+        });
+        UserRankingBoard board = boards.get(window);
+        if (total == null) {
+            board.remove(userId);
+        } else {
+            board.put(userId, regions.get(userId), total);
+        }
+    }
+}
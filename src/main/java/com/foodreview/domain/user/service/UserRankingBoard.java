@@ -0,0 +1,165 @@
+package com.foodreview.domain.user.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 점수 순위판 (전체 + 지역별 순위 목록)
+ *
+ * 사용자별 현재 지역/점수를 기억해 점수나 지역이 바뀌면 이전 위치에서 빼고 새 위치에 넣는다.
+ * 쓰기는 쓰기 잠금, 조회는 읽기 잠금으로 동시에 수행한다.
+ */
+public class UserRankingBoard {
+
+    private final ScoreRankList global = new ScoreRankList();
+    private final Map<String, ScoreRankList> regions = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 초기 적재 중 실시간으로 반영된 ID (DB에서 읽은 이전 상태로 덮어쓰지 않도록)
+    private final Set<Long> touched = new HashSet<>();
+    private boolean loading = true;
+
+    /**
+     * 사용자 점수/지역 반영 (가입, 점수 기록, 지역 변경 시)
+     */
+    public void put(long userId, String region, int score) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                touched.add(userId);
+            }
+            index(userId, region, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지역만 변경 (점수는 유지, 순위판에 없는 사용자는 무시)
+     */
+    public void moveRegion(long userId, String region) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                if (loading) {
+                    touched.add(userId);
+                }
+                index(userId, region, entry.score());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 순위판에서 제외 (기간 점수가 0이 된 사용자 등)
+     */
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                touched.add(userId);
+            }
+            Entry previous = entries.remove(userId);
+            if (previous != null) {
+                unindex(userId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 적재 (적재 중 실시간 반영된 사용자는 건너뜀)
+     */
+    public void load(long userId, String region, int score) {
+        lock.writeLock().lock();
+        try {
+            if (!touched.contains(userId)) {
+                index(userId, region, score);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            touched.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * score보다 높은 점수의 사용자 수 (region이 null이면 전체)
+     */
+    public int countAbove(String region, int score) {
+        lock.readLock().lock();
+        try {
+            ScoreRankList list = list(region);
+            return list != null ? list.countAbove(score) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size(String region) {
+        lock.readLock().lock();
+        try {
+            ScoreRankList list = list(region);
+            return list != null ? list.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위순 offset번째부터 최대 limit명 (region이 null이면 전체)
+     */
+    public List<ScoreRankList.Ranked> range(String region, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            ScoreRankList list = list(region);
+            return list != null ? list.range(offset, limit) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ScoreRankList list(String region) {
+        return region == null ? global : regions.get(region);
+    }
+
+    private void index(long userId, String region, int score) {
+        Entry previous = entries.put(userId, new Entry(region, score));
+        if (previous != null) {
+            if (previous.region().equals(region) && previous.score() == score) {
+                return;
+            }
+            unindex(userId, previous);
+        }
+        global.insert(score, userId);
+        regions.computeIfAbsent(region, key -> new ScoreRankList()).insert(score, userId);
+    }
+
+    private void unindex(long userId, Entry previous) {
+        global.remove(previous.score(), userId);
+        ScoreRankList previousRegion = regions.get(previous.region());
+        previousRegion.remove(previous.score(), userId);
+        if (previousRegion.size() == 0) {
+            regions.remove(previous.region());
+        }
+    }
+
+    private record Entry(String region, int score) {}
+}
@@ -0,0 +1,41 @@
+package com.foodreview.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 순위판 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRankingScheduler {
+
+    private final UserRankingService userRankingService;
+
+    /**
+     * 서버 시작 직후 및 10분마다 순위판 재구성 (다른 서버에서 기록된 점수 반영)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildRankingBoard() {
+        try {
+            userRankingService.rebuild();
+        } catch (Exception e) {
+            log.error("User ranking board rebuild failed", e);
+        }
+    }
+
+    /**
+     * 서버 시작 직후 및 1시간마다 기간별 순위판 재구성 (다른 서버에서 기록된 점수 반영)
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void rebuildScoreWindowBoard() {
+        try {
+            userRankingService.rebuildWindows();
+        } catch (Exception e) {
+            log.error("Score window board rebuild failed", e);
+        }
+    }
+}
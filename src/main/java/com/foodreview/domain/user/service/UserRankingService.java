@@ -0,0 +1,270 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.ScoreEventRepository;
+import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 순위 서비스 (메모리 순위판)
+ *
+ * 서버 시작 시 DB 점수로 전체/지역별 순위판을 만들고, 점수 원장 기록과 지역 변경은 커밋 이후 바로 반영한다.
+ * 순위판 점수는 DB에 기록된 점수(users.taste_score)이며, 다른 서버에서의 변경을 맞추기 위해 주기적으로 재구성한다.
+ * 주간/월간 순위판은 원장 기록의 점수를 일자 버킷에 더해 유지하고, 처음 사용할 때 최근 30일 원장으로 만든다.
+ * 기간 점수는 더하는 값이므로, 재구성 집계와 원장 기록(커밋 + 반영)이 겹치지 않게 해 같은 기록이 두 번 더해지지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserRankingService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final ScoreEventRepository scoreEventRepository;
+
+    private volatile UserRankingBoard board;
+    // 재구성 중인 순위판 (적재 중 변경도 함께 반영)
+    private volatile UserRankingBoard building;
+
+    private volatile ScoreWindowBoard windows;
+    private volatile ScoreWindowBoard buildingWindows;
+    // 원장 기록 트랜잭션(읽기 잠금, 커밋 후 반영까지) vs 기간별 순위판 재구성 집계(쓰기 잠금)
+    private final ReentrantReadWriteLock windowsLock = new ReentrantReadWriteLock();
+
+    public boolean isReady() {
+        return board != null;
+    }
+
+    /**
+     * 순위 (점수가 더 높은 사용자 수 + 1, region이 null이면 전체, 순위판이 아직 없으면 DB 집계)
+     */
+    public Integer getRank(String region, int score) {
+        UserRankingBoard current = board;
+        if (current == null) {
+            return region != null
+                    ? userRepository.findRankByRegionAndScore(region, score)
+                    : userRepository.findRankByScore(score);
+        }
+        return current.countAbove(region, score) + 1;
+    }
+
+    /**
+     * 순위순 목록 (region이 null이면 전체, 순위판이 아직 없으면 null - 호출 측에서 DB 조회로 대체)
+     */
+    public RankingPage getRanking(String region, int offset, int limit) {
+        UserRankingBoard current = board;
+        if (current == null) {
+            return null;
+        }
+        return new RankingPage(current.range(region, offset, limit), current.size(region));
+    }
+
+    /**
+     * 기간 내 점수 (기록이 없으면 null)
+     */
+    public Integer getWindowScore(ScoreWindowBoard.Window window, Long userId) {
+        return windows().scoreOf(window, userId);
+    }
+
+    /**
+     * 기간 점수 기준 순위 (region이 null이면 전체)
+     */
+    public int getWindowRank(ScoreWindowBoard.Window window, String region, int score) {
+        return windows().countAbove(window, region, score) + 1;
+    }
+
+    /**
+     * 기간 점수 순위순 목록 (region이 null이면 전체)
+     */
+    public RankingPage getWindowRanking(ScoreWindowBoard.Window window, String region, int offset, int limit) {
+        ScoreWindowBoard current = windows();
+        return new RankingPage(current.range(window, region, offset, limit), current.size(window, region));
+    }
+
+    /**
+     * 점수 기록 반영 (원장을 기록한 트랜잭션 안에서 호출, 갱신된 점수를 읽어 커밋 이후 적용)
+     */
+    public void onScoresChanged(List<ScoreLedger.Entry> entries) {
+        Map<Long, String> regions = new HashMap<>();
+        entries.forEach(entry -> regions.put(entry.userId(), null));
+        List<Object[]> rows = userRepository.findRankingEntriesByIds(regions.keySet());
+        rows.forEach(row -> regions.put((Long) row[0], (String) row[1]));
+
+        holdWindowsUntilCompletion();
+        TransactionUtils.afterCommit(() -> {
+            ScoreWindowBoard current = windows;
+            ScoreWindowBoard rebuilding = buildingWindows;
+            for (Object[] row : rows) {
+                long userId = (Long) row[0];
+                String region = (String) row[1];
+                int score = (Integer) row[2];
+                apply(board, target -> target.put(userId, region, score));
+                apply(building, target -> target.put(userId, region, score));
+            }
+            for (ScoreLedger.Entry entry : entries) {
+                String region = regions.get(entry.userId());
+                if (region == null) {
+                    continue;
+                }
+                long day = entry.createdAt().toLocalDate().toEpochDay();
+                applyWindows(current, target -> target.add(entry.userId(), region, day, entry.points()));
+                // 교체 직후에는 둘이 같은 순위판이므로 한 번만 더함
+                if (rebuilding != current) {
+                    applyWindows(rebuilding, target -> target.add(entry.userId(), region, day, entry.points()));
+                }
+            }
+        });
+    }
+
+    /**
+     * 가입 반영 (커밋 이후)
+     */
+    public void onUserRegistered(Long userId, String region, int score) {
+        TransactionUtils.afterCommit(() -> {
+            apply(board, target -> target.put(userId, region, score));
+            apply(building, target -> target.put(userId, region, score));
+        });
+    }
+
+    /**
+     * 지역 변경 반영 (커밋 이후)
+     */
+    public void onRegionChanged(Long userId, String region) {
+        TransactionUtils.afterCommit(() -> {
+            apply(board, target -> target.moveRegion(userId, region));
+            apply(building, target -> target.moveRegion(userId, region));
+            applyWindows(windows, target -> target.moveRegion(userId, region));
+            applyWindows(buildingWindows, target -> target.moveRegion(userId, region));
+        });
+    }
+
+    /**
+     * DB에서 새 순위판을 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        UserRankingBoard fresh = new UserRankingBoard();
+        building = fresh;
+        int loaded = 0;
+        try {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = userRepository.findRankingEntries(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    fresh.load((Long) row[0], (String) row[1], (Integer) row[2]);
+                }
+                loaded += rows.size();
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            fresh.completeLoading();
+            board = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("User ranking board rebuilt: users={}, elapsed={}ms", loaded, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 최근 30일 원장으로 새 기간별 순위판을 만들어 교체
+     *
+     * 진행 중인 원장 기록이 끝난 뒤 재구성 대상을 등록하고 집계하므로, 집계 전에 커밋된 기록은 집계에만,
+     * 집계 이후 커밋된 기록은 실시간 반영에만 들어간다.
+     */
+    public synchronized void rebuildWindows() {
+        long startTime = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        ScoreWindowBoard fresh = new ScoreWindowBoard(today.toEpochDay());
+        LocalDate since = today.minusDays(ScoreWindowBoard.Window.MONTHLY.getDays() - 1);
+        List<Object[]> rows;
+        windowsLock.writeLock().lock();
+        try {
+            buildingWindows = fresh;
+            rows = scoreEventRepository.sumPointsByUserAndDaySince(since.atStartOfDay());
+        } catch (RuntimeException e) {
+            buildingWindows = null;
+            throw e;
+        } finally {
+            windowsLock.writeLock().unlock();
+        }
+        try {
+            for (Object[] row : rows) {
+                fresh.add(((Number) row[0]).longValue(), (String) row[1],
+                        epochDay(row[2]), ((Number) row[3]).intValue());
+            }
+            windows = fresh;
+            log.info("Score window board rebuilt: rows={}, elapsed={}ms", rows.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            buildingWindows = null;
+        }
+    }
+
+    // 기간별 순위판 (없으면 만들고, 날짜가 바뀌었으면 지난 버킷 만료)
+    private ScoreWindowBoard windows() {
+        ScoreWindowBoard current = windows;
+        if (current == null) {
+            synchronized (this) {
+                if (windows == null) {
+                    rebuildWindows();
+                }
+                current = windows;
+            }
+        }
+        current.advance(LocalDate.now().toEpochDay());
+        return current;
+    }
+
+    // 현재 트랜잭션이 끝날 때까지(커밋 후 반영 포함) 기간별 순위판 재구성 집계를 막음
+    private void holdWindowsUntilCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        windowsLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                windowsLock.readLock().unlock();
+            }
+        });
+    }
+
+    private static long epochDay(Object value) {
+        return value instanceof LocalDate date ? date.toEpochDay() : ((Date) value).toLocalDate().toEpochDay();
+    }
+
+    private static void apply(UserRankingBoard target, Consumer<UserRankingBoard> update) {
+        if (target != null) {
+            update.accept(target);
+        }
+    }
+
+    private static void applyWindows(ScoreWindowBoard target, Consumer<ScoreWindowBoard> update) {
+        if (target != null) {
+            update.accept(target);
+        }
+    }
+
+    /**
+     * 순위 목록 한 페이지 (total: 해당 범위 전체 인원)
+     */
+    public record RankingPage(List<ScoreRankList.Ranked> entries, long total) {}
+}
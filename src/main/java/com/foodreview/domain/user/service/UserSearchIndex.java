@@ -0,0 +1,200 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.global.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자 닉네임 검색 역색인
+ *
+ * 정규화한 닉네임의 음절 unigram/bigram을 토큰으로 사용자 ID 목록을 유지한다.
+ * 검색어 토큰의 posting을 교집합해 후보를 좁히고, 제외 대상(차단 관계 등)은 후보를 고르는 단계에서 건너뛴다.
+ * 쓰기는 동기화하고 조회는 잠금 없이 수행한다.
+ */
+public class UserSearchIndex {
+
+    // 이름 일치 점수
+    private static final int NAME_EXACT_SCORE = 30;
+    private static final int NAME_PREFIX_SCORE = 15;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 초기 적재 중 실시간으로 반영된 ID (DB에서 읽은 이전 상태로 덮어쓰지 않도록)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+
+    /**
+     * 사용자 추가/갱신 (가입, 프로필 변경 시)
+     */
+    public synchronized void put(Document document) {
+        if (loading) {
+            touched.add(document.id());
+        }
+        index(new Entry(document));
+    }
+
+    public synchronized void remove(long id) {
+        if (loading) {
+            touched.add(id);
+        }
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    /**
+     * 초기 적재 (적재 중 실시간 반영된 사용자는 건너뜀)
+     */
+    public synchronized void load(Document document) {
+        if (!touched.contains(document.id())) {
+            index(new Entry(document));
+        }
+    }
+
+    public synchronized void completeLoading() {
+        loading = false;
+        touched.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 색인된 사용자의 지역 (없으면 null)
+    public String regionOf(long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.document.region() : null;
+    }
+
+    /**
+     * 닉네임에 검색어를 포함하는 사용자 (excluded에 해당하는 사용자 제외, 순서 없음)
+     */
+    public List<Match> search(String keyword, LongPredicate excluded) {
+        String text = HangulUtils.normalize(keyword);
+        if (text.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long id : candidates(text)) {
+            if (excluded.test(id)) {
+                continue;
+            }
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            int position = entry.name.indexOf(text);
+            if (position < 0) {
+                continue;
+            }
+            int nameScore = entry.name.equals(text) ? NAME_EXACT_SCORE : position == 0 ? NAME_PREFIX_SCORE : 0;
+            matches.add(new Match(entry.document, nameScore));
+        }
+        return matches;
+    }
+
+    // 검색어 토큰 posting 교집합 (가장 짧은 목록을 기준으로 나머지에 포함되는지 확인)
+    private Collection<Long> candidates(String text) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : queryTokens(text)) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = lists.get(0);
+        if (lists.size() == 1) {
+            return smallest;
+        }
+        List<Long> result = new ArrayList<>();
+        for (Long id : smallest) {
+            boolean all = true;
+            for (int i = 1; i < lists.size() && all; i++) {
+                all = lists.get(i).contains(id);
+            }
+            if (all) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // 한 글자는 unigram, 두 글자 이상은 bigram
+    private static Set<String> queryTokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text.length() == 1) {
+            tokens.add(text);
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private void index(Entry entry) {
+        Entry previous = entries.put(entry.document.id(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String token : entry.tokens()) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(entry.document.id());
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String token : entry.tokens()) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(entry.document.id());
+                if (ids.isEmpty()) {
+                    postings.remove(token, ids);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인 대상 사용자 정보 (tasteScore는 적재/변경 시점 값)
+     */
+    public record Document(long id, String name, String region, int tasteScore) {}
+
+    /**
+     * 검색 결과 (nameScore: 닉네임 전체/앞부분 일치 점수)
+     */
+    public record Match(Document document, int nameScore) {}
+
+    private static class Entry {
+        private final Document document;
+        private final String name;
+
+        Entry(Document document) {
+            this.document = document;
+            this.name = HangulUtils.normalize(document.name());
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new HashSet<>();
+            for (int i = 0; i < name.length(); i++) {
+                tokens.add(String.valueOf(name.charAt(i)));
+                if (i + 1 < name.length()) {
+                    tokens.add(name.substring(i, i + 2));
+                }
+            }
+            return tokens;
+        }
+    }
+}
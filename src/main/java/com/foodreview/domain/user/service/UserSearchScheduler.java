@@ -0,0 +1,29 @@
+package com.foodreview.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 검색 색인 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchScheduler {
+
+    private final UserSearchService userSearchService;
+
+    /**
+     * 서버 시작 직후 및 10분마다 색인 재구성 (점수 변경, 다른 서버에서의 가입/수정 반영)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildUserSearchIndex() {
+        try {
+            userSearchService.rebuild();
+        } catch (Exception e) {
+            log.error("User search index rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.entity.User;
+import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.util.LongHashSet;
+import com.foodreview.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자 검색 서비스 (메모리 닉네임 색인 + 관계 기반 정렬)
+ *
+ * 닉네임 색인에서 후보를 찾을 때 차단 관계 사용자를 함께 거르고, 이름 일치 정도와 맛잘알 점수 상위 MAX_CANDIDATES명만
+ * 팔로우 관계(맞팔, 2촌), 같은 지역을 더해 정렬한다 (짧은 검색어로 사용자 대부분이 걸려도 관계 계산량이 일정). 가입/프로필 변경/탈퇴는 커밋 이후 바로 반영하고, 점수는 주기적인 재구성에서 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserSearchService {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    // 관계 기반 정렬 대상 최대 인원 (이보다 많이 일치하면 이름 일치 정도, 맛잘알 점수 순으로 자름)
+    private static final int MAX_CANDIDATES = 500;
+
+    // 정렬 가중치
+    private static final int FOLLOWING_WEIGHT = 30;
+    private static final int FOLLOWED_BY_WEIGHT = 20;
+    private static final int SECOND_DEGREE_WEIGHT = 5;
+    private static final int SECOND_DEGREE_MAX_SCORE = 25;
+    // 점수 상한에 닿는 공통 팔로우 수까지만 셈
+    private static final int MUTUAL_COUNT_LIMIT = SECOND_DEGREE_MAX_SCORE / SECOND_DEGREE_WEIGHT;
+    private static final int SAME_REGION_WEIGHT = 10;
+    // 맛잘알 점수 200점당 1점 (최대 10점 - 다이아몬드 등급)
+    private static final int TASTE_SCORE_UNIT = 200;
+    private static final int TASTE_MAX_SCORE = 10;
+
+    // 후보 자르기 기준 (이름 일치 정도, 맛잘알 점수 높은 순)
+    private static final Comparator<UserSearchIndex.Match> CANDIDATE_ORDER =
+            Comparator.comparingInt(UserSearchIndex.Match::nameScore).reversed()
+                    .thenComparing(match -> match.document().tasteScore(), Comparator.reverseOrder())
+                    .thenComparingLong(match -> match.document().id());
+
+    private final UserRepository userRepository;
+    private final FollowGraphService followGraphService;
+    private final BlockRelationCache blockRelationCache;
+
+    private volatile UserSearchIndex index;
+    // 재구성 중인 색인 (적재 중 변경도 함께 반영)
+    private volatile UserSearchIndex building;
+
+    /**
+     * 닉네임 검색 (viewerId가 있으면 본인/차단 관계 제외 + 관계 기반 정렬, 색인이 아직 없으면 null)
+     * 결과는 최대 MAX_CANDIDATES명까지만 페이지로 제공한다.
+     */
+    public SearchResult search(String keyword, Long viewerId, int offset, int limit) {
+        UserSearchIndex current = index;
+        if (current == null) {
+            return null;
+        }
+
+        LongPredicate excluded = excluded(viewerId);
+        List<UserSearchIndex.Match> matches = topCandidates(current.search(keyword, excluded), MAX_CANDIDATES);
+        Map<Long, FollowGraph.Relation> relations = viewerId != null
+                ? followGraphService.getRelations(viewerId,
+                        matches.stream().map(match -> match.document().id()).toList(), MUTUAL_COUNT_LIMIT)
+                : Map.of();
+        String viewerRegion = viewerId != null ? current.regionOf(viewerId) : null;
+
+        List<Long> ids = matches.stream()
+                .map(match -> new Ranked(match.document(),
+                        score(match, relations.get(match.document().id()), viewerRegion)))
+                .sorted(Comparator.comparingInt(Ranked::score).reversed()
+                        .thenComparing(ranked -> ranked.document().tasteScore(), Comparator.reverseOrder())
+                        .thenComparingLong(ranked -> ranked.document().id()))
+                .skip(offset)
+                .limit(limit)
+                .map(ranked -> ranked.document().id())
+                .toList();
+        return new SearchResult(ids, matches.size());
+    }
+
+    /**
+     * 가입/프로필 변경 반영 (커밋 이후)
+     */
+    public void onUserChanged(User user) {
+        UserSearchIndex.Document document = new UserSearchIndex.Document(
+                user.getId(), user.getName(), user.getRegion(), user.getTasteScore());
+        TransactionUtils.afterCommit(() -> {
+            apply(index, document);
+            apply(building, document);
+        });
+    }
+
+    /**
+     * 탈퇴 반영 (커밋 이후)
+     */
+    public void onUserRemoved(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            remove(index, userId);
+            remove(building, userId);
+        });
+    }
+
+    /**
+     * DB에서 새 색인을 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        UserSearchIndex fresh = new UserSearchIndex();
+        building = fresh;
+        try {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = userRepository.findSearchEntries(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    fresh.load(new UserSearchIndex.Document((Long) row[0], (String) row[1], (String) row[2], (Integer) row[3]));
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+
+            fresh.completeLoading();
+            index = fresh;
+        } finally {
+            building = null;
+        }
+        log.info("User search index rebuilt: users={}, elapsed={}ms", fresh.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // CANDIDATE_ORDER 상위 limit명 (크기 limit의 힙으로 선별, 순서 없음)
+    private static List<UserSearchIndex.Match> topCandidates(List<UserSearchIndex.Match> matches, int limit) {
+        if (matches.size() <= limit) {
+            return matches;
+        }
+        // 힙의 맨 앞이 현재 후보 중 가장 뒤에 오는 사용자
+        PriorityQueue<UserSearchIndex.Match> heap = new PriorityQueue<>(limit + 1, CANDIDATE_ORDER.reversed());
+        for (UserSearchIndex.Match match : matches) {
+            heap.offer(match);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+
+    // 본인 + 내가 차단한 사용자 + 나를 차단한 사용자
+    private LongPredicate excluded(Long viewerId) {
+        if (viewerId == null) {
+            return id -> false;
+        }
+        long viewer = viewerId;
+        LongHashSet blockedIds = blockRelationCache.getBlockedUserIds(viewerId);
+        LongHashSet blockerIds = blockRelationCache.getBlockerIds(viewerId);
+        return id -> id == viewer || blockedIds.contains(id) || blockerIds.contains(id);
+    }
+
+    private static int score(UserSearchIndex.Match match, FollowGraph.Relation relation, String viewerRegion) {
+        int score = match.nameScore();
+        if (relation != null) {
+            if (relation.following()) {
+                score += FOLLOWING_WEIGHT;
+            }
+            if (relation.followedBy()) {
+                score += FOLLOWED_BY_WEIGHT;
+            }
+            score += Math.min(relation.mutualCount() * SECOND_DEGREE_WEIGHT, SECOND_DEGREE_MAX_SCORE);
+        }
+        if (viewerRegion != null && Objects.equals(viewerRegion, match.document().region())) {
+            score += SAME_REGION_WEIGHT;
+        }
+        score += Math.min(Math.max(match.document().tasteScore(), 0) / TASTE_SCORE_UNIT, TASTE_MAX_SCORE);
+        return score;
+    }
+
+    private static void apply(UserSearchIndex target, UserSearchIndex.Document document) {
+        if (target != null) {
+            target.put(document);
+        }
+    }
+
+    private static void remove(UserSearchIndex target, Long userId) {
+        if (target != null) {
+            target.remove(userId);
+        }
+    }
+
+    private record Ranked(UserSearchIndex.Document document, int score) {}
+
+    /**
+     * 검색 결과 한 페이지 (ids: 정렬 순서, total: 전체 결과 수)
+     */
+    public record SearchResult(List<Long> ids, long total) {}
+}
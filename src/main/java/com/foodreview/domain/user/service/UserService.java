@@ -1,7 +1,7 @@
 package com.foodreview.domain.user.service;
 
 import com.foodreview.domain.auth.repository.RefreshTokenRepository;
-import com.foodreview.domain.badge.service.BadgeService;
+import com.foodreview.domain.feed.service.FeedTimelineService;
 import com.foodreview.domain.notification.service.FcmService;
 import com.foodreview.domain.review.repository.ReviewRepository;
 import com.foodreview.domain.review.repository.SympathyRepository;
@@ -9,18 +9,25 @@ import com.foodreview.domain.user.dto.ScoreEventDto;
 import com.foodreview.domain.user.dto.UserDto;
 import com.foodreview.domain.user.entity.Follow;
 import com.foodreview.domain.user.entity.RecommendationCache;
+import com.foodreview.domain.user.entity.ScoreEvent;
 import com.foodreview.domain.user.entity.User;
 import com.foodreview.domain.user.entity.UserBlock;
+import com.foodreview.domain.user.event.FollowedEvent;
 import com.foodreview.domain.user.repository.FollowRepository;
 import com.foodreview.domain.user.repository.RecommendationCacheRepository;
 import com.foodreview.domain.user.repository.ScoreEventRepository;
 import com.foodreview.domain.user.repository.UserBlockRepository;
 import com.foodreview.domain.user.repository.UserRepository;
+import com.foodreview.global.common.CursorPageResponse;
+import com.foodreview.global.common.PageCursor;
 import com.foodreview.global.common.PageResponse;
 import com.foodreview.global.exception.CustomException;
+import com.foodreview.global.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -49,12 +56,17 @@ public class UserService {
     private final SympathyRepository sympathyRepository;
     private final ReviewRepository reviewRepository;
     private final RecommendationCacheRepository recommendationCacheRepository;
-    private final BadgeService badgeService;
+    private final FeedTimelineService feedTimelineService;
+    private final BlockRelationCache blockRelationCache;
+    private final UserRankingService userRankingService;
+    private final FollowGraphService followGraphService;
+    private final UserSearchService userSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public UserDto.Response getUser(Long userId) {
         User user = findUserById(userId);
-        Integer rank = userRepository.findRankByRegionAndScore(user.getRegion(), user.getTasteScore());
+        Integer rank = userRankingService.getRank(user.getRegion(), user.getTasteScore());
         return UserDto.Response.from(user, rank);
     }
 
@@ -65,6 +77,7 @@ public class UserService {
     @Transactional
     public UserDto.Response updateProfile(Long userId, UserDto.UpdateRequest request) {
         User user = findUserById(userId);
+        String previousRegion = user.getRegion();
         user.updateProfile(
                 request.getName(),
                 request.getAvatar(),
@@ -73,14 +86,93 @@ public class UserService {
                 request.getNeighborhood(),
                 request.getFavoriteCategories()
         );
-        Integer rank = userRepository.findRankByRegionAndScore(user.getRegion(), user.getTasteScore());
+        if (!user.getRegion().equals(previousRegion)) {
+            userRankingService.onRegionChanged(userId, user.getRegion());
+        }
+        userSearchService.onUserChanged(user);
+        Integer rank = userRankingService.getRank(user.getRegion(), user.getTasteScore());
         return UserDto.Response.from(user, rank);
     }
 
-    // 랭킹 조회
-    public PageResponse<UserDto.RankingResponse> getRanking(String region, Pageable pageable) {
+    // 랭킹 조회 (메모리 순위판, 준비 전에는 DB 조회)
+    public PageResponse<UserDto.RankingResponse> getRanking(String region, String period, Pageable pageable) {
+        String rankingRegion = region != null && !region.isEmpty() ? region : null;
+        ScoreWindowBoard.Window window = parseRankingPeriod(period);
+        if (window != null) {
+            return getWindowRanking(window, rankingRegion, pageable);
+        }
+
+        UserRankingService.RankingPage page = userRankingService.getRanking(
+                rankingRegion, (int) pageable.getOffset(), pageable.getPageSize());
+        if (page == null) {
+            return getRankingFromDb(rankingRegion, pageable);
+        }
+
+        List<Long> userIds = page.entries().stream().map(ScoreRankList.Ranked::userId).toList();
+        Map<Long, User> userMap = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> userMap.put(user.getId(), user));
+
+        List<UserDto.RankingResponse> rankings = page.entries().stream()
+                .filter(entry -> userMap.containsKey(entry.userId()))
+                .map(entry -> UserDto.RankingResponse.from(userMap.get(entry.userId()), entry.position()))
+                .toList();
+        return PageResponse.from(new PageImpl<>(rankings, pageable, page.total()), rankings);
+    }
+
+    // 주간/월간 랭킹 (기간 내 획득 점수순)
+    private PageResponse<UserDto.RankingResponse> getWindowRanking(ScoreWindowBoard.Window window, String region,
+                                                                  Pageable pageable) {
+        UserRankingService.RankingPage page = userRankingService.getWindowRanking(
+                window, region, (int) pageable.getOffset(), pageable.getPageSize());
+
+        List<Long> userIds = page.entries().stream().map(ScoreRankList.Ranked::userId).toList();
+        Map<Long, User> userMap = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> userMap.put(user.getId(), user));
+
+        List<UserDto.RankingResponse> rankings = page.entries().stream()
+                .filter(entry -> userMap.containsKey(entry.userId()))
+                .map(entry -> UserDto.RankingResponse.from(userMap.get(entry.userId()), entry.position(), entry.score()))
+                .toList();
+        return PageResponse.from(new PageImpl<>(rankings, pageable, page.total()), rankings);
+    }
+
+    // 사용자의 누적/주간/월간 순위
+    public List<UserDto.RankingPositionResponse> getRankingPositions(Long userId) {
+        User user = findUserById(userId);
+        List<UserDto.RankingPositionResponse> positions = new ArrayList<>();
+        positions.add(UserDto.RankingPositionResponse.builder()
+                .period("ALL")
+                .score(user.getTasteScore())
+                .rank(userRankingService.getRank(null, user.getTasteScore()))
+                .regionRank(userRankingService.getRank(user.getRegion(), user.getTasteScore()))
+                .build());
+
+        for (ScoreWindowBoard.Window window : ScoreWindowBoard.Window.values()) {
+            Integer score = userRankingService.getWindowScore(window, userId);
+            positions.add(UserDto.RankingPositionResponse.builder()
+                    .period(window.name())
+                    .score(score != null ? score : 0)
+                    .rank(score != null ? userRankingService.getWindowRank(window, null, score) : null)
+                    .regionRank(score != null ? userRankingService.getWindowRank(window, user.getRegion(), score) : null)
+                    .build());
+        }
+        return positions;
+    }
+
+    // 랭킹 기간 (ALL 또는 미지정이면 누적 점수 랭킹 - null)
+    private ScoreWindowBoard.Window parseRankingPeriod(String period) {
+        if (period == null || period.isEmpty() || period.equalsIgnoreCase("ALL")) {
+            return null;
+        }
+        return Arrays.stream(ScoreWindowBoard.Window.values())
+                .filter(window -> window.name().equalsIgnoreCase(period))
+                .findFirst()
+                .orElseThrow(() -> new CustomException("지원하지 않는 랭킹 기간입니다", HttpStatus.BAD_REQUEST, "INVALID_RANKING_PERIOD"));
+    }
+
+    private PageResponse<UserDto.RankingResponse> getRankingFromDb(String region, Pageable pageable) {
         Page<User> users;
-        if (region != null && !region.isEmpty()) {
+        if (region != null) {
             users = userRepository.findByRegionOrderByTasteScoreDesc(region, pageable);
         } else {
             users = userRepository.findAllByOrderByTasteScoreDesc(pageable);
@@ -99,8 +191,8 @@ public class UserService {
         findUserById(userId); // 사용자 존재 확인
 
         // 차단된 사용자와 이미 팔로우 중인 사용자 제외
-        Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIdsByFollowerId(userId));
-        List<Long> blockedIds = userBlockRepository.findBlockedUserIdsByBlockerId(userId);
+        Set<Long> followingIds = new HashSet<>(followGraphService.getFollowingIds(userId));
+        List<Long> blockedIds = new ArrayList<>(blockRelationCache.getBlockedUserIds(userId).toSet());
 
         // 캐시 테이블에서 추천 목록 조회
         List<RecommendationCache> cachedRecommendations;
@@ -143,6 +235,30 @@ public class UserService {
         return result;
     }
 
+    // 사용자 목록과의 관계 일괄 조회 (팔로우는 DB에서 방향별로 한 번씩, 차단은 차단 캐시에서 조회)
+    public List<UserDto.RelationshipResponse> getRelationships(Long userId, List<Long> targetUserIds) {
+        List<Long> targetIds = targetUserIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 팔로우 버튼 상태는 다른 서버에서 한 팔로우/언팔로우도 바로 맞아야 하므로 그래프(재구성 전까지 해당 서버 변경만 반영) 대신 DB 기준
+        Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIdsByFollowerIdAndFollowingIdIn(userId, targetIds));
+        Set<Long> followerIds = new HashSet<>(followRepository.findFollowerIdsByFollowingIdAndFollowerIdIn(userId, targetIds));
+        LongHashSet blockedIds = blockRelationCache.getBlockedUserIds(userId);
+        LongHashSet blockerIds = blockRelationCache.getBlockerIds(userId);
+
+        return targetIds.stream()
+                .map(targetId -> UserDto.RelationshipResponse.builder()
+                        .userId(targetId)
+                        .following(followingIds.contains(targetId))
+                        .followedBy(followerIds.contains(targetId))
+                        .blocked(blockedIds.contains(targetId))
+                        .blockedBy(blockerIds.contains(targetId))
+                        .build())
+                .toList();
+    }
+
     // 추천 점수 상세 조회 (디버깅/Admin용)
     public UserDto.RecommendationScoreDetail getRecommendationScoreDetail(Long userId, Long recommendedUserId) {
         RecommendationCache cache = recommendationCacheRepository
@@ -172,10 +288,15 @@ public class UserService {
                 .build();
 
         followRepository.save(follow);
+        userRepository.addFollowingCount(followerId, 1);
+        userRepository.addFollowerCount(followingId, 1);
+        followGraphService.onFollow(followerId, followingId);
+
+        // 팔로잉 피드 타임라인에 최근 리뷰 채움
+        feedTimelineService.onFollow(followerId, followingId);
 
-        // 팔로워 배지 체크 (팔로우 받은 사용자)
-        int followerCount = (int) followRepository.countByFollowing(following);
-        badgeService.checkAndAwardFollowerBadges(followingId, followerCount);
+        // 팔로워 배지 체크는 커밋 이후 핸들러에서 처리
+        eventPublisher.publishEvent(new FollowedEvent(followerId, followingId));
     }
 
     // 언팔로우
@@ -188,6 +309,10 @@ public class UserService {
                 .orElseThrow(() -> new CustomException("팔로우 관계가 없습니다", HttpStatus.NOT_FOUND));
 
         followRepository.delete(follow);
+        userRepository.addFollowingCount(followerId, -1);
+        userRepository.addFollowerCount(followingId, -1);
+        followGraphService.onUnfollow(followerId, followingId);
+        feedTimelineService.onUnfollow(followerId, followingId);
     }
 
     // 팔로잉 목록
@@ -210,7 +335,7 @@ public class UserService {
         return PageResponse.from(followers, content);
     }
 
-    // 점수 획득 내역
+    // 점수 획득 내역 (오프셋 기반, 하위 호환용 - 커서 조회 사용 권장)
     public PageResponse<ScoreEventDto.Response> getScoreHistory(Long userId, Pageable pageable) {
         User user = findUserById(userId);
         var events = scoreEventRepository.findByUserOrderByCreatedAtDesc(user, pageable);
@@ -220,6 +345,48 @@ public class UserService {
         return PageResponse.from(events, content);
     }
 
+    // 팔로잉 목록 (커서 기반, 최근 팔로우순)
+    public CursorPageResponse<UserDto.SimpleResponse> getFollowingsByCursor(Long userId, String cursor, int size) {
+        User user = findUserById(userId);
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<Follow> follows = followRepository.findFollowingsWithCursor(
+                user, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+        return CursorPageResponse.of(follows, pageSize,
+                follow -> PageCursor.of(follow.getCreatedAt(), follow.getId()),
+                pageFollows -> pageFollows.stream()
+                        .map(follow -> UserDto.SimpleResponse.from(follow.getFollowing()))
+                        .toList());
+    }
+
+    // 팔로워 목록 (커서 기반, 최근 팔로우순)
+    public CursorPageResponse<UserDto.SimpleResponse> getFollowersByCursor(Long userId, String cursor, int size) {
+        User user = findUserById(userId);
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<Follow> follows = followRepository.findFollowersWithCursor(
+                user, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+        return CursorPageResponse.of(follows, pageSize,
+                follow -> PageCursor.of(follow.getCreatedAt(), follow.getId()),
+                pageFollows -> pageFollows.stream()
+                        .map(follow -> UserDto.SimpleResponse.from(follow.getFollower()))
+                        .toList());
+    }
+
+    // 점수 획득 내역 (커서 기반)
+    public CursorPageResponse<ScoreEventDto.Response> getScoreHistoryByCursor(Long userId, String cursor, int size) {
+        findUserById(userId);
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        PageCursor pageCursor = PageCursor.decodeOrLatest(cursor);
+        List<ScoreEvent> events = scoreEventRepository.findByUserIdWithCursor(
+                userId, pageCursor.getCreatedAt(), pageCursor.getId(), CursorPageResponse.fetchLimit(pageSize));
+        return CursorPageResponse.of(events, pageSize,
+                event -> PageCursor.of(event.getCreatedAt(), event.getId()),
+                pageEvents -> pageEvents.stream()
+                        .map(ScoreEventDto.Response::from)
+                        .toList());
+    }
+
     // 팔로우 여부 확인 (단일 쿼리로 최적화)
     public boolean isFollowing(Long followerId, Long followingId) {
         return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
@@ -245,12 +412,22 @@ public class UserService {
                 .build();
 
         userBlockRepository.save(userBlock);
+        blockRelationCache.evictPair(blockerId, blockedUserId);
+
+        // 팔로우 관계가 있으면 양방향 모두 해제
+        removeFollowIfExists(blockerId, blockedUserId);
+        removeFollowIfExists(blockedUserId, blockerId);
+    }
 
-        // 팔로우 관계가 있으면 해제
-        followRepository.findByFollowerAndFollowing(blocker, blockedUser)
-                .ifPresent(followRepository::delete);
-        followRepository.findByFollowerAndFollowing(blockedUser, blocker)
-                .ifPresent(followRepository::delete);
+    // 팔로우 관계 해제 (차단 시, 실제로 삭제된 경우에만 언팔로우와 같이 팔로워/팔로잉 수와 팔로우 그래프 반영)
+    private void removeFollowIfExists(Long followerId, Long followingId) {
+        if (followRepository.deleteByFollowerIdAndFollowingId(followerId, followingId) == 0) {
+            return;
+        }
+        userRepository.addFollowingCount(followerId, -1);
+        userRepository.addFollowerCount(followingId, -1);
+        followGraphService.onUnfollow(followerId, followingId);
+        feedTimelineService.onUnfollow(followerId, followingId);
     }
 
     // 사용자 차단 해제
@@ -263,49 +440,59 @@ public class UserService {
                 .orElseThrow(() -> new CustomException("차단 관계가 없습니다", HttpStatus.NOT_FOUND));
 
         userBlockRepository.delete(userBlock);
+        blockRelationCache.evictPair(blockerId, blockedUserId);
     }
 
-    // 차단 목록 조회
+    // 차단 목록 조회 (차단 시점 포함, 차단 대상은 fetch join으로 함께 조회)
     public PageResponse<UserDto.BlockedUserResponse> getBlockedUsers(Long userId, Pageable pageable) {
-        User user = findUserById(userId);
-        Page<User> blockedUsers = userBlockRepository.findBlockedUsersByBlocker(user, pageable);
+        findUserById(userId);
+        Page<UserBlock> blocks = userBlockRepository.findWithBlockedUserByBlockerId(userId, pageable);
 
-        // 차단 시점 정보를 위해 UserBlock 엔티티도 조회
-        List<Long> blockedUserIds = blockedUsers.getContent().stream().map(User::getId).toList();
-        List<UserBlock> blocks = userBlockRepository.findAll().stream()
-                .filter(ub -> ub.getBlocker().getId().equals(userId) && blockedUserIds.contains(ub.getBlockedUser().getId()))
+        List<UserDto.BlockedUserResponse> content = blocks.getContent().stream()
+                .map(block -> UserDto.BlockedUserResponse.from(block.getBlockedUser(), block.getCreatedAt()))
                 .toList();
 
-        List<UserDto.BlockedUserResponse> content = blockedUsers.getContent().stream()
-                .map(blockedUser -> {
-                    var block = blocks.stream()
-                            .filter(ub -> ub.getBlockedUser().getId().equals(blockedUser.getId()))
-                            .findFirst()
-                            .orElse(null);
-                    return UserDto.BlockedUserResponse.from(blockedUser, block != null ? block.getCreatedAt() : null);
-                })
-                .toList();
-
-        return PageResponse.from(blockedUsers, content);
+        return PageResponse.from(blocks, content);
     }
 
     // 차단 여부 확인
     public boolean isBlocked(Long blockerId, Long blockedUserId) {
-        return userBlockRepository.existsByBlockerIdAndBlockedUserId(blockerId, blockedUserId);
+        return blockRelationCache.isBlocked(blockerId, blockedUserId);
     }
 
     // 차단된 사용자 ID 목록 조회 (필터링용)
     public List<Long> getBlockedUserIds(Long userId) {
-        return userBlockRepository.findBlockedUserIdsByBlockerId(userId);
+        return new ArrayList<>(blockRelationCache.getBlockedUserIds(userId).toSet());
     }
 
-    // 사용자 검색
+    // 사용자 검색 (닉네임 색인 + 관계 기반 정렬, 색인이 아직 없으면 DB 조회)
     public PageResponse<UserDto.SearchResponse> searchUsers(String query, Long currentUserId, Pageable pageable) {
+        UserSearchService.SearchResult result = userSearchService.search(
+                query, currentUserId, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return searchUsersFromDb(query, currentUserId, pageable);
+        }
+
+        Map<Long, User> userMap = new HashMap<>();
+        userRepository.findAllById(result.ids()).forEach(user -> userMap.put(user.getId(), user));
+        Set<Long> followingIds = currentUserId != null && !result.ids().isEmpty()
+                ? followGraphService.getFollowingIdsAmong(currentUserId, result.ids())
+                : Set.of();
+
+        List<UserDto.SearchResponse> content = result.ids().stream()
+                .map(userMap::get)
+                .filter(user -> user != null && !user.isDeleted())
+                .map(user -> UserDto.SearchResponse.from(user, followingIds.contains(user.getId())))
+                .toList();
+        return PageResponse.from(new PageImpl<>(content, pageable, result.total()), content);
+    }
+
+    private PageResponse<UserDto.SearchResponse> searchUsersFromDb(String query, Long currentUserId, Pageable pageable) {
         Page<User> users = userRepository.findByNameContainingIgnoreCase(query, pageable);
 
         // 현재 사용자의 팔로잉 목록 조회
         Set<Long> followingIds = currentUserId != null
-                ? new HashSet<>(followRepository.findFollowingIdsByFollowerId(currentUserId))
+                ? new HashSet<>(followGraphService.getFollowingIds(currentUserId))
                 : new HashSet<>();
 
         List<UserDto.SearchResponse> content = users.getContent().stream()
@@ -353,10 +540,17 @@ public class UserService {
         // 1. 모든 RefreshToken 무효화
         refreshTokenRepository.revokeAllByUser(user);
 
-        // 2. 팔로우 관계 삭제
+        // 2. 팔로우 관계 삭제 (상대 사용자들의 팔로워/팔로잉 수 먼저 감소)
+        userRepository.decrementFollowerCountsFollowedBy(userId);
+        userRepository.decrementFollowingCountsFollowing(userId);
+        userRepository.resetFollowCounts(userId);
         followRepository.deleteByFollowerOrFollowing(user, user);
+        followGraphService.onUserRemoved(userId);
+        userSearchService.onUserRemoved(userId);
+        feedTimelineService.removeUser(userId);
 
         // 3. 차단 관계 삭제
+        blockRelationCache.evictUser(userId);
         userBlockRepository.deleteByBlockerOrBlockedUser(user, user);
 
         // 4. FCM 토큰 삭제
@@ -0,0 +1,94 @@
+package com.foodreview.global.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 응답 (ETag / If-None-Match)
+ *
+ * 응답 본문을 결정하는 값(updatedAt, 카운터 등)으로 강한 ETag를 만들고, 요청의 If-None-Match와 같으면
+ * 본문을 만들지 않고 304로 응답한다. 로그인 사용자별로 달라지는 응답은 ETag 값에 사용자 ID를 포함한다.
+ * 캐시는 매번 재검증(no-cache)하며, 비로그인 조회는 공유 캐시 저장을 허용하고(public) 로그인 조회는 private로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalResponse {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 버전 값으로 ETag 생성
+     */
+    public static String etag(Object... versionParts) {
+        String joined = Arrays.stream(versionParts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * ETag가 일치하면 304, 아니면 body를 만들어 200
+     */
+    public <T> ResponseEntity<ApiResponse<T>> ok(String ifNoneMatch, String etag, boolean authenticated,
+                                                 Supplier<T> body) {
+        CacheControl cacheControl = authenticated
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.noCache().cachePublic();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.AUTHORIZATION)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(ApiResponse.success(body.get()));
+    }
+
+    /**
+     * 버전 값으로 표현하기 어려운 응답 (이미 만든 본문의 직렬화 결과로 ETag 생성, 전송/파싱만 줄임)
+     */
+    public <T> ResponseEntity<ApiResponse<T>> ok(String ifNoneMatch, boolean authenticated, T body) {
+        return ok(ifNoneMatch, contentEtag(body), authenticated, () -> body);
+    }
+
+    private String contentEtag(Object body) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ETag 계산 실패", e);
+        }
+    }
+
+    // If-None-Match 비교 (GET은 약한 비교: W/ 접두사 무시)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
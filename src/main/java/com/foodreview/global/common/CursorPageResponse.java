@@ -0,0 +1,67 @@
+package com.foodreview.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (무한 스크롤용)
+ *
+ * PageResponse와 달리 COUNT 쿼리와 OFFSET 스캔 없이 size + 1건만 조회해 다음 페이지 여부를 판단한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * size + 1건 조회 결과로 응답 생성
+     * - nextCursor는 필터링 전 마지막 행 기준으로 생성 (차단 등으로 content가 줄어도 커서가 밀리지 않도록)
+     */
+    public static <T, E> CursorPageResponse<T> of(List<E> rows, int size,
+                                                 Function<E, PageCursor> cursorExtractor,
+                                                 Function<List<E>, List<T>> converter) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return CursorPageResponse.<T>builder()
+                .content(converter.apply(pageRows))
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public static <T> CursorPageResponse<T> empty(int size) {
+        return CursorPageResponse.<T>builder()
+                .content(Collections.emptyList())
+                .size(size)
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
+    }
+
+    // 요청 size 보정 (1 ~ MAX_SIZE)
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // 다음 페이지 판단을 위해 1건 더 조회하는 LIMIT (OFFSET 0)
+    public static Pageable fetchLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+}
@@ -0,0 +1,8 @@
+package com.foodreview.global.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔티티 묶음의 버전 (행 수 + 최종 수정 시각, ETag 계산용)
+ */
+public record EntityVersion(Long count, LocalDateTime lastModifiedAt) {}
@@ -0,0 +1,78 @@
+package com.foodreview.global.common;
+
+import com.foodreview.global.exception.CustomException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 커서 (createdAt, id)
+ *
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 내부 구조는 노출하지 않는다.
+ * 첫 페이지는 커서 없이 요청하고 응답의 nextCursor를 그대로 다음 요청에 넘긴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0, 0);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    // 최신순 목록의 첫 페이지 커서 (모든 행보다 뒤)
+    public static PageCursor latest() {
+        return new PageCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    // 오래된순 목록의 첫 페이지 커서 (모든 행보다 앞)
+    public static PageCursor earliest() {
+        return new PageCursor(MIN_CREATED_AT, 0L);
+    }
+
+    // 최신순 목록용: 커서가 없으면 첫 페이지
+    public static PageCursor decodeOrLatest(String cursor) {
+        return cursor == null || cursor.isBlank() ? latest() : decode(cursor);
+    }
+
+    // 오래된순 목록용: 커서가 없으면 첫 페이지
+    public static PageCursor decodeOrEarliest(String cursor) {
+        return cursor == null || cursor.isBlank() ? earliest() : decode(cursor);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw invalidCursor();
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+            return new PageCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static CustomException invalidCursor() {
+        return new CustomException("잘못된 커서입니다", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+    }
+}
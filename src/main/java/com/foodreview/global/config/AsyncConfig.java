@@ -0,0 +1,47 @@
+package com.foodreview.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ *
+ * 도메인 이벤트 핸들러(점수, 알림, 배지)는 커밋 이후 이 풀에서 처리한다.
+ * 큐가 가득 차면 이벤트를 버리지 않고 발행한 스레드에서 직접 처리해 유입 속도를 늦춘다.
+ * 이 풀을 등록하면 Boot 기본 실행기(applicationTaskExecutor)가 만들어지지 않으므로,
+ * 이름을 지정하지 않은 @Async 메서드(알림 발송 등)도 AsyncConfigurer로 이 풀을 사용하게 한다.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+
+    private static final int CORE_POOL_SIZE = 4;
+    private static final int MAX_POOL_SIZE = 8;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CORE_POOL_SIZE);
+        executor.setMaxPoolSize(MAX_POOL_SIZE);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 대기 중인 이벤트 처리 후 종료
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 이름을 지정하지 않은 @Async 기본 실행기
+    @Override
+    public Executor getAsyncExecutor() {
+        return domainEventExecutor();
+    }
+}
@@ -0,0 +1,52 @@
+package com.foodreview.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 설정
+ *
+ * 기본 스케줄러는 스레드가 하나라 재구성/보정 작업이 도는 동안 다른 작업이 모두 밀린다.
+ * 일반 작업(재구성, 보정, 정리)은 taskScheduler 풀에서, 1초 주기 반영 작업(카운터, 점수 원장)은
+ * 전용 스케줄러에서 실행해 오래 걸리는 작업 뒤에서 메모리에 쌓인 증감이 기다리지 않게 한다.
+ * 주간 점수 재계산 배치는 실행 내내 스레드를 점유하므로 별도 스케줄러에서 실행한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String FLUSH_SCHEDULER = "flushScheduler";
+    public static final String BATCH_SCHEDULER = "batchScheduler";
+
+    private static final int TASK_POOL_SIZE = 4;
+    private static final int FLUSH_POOL_SIZE = 2;
+    private static final int BATCH_POOL_SIZE = 1;
+
+    // 이름이 taskScheduler인 빈을 @Scheduled 기본 스케줄러로 사용
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return scheduler(TASK_POOL_SIZE, "scheduling-");
+    }
+
+    // 1초 주기 반영 작업 전용 (@Scheduled(scheduler = FLUSH_SCHEDULER))
+    @Bean(name = FLUSH_SCHEDULER)
+    public ThreadPoolTaskScheduler flushScheduler() {
+        return scheduler(FLUSH_POOL_SIZE, "flush-");
+    }
+
+    // 점수 재계산 배치 전용 (@Scheduled(scheduler = BATCH_SCHEDULER))
+    @Bean(name = BATCH_SCHEDULER)
+    public ThreadPoolTaskScheduler batchScheduler() {
+        return scheduler(BATCH_POOL_SIZE, "batch-");
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        // 종료 시 실행 중인 작업을 마친 뒤 종료
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
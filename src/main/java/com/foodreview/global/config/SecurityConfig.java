@@ -45,6 +45,8 @@ public class SecurityConfig {
                         // Public endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        // 관리자 API
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // 인증 필요한 음식점 엔드포인트 (permitAll 전에 선언)
                         .requestMatchers(HttpMethod.GET, "/api/restaurants/following-reviewed").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/restaurants/**").permitAll()
@@ -54,9 +56,13 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/users/me").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}/reviews").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/users/{userId}/reviews/cursor").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}/followings").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/users/{userId}/followings/cursor").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}/followers").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/users/{userId}/followers/cursor").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}/score-history").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/users/{userId}/score-history/cursor").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/ranking/**").permitAll()
                         // WebSocket endpoints
                         .requestMatchers("/ws/**").permitAll()
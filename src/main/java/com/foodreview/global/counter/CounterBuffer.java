@@ -0,0 +1,214 @@
+package com.foodreview.global.counter;
+
+import com.foodreview.global.util.TransactionUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카운터 증감 버퍼 (공감 수, 리뷰 수, 받은 공감 수)
+ *
+ * 엔티티 필드를 읽고-수정-저장하면 동시 요청에서 증감이 유실되고 같은 행 락에서 직렬화된다.
+ * 증감은 커밋 이후 대상별 LongAdder에 누적하고, 스케줄러가 주기적으로 모아
+ * "x = x + delta" UPDATE로 일괄 반영한다. 엔티티 로드 시 미반영 증감을 더해 보여준다.
+ *
+ * 꺼낸 증감(flush)마다 세대 번호를 붙이고, 반영 트랜잭션의 커밋 이후 커밋된 세대를 올린다.
+ * 조회 트랜잭션은 처음 엔티티를 읽을 때의 커밋된 세대를 고정하고, 그보다 뒤 세대의 증감만 더한다.
+ * 따라서 커밋 직후 시작한 조회는 DB 값에 증감이 중복되지 않고, 커밋 전에 시작한 조회(REPEATABLE READ 스냅샷)는
+ * 커밋된 증감을 계속 더해 값이 줄어들지 않는다. 커밋된 세대는 FLUSH_RETENTION_MILLIS 동안 보관한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterBuffer {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+    // 커밋된 증감 보관 기간 (이보다 오래 열린 조회 트랜잭션은 값이 덜 보일 수 있음)
+    private static final long FLUSH_RETENTION_MILLIS = 5 * 60 * 1000L;
+    private static final Object VIEW_GENERATION_KEY = new Object();
+
+    private final EntityManager entityManager;
+
+    private final Map<CounterType, Map<Long, LongAdder>> pending = createPendingMaps();
+    // 꺼낸 증감 (세대 오름차순, 반영 중이거나 커밋 후 보관 중)
+    private final ConcurrentLinkedDeque<Flush> flushes = new ConcurrentLinkedDeque<>();
+    private long lastGeneration;
+    private volatile long committedGeneration;
+
+    /**
+     * 증감 등록 (현재 트랜잭션 커밋 이후 누적)
+     */
+    public void add(CounterType type, Long id, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> accumulate(pending.get(type), id, delta));
+    }
+
+    /**
+     * 현재 조회에서 읽은 DB 값에 아직 포함되지 않은 증감
+     */
+    public long getPendingDelta(CounterType type, Long id) {
+        if (id == null) {
+            return 0;
+        }
+        LongAdder adder = pending.get(type).get(id);
+        long delta = adder != null ? adder.sum() : 0;
+
+        // 조회 시작 시점에 커밋되지 않았던 세대만 (최신 세대부터)
+        long viewGeneration = viewGeneration();
+        Iterator<Flush> iterator = flushes.descendingIterator();
+        while (iterator.hasNext()) {
+            Flush flush = iterator.next();
+            if (flush.generation <= viewGeneration) {
+                break;
+            }
+            Map<Long, Long> deltas = flush.deltas.get(type);
+            if (deltas != null) {
+                delta += deltas.getOrDefault(id, 0L);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * 누적된 증감을 꺼냄 (없으면 null, 커밋된 세대가 될 때까지 조회 값에는 계속 포함)
+     */
+    public synchronized Flush drain() {
+        Map<CounterType, Map<Long, Long>> drained = new EnumMap<>(CounterType.class);
+        for (Map.Entry<CounterType, Map<Long, LongAdder>> entry : pending.entrySet()) {
+            Map<Long, LongAdder> adders = entry.getValue();
+            Map<Long, Long> deltas = new HashMap<>();
+            adders.forEach((id, adder) -> {
+                long delta = adder.sumThenReset();
+                // 이번 주기에 증감이 없던 항목은 정리하고, 제거 직전에 더해진 값은 함께 가져감
+                if (delta == 0 && adders.remove(id, adder)) {
+                    delta = adder.sumThenReset();
+                }
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                }
+            });
+            if (!deltas.isEmpty()) {
+                drained.put(entry.getKey(), deltas);
+            }
+        }
+        if (drained.isEmpty()) {
+            return null;
+        }
+        Flush flush = new Flush(++lastGeneration, drained);
+        flushes.addLast(flush);
+        return flush;
+    }
+
+    /**
+     * 꺼낸 증감을 DB에 반영 (증감값이 같은 ID끼리 묶어 UPDATE, 커밋 이후 커밋된 세대로 표시)
+     */
+    @Transactional
+    public int write(Flush flush) {
+        int updated = 0;
+        for (Map.Entry<CounterType, Map<Long, Long>> entry : flush.deltas.entrySet()) {
+            Map<Long, List<Long>> idsByDelta = new HashMap<>();
+            entry.getValue().forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+
+            for (Map.Entry<Long, List<Long>> group : idsByDelta.entrySet()) {
+                List<Long> ids = group.getValue();
+                for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                    updated += entityManager.createQuery(entry.getKey().getUpdateQuery())
+                            .setParameter("delta", group.getKey().intValue())
+                            .setParameter("ids", ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())))
+                            .executeUpdate();
+                }
+            }
+        }
+        TransactionUtils.afterCommit(() -> markCommitted(flush));
+        return updated;
+    }
+
+    /**
+     * 반영 실패 시 꺼낸 증감을 버퍼로 되돌림
+     */
+    public void restore(Flush flush) {
+        flush.deltas.forEach((type, deltas) -> deltas.forEach((id, delta) -> accumulate(pending.get(type), id, delta)));
+        flushes.remove(flush);
+    }
+
+    private void markCommitted(Flush flush) {
+        long now = System.currentTimeMillis();
+        flush.committedAt = now;
+        committedGeneration = flush.generation;
+        // 보관 기간이 지난 커밋된 세대 정리
+        Flush oldest;
+        while ((oldest = flushes.peekFirst()) != null
+                && oldest.committedAt > 0 && oldest.committedAt < now - FLUSH_RETENTION_MILLIS) {
+            flushes.remove(oldest);
+        }
+    }
+
+    // 트랜잭션 안에서는 처음 조회한 시점의 커밋된 세대를 유지 (스냅샷과 같은 기준)
+    private long viewGeneration() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return committedGeneration;
+        }
+        Long bound = (Long) TransactionSynchronizationManager.getResource(VIEW_GENERATION_KEY);
+        if (bound != null) {
+            return bound;
+        }
+        long viewGeneration = committedGeneration;
+        TransactionSynchronizationManager.bindResource(VIEW_GENERATION_KEY, viewGeneration);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(VIEW_GENERATION_KEY);
+            }
+        });
+        return viewGeneration;
+    }
+
+    // 더한 직후 해당 LongAdder가 drain에서 정리됐다면 남은 값을 새 LongAdder로 옮김
+    private static void accumulate(Map<Long, LongAdder> adders, Long id, long delta) {
+        long remaining = delta;
+        while (remaining != 0) {
+            LongAdder adder = adders.computeIfAbsent(id, key -> new LongAdder());
+            adder.add(remaining);
+            if (adders.get(id) == adder) {
+                return;
+            }
+            remaining = adder.sumThenReset();
+        }
+    }
+
+    /**
+     * 한 번에 꺼낸 증감 (generation: 꺼낸 순서, committedAt: 반영 커밋 시각 - 0이면 반영 전)
+     */
+    public static class Flush {
+        private final long generation;
+        private final Map<CounterType, Map<Long, Long>> deltas;
+        private volatile long committedAt;
+
+        Flush(long generation, Map<CounterType, Map<Long, Long>> deltas) {
+            this.generation = generation;
+            this.deltas = deltas;
+        }
+    }
+
+    private static Map<CounterType, Map<Long, LongAdder>> createPendingMaps() {
+        Map<CounterType, Map<Long, LongAdder>> maps = new EnumMap<>(CounterType.class);
+        for (CounterType type : CounterType.values()) {
+            maps.put(type, new ConcurrentHashMap<>());
+        }
+        return maps;
+    }
+}
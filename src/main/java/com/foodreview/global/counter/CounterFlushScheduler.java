@@ -0,0 +1,46 @@
+package com.foodreview.global.counter;
+
+import com.foodreview.global.config.SchedulingConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 버퍼 반영 스케줄러
+ * - 1초마다 누적된 증감을 일괄 UPDATE (재구성/보정 작업에 밀리지 않도록 전용 스케줄러에서 실행)
+ * - 종료 시 남은 증감 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterFlushScheduler {
+
+    private final CounterBuffer counterBuffer;
+
+    @Scheduled(fixedDelay = 1000, scheduler = SchedulingConfig.FLUSH_SCHEDULER)
+    public void flushScheduled() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flush() {
+        CounterBuffer.Flush flush = counterBuffer.drain();
+        if (flush == null) {
+            return;
+        }
+        try {
+            int updated = counterBuffer.write(flush);
+            log.debug("Counter deltas flushed: rows={}", updated);
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            counterBuffer.restore(flush);
+            log.error("Counter flush failed", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.foodreview.global.counter;
+
+/**
+ * 버퍼링 카운터 종류와 일괄 반영 쿼리
+ * 같은 증감값을 가진 ID를 묶어 한 번의 UPDATE로 반영한다. (카운트는 0 아래로 내려가지 않음)
+ */
+public enum CounterType {
+
+    REVIEW_SYMPATHY("UPDATE Review r SET r.sympathyCount = " +
+            "CASE WHEN r.sympathyCount + :delta < 0 THEN 0 ELSE r.sympathyCount + :delta END " +
+            "WHERE r.id IN :ids"),
+    USER_REVIEW_COUNT("UPDATE User u SET u.reviewCount = " +
+            "CASE WHEN u.reviewCount + :delta < 0 THEN 0 ELSE u.reviewCount + :delta END " +
+            "WHERE u.id IN :ids"),
+    USER_RECEIVED_SYMPATHY("UPDATE User u SET u.receivedSympathyCount = " +
+            "CASE WHEN u.receivedSympathyCount + :delta < 0 THEN 0 ELSE u.receivedSympathyCount + :delta END " +
+            "WHERE u.id IN :ids");
+
+    private final String updateQuery;
+
+    CounterType(String updateQuery) {
+        this.updateQuery = updateQuery;
+    }
+
+    public String getUpdateQuery() {
+        return updateQuery;
+    }
+}
@@ -0,0 +1,40 @@
+package com.foodreview.global.counter;
+
+import com.foodreview.domain.review.entity.Review;
+import com.foodreview.domain.user.entity.User;
+import com.foodreview.domain.user.service.ScoreLedger;
+import jakarta.persistence.PostLoad;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 엔티티 로드 시 아직 반영되지 않은 카운터 증감(점수는 원장 기록 대기분)을 더해 보여주는 리스너
+ * 카운터 컬럼은 updatable = false 이므로 더한 값이 엔티티 저장으로 덮어써지지 않는다.
+ */
+public class PendingCounterListener {
+
+    // EntityManagerFactory 생성 시점에는 버퍼 빈이 아직 없으므로 지연 조회
+    private final ObjectProvider<CounterBuffer> counterBuffer;
+    private final ObjectProvider<ScoreLedger> scoreLedger;
+
+    public PendingCounterListener(ObjectProvider<CounterBuffer> counterBuffer, ObjectProvider<ScoreLedger> scoreLedger) {
+        this.counterBuffer = counterBuffer;
+        this.scoreLedger = scoreLedger;
+    }
+
+    @PostLoad
+    public void applyPendingCounters(Object entity) {
+        CounterBuffer buffer = counterBuffer.getIfAvailable();
+        ScoreLedger ledger = scoreLedger.getIfAvailable();
+        if (buffer == null || ledger == null) {
+            return;
+        }
+        if (entity instanceof Review review) {
+            review.applyPendingSympathy(buffer.getPendingDelta(CounterType.REVIEW_SYMPATHY, review.getId()));
+        } else if (entity instanceof User user) {
+            user.applyPendingCounters(
+                    ledger.getPendingPoints(user.getId()),
+                    buffer.getPendingDelta(CounterType.USER_REVIEW_COUNT, user.getId()),
+                    buffer.getPendingDelta(CounterType.USER_RECEIVED_SYMPATHY, user.getId()));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.foodreview.global.util;
+
+import java.text.Normalizer;
+
+/**
+ * 한글 검색어 정규화 / 자모 분해 유틸리티
+ *
+ * 검색 색인과 검색어를 같은 형태로 맞추기 위해 사용한다.
+ * - normalize: 조합형(NFD) 입력을 완성형으로 합치고 소문자화, 공백/기호 제거
+ * - toJamo: 완성형 음절을 호환 자모열로 분해 (겹받침/이중모음은 입력 순서대로 풀어씀)
+ *   "닭" -> ㄷㅏㄹㄱ 이므로 입력 중인 "닭"이 "달기"의 앞부분과 비교될 수 있다.
+ * - toChoseong: 음절을 초성으로 바꿈 ("김치찌개" -> ㄱㅊㅉㄱ, 초성 검색용)
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char JAMO_BEGIN = 'ㄱ';
+    private static final char JAMO_END = 'ㆎ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // JONG/JUNG 분해 결과와 같은 순서의 겹자모 낱자
+    private static final char[] JONG_COMPOUND = {
+            0, 0, 0, 'ㄳ', 0, 'ㄵ', 'ㄶ', 0, 0, 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 0, 0, 'ㅄ', 0,
+            0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final char[] JUNG_COMPOUND = {
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 'ㅘ',
+            'ㅙ', 'ㅚ', 0, 0, 'ㅝ', 'ㅞ', 'ㅟ', 0, 0, 'ㅢ', 0
+    };
+
+    private HangulUtils() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 검색용 정규화 (완성형 결합, 소문자, 문자/숫자만 유지)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    // 호환 자모 (ㄱ ~ ㆎ, 입력 중인 낱자)
+    public static boolean isJamo(char c) {
+        return c >= JAMO_BEGIN && c <= JAMO_END;
+    }
+
+    // 자음 낱자 (ㄱ ~ ㅎ, 겹자음 포함)
+    public static boolean isConsonant(char c) {
+        return c >= JAMO_BEGIN && c <= CONSONANT_END;
+    }
+
+    public static boolean isHangul(char c) {
+        return isSyllable(c) || isJamo(c);
+    }
+
+    public static boolean hasFinalConsonant(char c) {
+        return isSyllable(c) && (c - SYLLABLE_BEGIN) % JONG_COUNT != 0;
+    }
+
+    /**
+     * 받침을 뗀 음절 ("닭" -> "다", 음절이 아니면 그대로)
+     */
+    public static char withoutFinalConsonant(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return (char) (c - (c - SYLLABLE_BEGIN) % JONG_COUNT);
+    }
+
+    /**
+     * 자모 분해 (완성형 음절과 겹자모만 풀고 나머지 문자는 그대로)
+     */
+    public static String toJamo(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            appendJamo(sb, text.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 변환 (음절만 초성으로 바꾸고 나머지 문자는 그대로)
+     */
+    public static String toChoseong(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)] : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    public static void appendJamo(StringBuilder sb, char c) {
+        if (isSyllable(c)) {
+            int index = c - SYLLABLE_BEGIN;
+            sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                    .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                    .append(JONG[index % JONG_COUNT]);
+        } else if (isJamo(c)) {
+            sb.append(splitCompoundJamo(c));
+        } else {
+            sb.append(c);
+        }
+    }
+
+    // 겹받침/이중모음 낱자 분해 ("ㄺ" -> "ㄹㄱ")
+    private static String splitCompoundJamo(char c) {
+        for (int i = 0; i < JONG.length; i++) {
+            if (JONG[i].length() == 2 && JONG_COMPOUND[i] == c) {
+                return JONG[i];
+            }
+        }
+        for (int i = 0; i < JUNG.length; i++) {
+            if (JUNG[i].length() == 2 && JUNG_COMPOUND[i] == c) {
+                return JUNG[i];
+            }
+        }
+        return String.valueOf(c);
+    }
+}
@@ -0,0 +1,31 @@
+package com.foodreview.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ */
+public class TransactionUtils {
+
+    private TransactionUtils() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 실행 (트랜잭션이 없으면 즉시 실행)
+     * 롤백된 변경이 캐시 등 메모리 상태에 반영되지 않도록 할 때 사용
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.foodreview.domain.restaurant.service;
+
+import com.foodreview.domain.restaurant.entity.Restaurant;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 음식점 검색 벤치마크 (메모리 색인 vs LIKE 방식 전체 스캔)
+ * - 음식점 100,000개에서 검색어별 첫 페이지(20건) 조회 평균 시간과 전체 건수를 비교한다
+ * - 색인 시간은 후보 교집합 + 관련도 점수 계산/정렬을 포함한다
+ * - LIKE 방식은 이름/주소 부분 문자열 비교로 전체 음식점을 훑는 메모리 구현이므로
+ *   DB 조회(테이블 스캔 I/O, COUNT 쿼리, 엔티티 변환) 시간의 하한이다
+ */
+@Tag("benchmark")
+class RestaurantSearchBenchmark {
+
+    private static final int RESTAURANT_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 100;
+    private static final List<String> KEYWORDS = List.of("김치", "국밥", "카페", "강남", "서울", "파스타", "치킨", "떡볶");
+
+    private static final String[] MENUS = {"김치찌개", "국밥", "카페", "파스타", "치킨", "떡볶이", "돈까스", "초밥",
+            "냉면", "삼겹살", "마라탕", "베이커리", "칼국수", "족발", "순대"};
+    private static final String[] SUFFIXES = {"집", "나라", "하우스", "명가", "상회", "본점", "식당", ""};
+    private static final String[] OWNERS = {"할매", "엄마", "김씨네", "박가", "이모", "삼촌", ""};
+    private static final String[][] AREAS = {
+            {"서울", "강남구", "역삼동"}, {"서울", "마포구", "서교동"}, {"서울", "종로구", "관철동"},
+            {"부산", "해운대구", "우동"}, {"대구", "중구", "동성로"}, {"경기", "성남시", "정자동"}};
+
+    @Test
+    void compareIndexWithLikeScan() {
+        Random random = new Random(42);
+        List<RestaurantSearchIndex.Document> documents = new ArrayList<>(RESTAURANT_COUNT);
+        Restaurant.Category[] categories = Restaurant.Category.values();
+        for (long id = 1; id <= RESTAURANT_COUNT; id++) {
+            String[] area = AREAS[random.nextInt(AREAS.length)];
+            String name = OWNERS[random.nextInt(OWNERS.length)] + MENUS[random.nextInt(MENUS.length)]
+                    + SUFFIXES[random.nextInt(SUFFIXES.length)];
+            String address = area[0] + " " + area[1] + " " + area[2] + " " + (1 + random.nextInt(300)) + "번길 "
+                    + (1 + random.nextInt(50));
+            documents.add(new RestaurantSearchIndex.Document(id, name, address,
+                    categories[random.nextInt(categories.length)], area[0], area[1], area[2]));
+        }
+
+        RestaurantSearchIndex index = new RestaurantSearchIndex();
+        long buildStart = System.nanoTime();
+        documents.forEach(index::load);
+        index.completeLoading();
+        System.out.printf("Restaurant search benchmark (restaurants=%d, page=%d, build=%.1fms)%n",
+                RESTAURANT_COUNT, PAGE_SIZE, (System.nanoTime() - buildStart) / 1_000_000.0);
+
+        for (String keyword : KEYWORDS) {
+            Result indexed = measure(() -> index.search(keyword, null, null, null, null, 0, PAGE_SIZE).total());
+            Result like = measure(() -> likeScan(documents, keyword));
+            System.out.printf("  [%s] index=%.3fms (%d hits), like=%.3fms (%d hits)%n",
+                    keyword, indexed.averageMillis(), indexed.total(), like.averageMillis(), like.total());
+
+            // 색인은 정규화/입력 중 글자 비교로 LIKE보다 넓게 찾으므로 LIKE 결과 수 이상이어야 한다
+            assertThat(indexed.total()).isGreaterThanOrEqualTo(like.total());
+        }
+    }
+
+    // name LIKE %keyword% OR address LIKE %keyword% (최신 등록순 첫 페이지)
+    private static long likeScan(List<RestaurantSearchIndex.Document> documents, String keyword) {
+        List<RestaurantSearchIndex.Document> matched = new ArrayList<>();
+        for (RestaurantSearchIndex.Document document : documents) {
+            if (document.name().contains(keyword) || document.address().contains(keyword)) {
+                matched.add(document);
+            }
+        }
+        matched.stream()
+                .sorted(Comparator.comparingLong(RestaurantSearchIndex.Document::id).reversed())
+                .limit(PAGE_SIZE)
+                .toList();
+        return matched.size();
+    }
+
+    private static Result measure(Supplier<Long> search) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search.get();
+        }
+        long total = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            total = search.get();
+        }
+        double averageMillis = (System.nanoTime() - startTime) / 1_000_000.0 / ITERATIONS;
+        return new Result(averageMillis, total);
+    }
+
+    private record Result(double averageMillis, long total) {}
+}
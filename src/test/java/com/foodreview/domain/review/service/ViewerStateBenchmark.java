@@ -0,0 +1,155 @@
+package com.foodreview.domain.review.service;
+
+import com.foodreview.domain.review.repository.SympathyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 목록 공감 여부 확인 벤치마크 (전체 공감 이력 적재 vs 페이지 IN 조회)
+ * - 공감 10,000건인 조회자가 리뷰 20개 페이지를 볼 때 요청당 시간과 DB에서 읽는 행 수를 비교한다
+ * - 저장소는 메모리 구현이므로 시간은 행 전송/변환 비용을 제외한 하한이다
+ */
+@Tag("benchmark")
+class ViewerStateBenchmark {
+
+    private static final long VIEWER_ID = 1L;
+    private static final int SYMPATHY_COUNT = 10_000;
+    private static final int REVIEW_COUNT = 200_000;
+    private static final int PAGE_SIZE = 20;
+    // 캐시 적중 측정에 쓰는 페이지 수 (사용자당 캐시 상한 2,000건 이내)
+    private static final int CACHED_PAGE_COUNT = 50;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void comparePerPageLookupWithFullHistory() {
+        Random random = new Random(42);
+        List<Long> history = new ArrayList<>();
+        Set<Long> historySet = new HashSet<>();
+        while (historySet.size() < SYMPATHY_COUNT) {
+            long reviewId = 1 + random.nextInt(REVIEW_COUNT);
+            if (historySet.add(reviewId)) {
+                history.add(reviewId);
+            }
+        }
+        List<List<Long>> pages = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            List<Long> page = new ArrayList<>();
+            for (int j = 0; j < PAGE_SIZE; j++) {
+                page.add(1L + random.nextInt(REVIEW_COUNT));
+            }
+            pages.add(page);
+        }
+
+        Counters counters = new Counters();
+        SympathyRepository repository = repository(history, historySet, counters);
+
+        // 이전 방식: 조회자의 공감 리뷰 ID 전체를 읽어 Set 구성
+        Result fullHistory = measure(pages, counters, page -> {
+            Set<Long> sympathized = new HashSet<>(repository.findReviewIdsByUserId(VIEWER_ID));
+            Set<Long> result = new HashSet<>();
+            for (Long reviewId : page) {
+                if (sympathized.contains(reviewId)) {
+                    result.add(reviewId);
+                }
+            }
+            return result;
+        });
+
+        // 현재 방식: 페이지 리뷰만 IN 조회 (매번 새 서비스 - 캐시 없음)
+        Result perPage = measure(pages, counters,
+                page -> new ViewerStateService(repository).getSympathizedReviewIds(VIEWER_ID, page));
+
+        // 현재 방식: 같은 페이지 재조회 (캐시 적중)
+        List<List<Long>> cachedPages = pages.subList(0, CACHED_PAGE_COUNT);
+        ViewerStateService cached = new ViewerStateService(repository);
+        cachedPages.forEach(page -> cached.getSympathizedReviewIds(VIEWER_ID, page));
+        Result perPageCached = measure(cachedPages, counters, page -> cached.getSympathizedReviewIds(VIEWER_ID, page));
+
+        System.out.printf("Viewer state benchmark (sympathies=%d, page=%d)%n", SYMPATHY_COUNT, PAGE_SIZE);
+        print("full history", fullHistory);
+        print("per page", perPage);
+        print("per page (cached)", perPageCached);
+
+        for (List<Long> page : pages) {
+            Set<Long> expected = new HashSet<>(page);
+            expected.retainAll(historySet);
+            assertThat(new ViewerStateService(repository).getSympathizedReviewIds(VIEWER_ID, page)).isEqualTo(expected);
+        }
+        assertThat(perPage.rowsPerRequest()).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+    private static Result measure(List<List<Long>> pages, Counters counters, Function<List<Long>, Set<Long>> lookup) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            lookup.apply(pages.get(i % pages.size()));
+        }
+        counters.queries.set(0);
+        counters.rows.set(0);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            lookup.apply(pages.get(i % pages.size()));
+        }
+        double averageMicros = (System.nanoTime() - startTime) / 1_000.0 / ITERATIONS;
+        return new Result(averageMicros, (double) counters.queries.get() / ITERATIONS,
+                (double) counters.rows.get() / ITERATIONS);
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("  %-18s %10.2f us/request, %5.2f queries/request, %8.1f rows/request%n",
+                name, result.averageMicros(), result.queriesPerRequest(), result.rowsPerRequest());
+    }
+
+    // 조회자 한 명의 공감 이력만 가진 메모리 저장소 (쿼리/읽은 행 수 집계)
+    private static SympathyRepository repository(List<Long> history, Set<Long> historySet, Counters counters) {
+        return (SympathyRepository) Proxy.newProxyInstance(
+                SympathyRepository.class.getClassLoader(),
+                new Class<?>[]{SympathyRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findReviewIdsByUserId" -> {
+                        List<Long> rows = new ArrayList<>(history);
+                        counters.record(rows.size());
+                        yield rows;
+                    }
+                    case "findReviewIdsByUserIdAndReviewIdIn" -> {
+                        List<Long> rows = new ArrayList<>();
+                        for (Long reviewId : castIds(args[1])) {
+                            if (historySet.contains(reviewId)) {
+                                rows.add(reviewId);
+                            }
+                        }
+                        counters.record(rows.size());
+                        yield rows;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Long> castIds(Object ids) {
+        return (Collection<Long>) ids;
+    }
+
+    private static class Counters {
+        private final AtomicLong queries = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+
+        void record(int rowCount) {
+            queries.incrementAndGet();
+            rows.addAndGet(rowCount);
+        }
+    }
+
+    private record Result(double averageMicros, double queriesPerRequest, double rowsPerRequest) {}
+}
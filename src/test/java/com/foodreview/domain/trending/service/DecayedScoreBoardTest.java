@@ -0,0 +1,138 @@
+package com.foodreview.domain.trending.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 지수 감쇠 점수판 동작 테스트
+ * - 반감기 감쇠, 기준 시각 이동(rebase) 전후 점수 보존, 낮은 점수 정리, 지역 버킷별 상위 목록을 확인한다
+ */
+class DecayedScoreBoardTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long START = 1_700_000_000_000L;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void scoreHalvesEveryHalfLife() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 8.0, START);
+
+        assertThat(score(board, 1L, START)).isCloseTo(8.0, within(EPSILON));
+        assertThat(score(board, 1L, START + HOUR)).isCloseTo(4.0, within(EPSILON));
+        assertThat(score(board, 1L, START + 3 * HOUR)).isCloseTo(1.0, within(EPSILON));
+    }
+
+    @Test
+    void laterEventsCountMoreThanEarlierOnes() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 1.0, START);
+        board.add(1L, "서울", "강남구", 1.0, START + HOUR);
+        board.add(2L, "서울", "강남구", 1.5, START + HOUR);
+
+        assertThat(score(board, 1L, START + HOUR)).isCloseTo(1.5, within(EPSILON));
+        assertThat(score(board, 1L, START + 2 * HOUR)).isCloseTo(0.75, within(EPSILON));
+        assertThat(score(board, 2L, START + 2 * HOUR)).isCloseTo(0.75, within(EPSILON));
+    }
+
+    @Test
+    void rebaseKeepsScoresAndDecayContinues() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 16.0, START);
+        board.add(2L, "부산", "해운대구", 4.0, START + HOUR);
+
+        long rebaseAt = START + 2 * HOUR;
+        Map<Long, Double> before = scores(board, rebaseAt);
+        assertThat(board.rebase(rebaseAt, 0.05)).isEqualTo(0);
+        Map<Long, Double> after = scores(board, rebaseAt);
+
+        assertThat(after.get(1L)).isCloseTo(before.get(1L), within(EPSILON));
+        assertThat(after.get(2L)).isCloseTo(before.get(2L), within(EPSILON));
+        assertThat(score(board, 1L, rebaseAt + HOUR)).isCloseTo(2.0, within(EPSILON));
+
+        // 기준 시각 이후 가산도 같은 비율로 감쇠
+        board.add(2L, "부산", "해운대구", 2.0, rebaseAt + HOUR);
+        assertThat(score(board, 2L, rebaseAt + HOUR)).isCloseTo(3.0, within(EPSILON));
+    }
+
+    @Test
+    void rebasePrunesDecayedEntriesFromEveryBucket() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 1.0, START);
+        board.add(2L, "서울", "강남구", 100.0, START);
+
+        // 5시간 뒤 1.0 -> 0.03125 (정리), 100.0 -> 3.125
+        assertThat(board.rebase(START + 5 * HOUR, 0.05)).isEqualTo(1);
+
+        assertThat(board.size()).isEqualTo(1);
+        assertThat(ids(board.top(null, null, 10, START + 5 * HOUR))).containsExactly(2L);
+        assertThat(ids(board.top("서울", null, 10, START + 5 * HOUR))).containsExactly(2L);
+        assertThat(ids(board.top("서울", "강남구", 10, START + 5 * HOUR))).containsExactly(2L);
+        assertThat(board.export(START + 5 * HOUR)).hasSize(1);
+    }
+
+    @Test
+    void topUsesRegionAndDistrictBuckets() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 5.0, START);
+        board.add(2L, "서울", "마포구", 3.0, START);
+        board.add(3L, "부산", "해운대구", 4.0, START);
+        board.add(4L, null, null, 6.0, START);
+
+        assertThat(ids(board.top(null, null, 10, START))).containsExactly(4L, 1L, 3L, 2L);
+        assertThat(ids(board.top("서울", null, 10, START))).containsExactly(1L, 2L);
+        assertThat(ids(board.top("서울", "마포구", 10, START))).containsExactly(2L);
+        assertThat(ids(board.top("대구", null, 10, START))).isEmpty();
+        assertThat(ids(board.top(null, null, 2, START))).containsExactly(4L, 1L);
+        assertThat(ids(board.top(null, null, 0, START))).isEmpty();
+    }
+
+    @Test
+    void cancelledAndRemovedEntriesAreNotListed() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 1.0, START);
+        board.add(1L, "서울", "강남구", -1.0, START);
+        board.add(2L, "서울", "강남구", 2.0, START);
+        board.add(3L, "서울", "강남구", 3.0, START);
+
+        board.remove(3L);
+
+        assertThat(ids(board.top("서울", "강남구", 10, START))).containsExactly(2L);
+        assertThat(board.size()).isEqualTo(2);
+    }
+
+    @Test
+    void exportReportsCurrentScoresWithRegion() {
+        DecayedScoreBoard board = new DecayedScoreBoard(HOUR, START);
+        board.add(1L, "서울", "강남구", 8.0, START);
+
+        List<DecayedScoreBoard.ScoredEntry> exported = board.export(START + HOUR);
+
+        assertThat(exported).hasSize(1);
+        DecayedScoreBoard.ScoredEntry entry = exported.get(0);
+        assertThat(entry.id()).isEqualTo(1L);
+        assertThat(entry.region()).isEqualTo("서울");
+        assertThat(entry.district()).isEqualTo("강남구");
+        assertThat(entry.score()).isCloseTo(4.0, within(EPSILON));
+    }
+
+    private static double score(DecayedScoreBoard board, long id, long nowMillis) {
+        return scores(board, nowMillis).get(id);
+    }
+
+    private static Map<Long, Double> scores(DecayedScoreBoard board, long nowMillis) {
+        Map<Long, Double> scores = new HashMap<>();
+        board.top(null, null, 1_000, nowMillis).forEach(scored -> scores.put(scored.id(), scored.score()));
+        return scores;
+    }
+
+    private static List<Long> ids(List<DecayedScoreBoard.ScoredId> scored) {
+        return scored.stream().map(DecayedScoreBoard.ScoredId::id).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.foodreview.domain.user.service;
+
+import com.foodreview.domain.user.repository.FollowRepository;
+import com.foodreview.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 그래프 재구성 중 변경 반영 테스트
+ * - 적재 도중 커밋된 팔로우/언팔로우가 기존 그래프에 바로 반영되고, 교체된 새 그래프에도 남는지 확인한다
+ * - 트랜잭션이 없으므로 커밋 이후 반영은 호출 즉시 실행된다
+ */
+class FollowGraphServiceTest {
+
+    @Test
+    void changesDuringFirstBuildAreReplayedOntoNewGraph() {
+        List<Object[]> edges = List.of(edgeRow(1, 1L, 2L), edgeRow(2, 2L, 3L));
+        EdgeSource source = new EdgeSource(edges);
+        FollowGraphService service = new FollowGraphService(source.repository(), userRepository());
+        // 적재한 행(1 -> 2)이 읽힌 뒤 언팔로우, 적재에 없는 팔로우 추가
+        source.duringLoad = () -> {
+            service.onUnfollow(1L, 2L);
+            service.onFollow(3L, 1L);
+        };
+
+        service.rebuild();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(service.getFollowingIds(1L)).isEmpty();
+        assertThat(service.getFollowingIds(2L)).containsExactly(3L);
+        assertThat(service.getFollowingIds(3L)).containsExactly(1L);
+    }
+
+    @Test
+    void changesDuringRebuildReachBothCurrentAndNewGraph() {
+        List<Object[]> edges = new ArrayList<>(List.of(edgeRow(1, 1L, 2L), edgeRow(2, 1L, 3L)));
+        EdgeSource source = new EdgeSource(edges);
+        FollowGraphService service = new FollowGraphService(source.repository(), userRepository());
+        service.rebuild();
+
+        List<List<Long>> seenDuringLoad = new ArrayList<>();
+        source.duringLoad = () -> {
+            service.onFollow(1L, 4L);
+            service.onUnfollow(1L, 3L);
+            // 재구성 중에도 기존 그래프에서 바로 보임
+            seenDuringLoad.add(service.getFollowingIds(1L));
+        };
+        service.rebuild();
+
+        assertThat(seenDuringLoad).containsExactly(List.of(2L, 4L));
+        assertThat(service.getFollowingIds(1L)).containsExactly(2L, 4L);
+
+        // 재구성이 끝난 뒤의 변경은 교체된 그래프에 바로 반영
+        source.duringLoad = null;
+        service.onFollow(2L, 1L);
+        assertThat(service.getFollowingIds(2L)).containsExactly(1L);
+    }
+
+    @Test
+    void userRemovedDuringRebuildHasNoEdgesAfterwards() {
+        List<Object[]> edges = List.of(edgeRow(1, 1L, 2L), edgeRow(2, 2L, 1L), edgeRow(3, 3L, 2L));
+        EdgeSource source = new EdgeSource(edges);
+        FollowGraphService service = new FollowGraphService(source.repository(), userRepository());
+        source.duringLoad = () -> service.onUserRemoved(2L);
+
+        service.rebuild();
+
+        assertThat(service.getFollowingIds(1L)).isEmpty();
+        assertThat(service.getFollowingIds(2L)).isEmpty();
+        assertThat(service.getFollowingIds(3L)).isEmpty();
+    }
+
+    private static Object[] edgeRow(long id, long followerId, long followingId) {
+        return new Object[]{id, followerId, followingId};
+    }
+
+    private static UserRepository userRepository() {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // findEdges만 응답하는 저장소 (첫 청크를 읽은 뒤 duringLoad 실행)
+    private static class EdgeSource {
+        private final List<Object[]> edges;
+        private Runnable duringLoad;
+
+        EdgeSource(List<Object[]> edges) {
+            this.edges = edges;
+        }
+
+        FollowRepository repository() {
+            return (FollowRepository) Proxy.newProxyInstance(FollowRepository.class.getClassLoader(),
+                    new Class<?>[]{FollowRepository.class}, (proxy, method, args) -> {
+                        if (!method.getName().equals("findEdges")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        long afterId = (Long) args[0];
+                        List<Object[]> rows = edges.stream().filter(row -> (Long) row[0] > afterId).toList();
+                        if (duringLoad != null && afterId == 0) {
+                            duringLoad.run();
+                        }
+                        return rows;
+                    });
+        }
+    }
+}
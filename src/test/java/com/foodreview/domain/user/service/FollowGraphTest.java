@@ -0,0 +1,194 @@
+package com.foodreview.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 그래프 (CSR + 적재 이후 변경 배열) 동작 테스트
+ * - 적재한 관계 위에 팔로우/언팔로우/탈퇴를 반영한 결과를 간선 집합 기준 결과와 비교한다
+ */
+class FollowGraphTest {
+
+    @Test
+    void followAndUnfollowOverrideLoadedAdjacency() {
+        FollowGraph graph = new FollowGraph.Builder()
+                .add(1L, 2L)
+                .add(1L, 3L)
+                .add(2L, 3L)
+                .build();
+
+        assertThat(graph.follow(1L, 2L)).isFalse();
+        assertThat(graph.unfollow(3L, 1L)).isFalse();
+
+        assertThat(graph.unfollow(1L, 2L)).isTrue();
+        assertThat(graph.follow(3L, 1L)).isTrue();
+
+        assertThat(graph.isFollowing(1L, 2L)).isFalse();
+        assertThat(graph.isFollowing(3L, 1L)).isTrue();
+        assertThat(graph.followingIds(1L)).containsExactly(3L);
+        assertThat(graph.followingCount(1L)).isEqualTo(1);
+        assertThat(graph.followerCount(1L)).isEqualTo(1);
+        assertThat(graph.followerCount(2L)).isEqualTo(0);
+        assertThat(graph.followerCount(3L)).isEqualTo(2);
+    }
+
+    @Test
+    void followAddsUsersMissingFromTheLoadedGraph() {
+        FollowGraph graph = new FollowGraph.Builder().add(1L, 2L).build();
+
+        assertThat(graph.follow(100L, 1L)).isTrue();
+        assertThat(graph.follow(100L, 200L)).isTrue();
+
+        assertThat(graph.isFollowing(100L, 1L)).isTrue();
+        assertThat(graph.followingIds(100L)).containsExactlyInAnyOrder(1L, 200L);
+        assertThat(graph.followerCount(200L)).isEqualTo(1);
+        assertThat(graph.countMutual(100L, 2L)).isEqualTo(1);
+    }
+
+    @Test
+    void emptyGraphAnswersWithoutRelations() {
+        FollowGraph graph = FollowGraph.empty();
+
+        assertThat(graph.isFollowing(1L, 2L)).isFalse();
+        assertThat(graph.followingIds(1L)).isEmpty();
+        assertThat(graph.secondDegree(1L)).isEmpty();
+        assertThat(graph.relation(1L, 2L, 5)).isEqualTo(FollowGraph.Relation.NONE);
+    }
+
+    @Test
+    void removeUserDropsBothDirections() {
+        FollowGraph graph = new FollowGraph.Builder()
+                .add(1L, 2L)
+                .add(2L, 1L)
+                .add(2L, 3L)
+                .add(3L, 2L)
+                .build();
+
+        graph.removeUser(2L);
+
+        assertThat(graph.followingIds(2L)).isEmpty();
+        assertThat(graph.followerCount(2L)).isEqualTo(0);
+        assertThat(graph.followingIds(1L)).isEmpty();
+        assertThat(graph.followingIds(3L)).isEmpty();
+        assertThat(graph.followerCount(1L)).isEqualTo(0);
+    }
+
+    @Test
+    void relationCountsMutualFollowsUpToLimit() {
+        FollowGraph.Builder builder = new FollowGraph.Builder().add(1L, 100L).add(100L, 1L);
+        // 1이 팔로우하는 10..19 모두 100을 팔로우
+        for (long id = 10; id < 20; id++) {
+            builder.add(1L, id).add(id, 100L);
+        }
+        FollowGraph graph = builder.build();
+
+        assertThat(graph.relation(1L, 100L, Integer.MAX_VALUE))
+                .isEqualTo(new FollowGraph.Relation(true, true, 10));
+        assertThat(graph.relation(1L, 100L, 5)).isEqualTo(new FollowGraph.Relation(true, true, 5));
+        assertThat(graph.mutualIds(1L, 100L, 3)).hasSize(3);
+    }
+
+    @Test
+    void secondDegreeExcludesSelfAndFollowedUsers() {
+        FollowGraph graph = new FollowGraph.Builder()
+                .add(1L, 2L)
+                .add(1L, 3L)
+                .add(2L, 4L)
+                .add(3L, 4L)
+                .add(2L, 5L)
+                .add(2L, 1L)
+                .add(3L, 2L)
+                .build();
+
+        assertThat(graph.secondDegree(1L)).containsExactly(
+                new FollowGraph.Connection(4L, 2),
+                new FollowGraph.Connection(5L, 1));
+    }
+
+    @Test
+    void matchesEdgeSetAfterRandomChanges() {
+        Random random = new Random(7);
+        int users = 120;
+        Set<Long> edges = new HashSet<>();
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        for (int i = 0; i < 2_500; i++) {
+            long follower = 1 + random.nextInt(users);
+            long following = 1 + random.nextInt(users);
+            if (follower != following && edges.add(edge(follower, following))) {
+                builder.add(follower, following);
+            }
+        }
+        FollowGraph graph = builder.build();
+
+        // 적재 이후 변경 (적재에 없던 사용자 포함)
+        for (int i = 0; i < 3_000; i++) {
+            long follower = 1 + random.nextInt(users + 30);
+            long following = 1 + random.nextInt(users + 30);
+            if (follower == following) {
+                continue;
+            }
+            if (random.nextBoolean()) {
+                assertThat(graph.follow(follower, following)).isEqualTo(edges.add(edge(follower, following)));
+            } else {
+                assertThat(graph.unfollow(follower, following)).isEqualTo(edges.remove(edge(follower, following)));
+            }
+            if (random.nextInt(500) == 0) {
+                long removed = 1 + random.nextInt(users + 30);
+                graph.removeUser(removed);
+                edges.removeIf(edge -> edge / 1_000 == removed || edge % 1_000 == removed);
+            }
+        }
+
+        for (long user = 1; user <= users + 30; user++) {
+            List<Long> followings = new ArrayList<>();
+            long followers = 0;
+            for (long edge : edges) {
+                if (edge / 1_000 == user) {
+                    followings.add(edge % 1_000);
+                }
+                if (edge % 1_000 == user) {
+                    followers++;
+                }
+            }
+            assertThat(new HashSet<>(graph.followingIds(user))).isEqualTo(new HashSet<>(followings));
+            assertThat((long) graph.followerCount(user)).isEqualTo(followers);
+
+            Map<Long, Integer> secondDegree = new HashMap<>();
+            for (long following : followings) {
+                for (long edge : edges) {
+                    long candidate = edge % 1_000;
+                    if (edge / 1_000 == following && candidate != user && !followings.contains(candidate)) {
+                        secondDegree.merge(candidate, 1, Integer::sum);
+                    }
+                }
+            }
+            Map<Long, Integer> actual = new HashMap<>();
+            graph.secondDegree(user).forEach(connection -> actual.put(connection.userId(), connection.mutualCount()));
+            assertThat(actual).isEqualTo(secondDegree);
+
+            for (long target = 1; target <= users + 30; target++) {
+                int mutual = 0;
+                for (long following : followings) {
+                    if (edges.contains(edge(following, target))) {
+                        mutual++;
+                    }
+                }
+                assertThat(graph.countMutual(user, target)).isEqualTo(mutual);
+                assertThat(graph.isFollowing(user, target)).isEqualTo(edges.contains(edge(user, target)));
+            }
+        }
+    }
+
+    private static long edge(long follower, long following) {
+        return follower * 1_000 + following;
+    }
+}
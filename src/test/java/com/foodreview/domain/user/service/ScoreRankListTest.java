@@ -0,0 +1,145 @@
+package com.foodreview.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점수 순위 목록 (span 기록 skip list) 동작 테스트
+ * - 추가/삭제 후 순위 목록, 동점 처리, countAbove, range 구간을 정렬 집합 기준 결과와 비교한다
+ */
+class ScoreRankListTest {
+
+    // 점수 내림차순, 같은 점수는 사용자 ID 오름차순 (ScoreRankList 정렬 순서)
+    private static final Comparator<long[]> ORDER = Comparator.<long[]>comparingLong(entry -> -entry[0])
+            .thenComparingLong(entry -> entry[1]);
+
+    @Test
+    void rangeListsEntriesByScoreDescendingThenUserIdAscending() {
+        ScoreRankList list = new ScoreRankList();
+        list.insert(100, 3L);
+        list.insert(300, 1L);
+        list.insert(100, 2L);
+        list.insert(200, 4L);
+
+        List<ScoreRankList.Ranked> ranked = list.range(0, 10);
+
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(ranked).containsExactly(
+                new ScoreRankList.Ranked(1L, 300, 1),
+                new ScoreRankList.Ranked(4L, 200, 2),
+                new ScoreRankList.Ranked(2L, 100, 3),
+                new ScoreRankList.Ranked(3L, 100, 4));
+    }
+
+    @Test
+    void countAboveGivesTiedScoresTheSameRank() {
+        ScoreRankList list = new ScoreRankList();
+        list.insert(300, 1L);
+        list.insert(200, 2L);
+        list.insert(200, 3L);
+        list.insert(100, 4L);
+
+        assertThat(list.countAbove(300)).isEqualTo(0);
+        assertThat(list.countAbove(200)).isEqualTo(1);
+        assertThat(list.countAbove(100)).isEqualTo(3);
+        assertThat(list.countAbove(150)).isEqualTo(3);
+        assertThat(list.countAbove(0)).isEqualTo(4);
+    }
+
+    @Test
+    void removeOnlyDeletesMatchingScoreAndUser() {
+        ScoreRankList list = new ScoreRankList();
+        list.insert(300, 1L);
+        list.insert(200, 2L);
+        list.insert(100, 3L);
+
+        // 점수가 다르면 같은 사용자라도 삭제하지 않음 (점수 변경은 이전 점수로 삭제 후 추가)
+        assertThat(list.remove(250, 2L)).isFalse();
+        assertThat(list.remove(200, 9L)).isFalse();
+        assertThat(list.remove(200, 2L)).isTrue();
+        assertThat(list.remove(200, 2L)).isFalse();
+
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.range(0, 10)).containsExactly(
+                new ScoreRankList.Ranked(1L, 300, 1),
+                new ScoreRankList.Ranked(3L, 100, 2));
+        assertThat(list.countAbove(100)).isEqualTo(1);
+    }
+
+    @Test
+    void rangeOutsideListIsEmpty() {
+        ScoreRankList list = new ScoreRankList();
+        assertThat(list.range(0, 10)).isEmpty();
+
+        list.insert(100, 1L);
+        assertThat(list.range(1, 10)).isEmpty();
+        assertThat(list.range(-1, 10)).isEmpty();
+        assertThat(list.range(0, 0)).isEmpty();
+    }
+
+    @Test
+    void matchesSortedSetAfterRandomInsertsAndRemoves() {
+        Random random = new Random(42);
+        ScoreRankList list = new ScoreRankList();
+        TreeSet<long[]> expected = new TreeSet<>(ORDER);
+        List<long[]> present = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            if (present.isEmpty() || random.nextInt(3) > 0) {
+                long[] entry = {random.nextInt(500), random.nextInt(5_000)};
+                if (expected.add(entry)) {
+                    list.insert((int) entry[0], entry[1]);
+                    present.add(entry);
+                }
+            } else {
+                long[] entry = present.remove(random.nextInt(present.size()));
+                expected.remove(entry);
+                assertThat(list.remove((int) entry[0], entry[1])).isTrue();
+            }
+
+            if (i % 500 == 0) {
+                assertMatches(list, expected, random);
+            }
+        }
+        assertMatches(list, expected, random);
+    }
+
+    private static void assertMatches(ScoreRankList list, TreeSet<long[]> expected, Random random) {
+        List<long[]> sorted = new ArrayList<>(expected);
+        assertThat(list.size()).isEqualTo(sorted.size());
+
+        // 전체 목록
+        List<ScoreRankList.Ranked> all = list.range(0, sorted.size());
+        assertThat(all.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(all.get(i)).isEqualTo(
+                    new ScoreRankList.Ranked(sorted.get(i)[1], (int) sorted.get(i)[0], i + 1));
+        }
+
+        // 임의 구간
+        for (int i = 0; i < 20 && !sorted.isEmpty(); i++) {
+            int offset = random.nextInt(sorted.size());
+            int limit = 1 + random.nextInt(50);
+            List<ScoreRankList.Ranked> page = list.range(offset, limit);
+            assertThat(page.size()).isEqualTo(Math.min(limit, sorted.size() - offset));
+            for (int j = 0; j < page.size(); j++) {
+                long[] entry = sorted.get(offset + j);
+                assertThat(page.get(j)).isEqualTo(new ScoreRankList.Ranked(entry[1], (int) entry[0], offset + j + 1));
+            }
+        }
+
+        // 점수별 상위 항목 수
+        for (int score = -1; score <= 500; score += 7) {
+            int threshold = score;
+            long above = sorted.stream().filter(entry -> entry[0] > threshold).count();
+            assertThat((long) list.countAbove(score)).isEqualTo(above);
+        }
+    }
+}